@@ -15,37 +15,24 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.shardingjdbc.jdbc.adapter.invocation;
+package org.apache.shardingsphere.spi.encrypt;
 
-import lombok.Getter;
-
-import java.lang.reflect.Method;
+import java.util.List;
 
 /**
- * Invocation that reflected call for {@code PreparedStatement.setParameter} method.
+ * Sharding batch encryptor.
+ * 
+ * <p>Encryptor which can encrypt values of a whole column at once.</p>
  * 
- * @author zhangliang
+ * @author agent
  */
-public final class SetParameterMethodInvocation extends JdbcMethodInvocation {
-    
-    @Getter
-    private final int index;
-    
-    @Getter
-    private final Object value;
-    
-    public SetParameterMethodInvocation(final Method method, final Object[] arguments, final Object value) {
-        super(method, arguments);
-        this.index = (int) arguments[0];
-        this.value = value;
-    }
+public interface ShardingBatchEncryptor extends ShardingEncryptor {
     
     /**
-     * Set argument.
+     * Batch encode.
      * 
-     * @param value argument value
+     * @param plaintexts plaintexts
+     * @return ciphertexts in the same order of plaintexts
      */
-    public void changeValueArgument(final Object value) {
-        getArguments()[1] = value;
-    }
+    List<String> batchEncrypt(List<?> plaintexts);
 }
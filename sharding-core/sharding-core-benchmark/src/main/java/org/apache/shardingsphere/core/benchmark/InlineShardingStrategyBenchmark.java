@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.benchmark;
+
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.benchmark.fixture.BenchmarkShardingEnvironment;
+import org.apache.shardingsphere.core.strategy.route.inline.InlineShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for inline sharding strategy, compares compiled expression with groovy closure.
+ * 
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InlineShardingStrategyBenchmark {
+    
+    @Param({"t_order_${order_id % 16}", "t_order_${(order_id % 16)}"})
+    private String algorithmExpression;
+    
+    @Param({"1", "1000"})
+    private int shardingValueCount;
+    
+    private InlineShardingStrategy shardingStrategy;
+    
+    private Collection<String> availableTargetNames;
+    
+    private Collection<RouteValue> shardingValues;
+    
+    @Setup
+    public void setUp() {
+        shardingStrategy = new InlineShardingStrategy(new InlineShardingStrategyConfiguration("order_id", algorithmExpression));
+        availableTargetNames = new ArrayList<>(BenchmarkShardingEnvironment.TABLE_COUNT_PER_DATA_SOURCE);
+        for (int i = 0; i < BenchmarkShardingEnvironment.TABLE_COUNT_PER_DATA_SOURCE; i++) {
+            availableTargetNames.add("t_order_" + i);
+        }
+        Collection<Comparable<?>> values = new ArrayList<>(shardingValueCount);
+        for (Object each : BenchmarkShardingEnvironment.createParameters(shardingValueCount)) {
+            values.add((Comparable<?>) each);
+        }
+        shardingValues = Collections.<RouteValue>singletonList(new ListRouteValue<>("order_id", "t_order", values));
+    }
+    
+    @Benchmark
+    public Collection<String> doSharding() {
+        return shardingStrategy.doSharding(availableTargetNames, shardingValues);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.benchmark;
+
+import org.apache.shardingsphere.core.benchmark.fixture.BenchmarkQueryResult;
+import org.apache.shardingsphere.core.benchmark.fixture.BenchmarkShardingEnvironment;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.router.sharding.ParsingSQLRouter;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for DQL merge engine over in-memory query results.
+ * 
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MergeBenchmark {
+    
+    @Param({"ORDER_BY", "GROUP_BY_STREAM", "GROUP_BY_MEMORY", "LIMIT"})
+    private String mergeType;
+    
+    @Param({"16", "128"})
+    private int queryResultCount;
+    
+    @Param({"1000"})
+    private int rowCountPerQueryResult;
+    
+    private DatabaseType databaseType;
+    
+    private SQLRouteResult sqlRouteResult;
+    
+    private List<String> columnLabels;
+    
+    private List<Object[][]> rows;
+    
+    @Setup
+    public void setUp() {
+        databaseType = DatabaseTypes.getActualDatabaseType("MySQL");
+        ShardingRule shardingRule = BenchmarkShardingEnvironment.createShardingRule();
+        ParsingSQLRouter router = new ParsingSQLRouter(shardingRule, BenchmarkShardingEnvironment.createShardingMetaData(shardingRule), new SQLParseEngine(databaseType));
+        String sql = getSQL();
+        sqlRouteResult = router.route(sql, Collections.emptyList(), router.parse(sql, false));
+        columnLabels = "ORDER_BY".equals(mergeType) || "LIMIT".equals(mergeType) ? Arrays.asList("order_id", "user_id", "status") : Arrays.asList("user_id", "order_count");
+        rows = new ArrayList<>(queryResultCount);
+        for (int i = 0; i < queryResultCount; i++) {
+            rows.add(createRows(i));
+        }
+    }
+    
+    private String getSQL() {
+        switch (mergeType) {
+            case "ORDER_BY":
+                return "SELECT order_id, user_id, status FROM t_order ORDER BY order_id";
+            case "GROUP_BY_STREAM":
+                return "SELECT user_id, COUNT(order_id) AS order_count FROM t_order GROUP BY user_id ORDER BY user_id";
+            case "GROUP_BY_MEMORY":
+                return "SELECT user_id, COUNT(order_id) AS order_count FROM t_order GROUP BY user_id ORDER BY order_count DESC";
+            case "LIMIT":
+                return "SELECT order_id, user_id, status FROM t_order ORDER BY order_id LIMIT 10";
+            default:
+                throw new UnsupportedOperationException(mergeType);
+        }
+    }
+    
+    private Object[][] createRows(final int queryResultIndex) {
+        Object[][] result = new Object[rowCountPerQueryResult][];
+        for (int i = 0; i < rowCountPerQueryResult; i++) {
+            long orderId = (long) i * queryResultCount + queryResultIndex;
+            result[i] = "ORDER_BY".equals(mergeType) || "LIMIT".equals(mergeType) ? new Object[] {orderId, i, "init"} : new Object[] {i, (long) queryResultIndex};
+        }
+        return result;
+    }
+    
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(queryResultCount);
+        for (Object[][] each : rows) {
+            queryResults.add(new BenchmarkQueryResult(columnLabels, each));
+        }
+        MergedResult mergedResult = new DQLMergeEngine(databaseType, sqlRouteResult, queryResults).merge();
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.benchmark;
+
+import org.apache.shardingsphere.core.benchmark.fixture.BenchmarkShardingEnvironment;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.optimize.api.statement.OptimizedStatement;
+import org.apache.shardingsphere.core.optimize.sharding.ShardingOptimizeEngineFactory;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for sharding optimize engines.
+ * 
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptimizeBenchmark {
+    
+    @Param({"1", "100"})
+    private int shardingValueCount;
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingMetaData shardingMetaData;
+    
+    private String selectSQL;
+    
+    private SQLStatement selectStatement;
+    
+    private String insertSQL;
+    
+    private SQLStatement insertStatement;
+    
+    private List<Object> parameters;
+    
+    @Setup
+    public void setUp() {
+        shardingRule = BenchmarkShardingEnvironment.createShardingRule();
+        shardingMetaData = BenchmarkShardingEnvironment.createShardingMetaData(shardingRule);
+        SQLParseEngine parseEngine = new SQLParseEngine(DatabaseTypes.getActualDatabaseType("MySQL"));
+        selectSQL = "SELECT order_id, user_id, status FROM t_order WHERE order_id IN (" + BenchmarkShardingEnvironment.createPlaceHolders(shardingValueCount) + ")";
+        selectStatement = parseEngine.parse(selectSQL, false);
+        StringBuilder insertSQL = new StringBuilder("INSERT INTO t_order (order_id, user_id, status) VALUES ");
+        for (int i = 0; i < shardingValueCount; i++) {
+            insertSQL.append(0 == i ? "" : ", ").append("(?, ?, 'init')");
+        }
+        this.insertSQL = insertSQL.toString();
+        insertStatement = parseEngine.parse(this.insertSQL, false);
+        parameters = BenchmarkShardingEnvironment.createParameters(shardingValueCount * 2);
+    }
+    
+    @Benchmark
+    public OptimizedStatement optimizeSelect() {
+        return optimize(selectSQL, selectStatement, parameters.subList(0, shardingValueCount));
+    }
+    
+    @Benchmark
+    public OptimizedStatement optimizeInsert() {
+        return optimize(insertSQL, insertStatement, parameters);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private OptimizedStatement optimize(final String sql, final SQLStatement sqlStatement, final List<Object> parameters) {
+        return ShardingOptimizeEngineFactory.newInstance(sqlStatement).optimize(shardingRule, shardingMetaData.getTable(), sql, parameters, sqlStatement);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.benchmark;
+
+import org.apache.shardingsphere.core.benchmark.fixture.BenchmarkShardingEnvironment;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.SQLUnit;
+import org.apache.shardingsphere.core.route.router.sharding.ParsingSQLRouter;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for SQL rewrite engine.
+ * 
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RewriteBenchmark {
+    
+    @Param({"1", "100", "1000"})
+    private int shardingValueCount;
+    
+    private ShardingRule shardingRule;
+    
+    private String sql;
+    
+    private List<Object> parameters;
+    
+    private SQLRouteResult sqlRouteResult;
+    
+    private List<Map<String, String>> logicAndActualTables;
+    
+    @Setup
+    public void setUp() {
+        shardingRule = BenchmarkShardingEnvironment.createShardingRule();
+        ParsingSQLRouter router = new ParsingSQLRouter(
+                shardingRule, BenchmarkShardingEnvironment.createShardingMetaData(shardingRule), new SQLParseEngine(DatabaseTypes.getActualDatabaseType("MySQL")));
+        sql = "SELECT order_id, user_id, status FROM t_order WHERE order_id IN (" + BenchmarkShardingEnvironment.createPlaceHolders(shardingValueCount) + ") ORDER BY order_id";
+        parameters = BenchmarkShardingEnvironment.createParameters(shardingValueCount);
+        sqlRouteResult = router.route(sql, parameters, router.parse(sql, false));
+        logicAndActualTables = new ArrayList<>(sqlRouteResult.getRoutingResult().getRoutingUnits().size());
+        for (RoutingUnit each : sqlRouteResult.getRoutingResult().getRoutingUnits()) {
+            Map<String, String> tables = new HashMap<>();
+            for (TableUnit tableUnit : each.getTableUnits()) {
+                tables.put(tableUnit.getLogicTableName(), tableUnit.getActualTableName());
+            }
+            logicAndActualTables.add(tables);
+        }
+    }
+    
+    @Benchmark
+    public void rewrite(final Blackhole blackhole) {
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, sqlRouteResult, sql, parameters, sqlRouteResult.getRoutingResult().isSingleRouting(), false);
+        int index = 0;
+        for (RoutingUnit each : sqlRouteResult.getRoutingResult().getRoutingUnits()) {
+            SQLUnit sqlUnit = rewriteEngine.generateSQL(each, logicAndActualTables.get(index++));
+            blackhole.consume(sqlUnit);
+        }
+    }
+}
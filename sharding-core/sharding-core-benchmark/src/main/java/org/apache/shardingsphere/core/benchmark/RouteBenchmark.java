@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.benchmark;
+
+import org.apache.shardingsphere.core.benchmark.fixture.BenchmarkShardingEnvironment;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.optimize.sharding.ShardingOptimizeEngineFactory;
+import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingConditionOptimizedStatement;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.route.type.RoutingResult;
+import org.apache.shardingsphere.core.route.type.complex.ComplexRoutingEngine;
+import org.apache.shardingsphere.core.route.type.standard.StandardRoutingEngine;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for standard and complex routing engines.
+ * 
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteBenchmark {
+    
+    @Param({"1", "100", "1000"})
+    private int shardingValueCount;
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingConditionOptimizedStatement standardOptimizedStatement;
+    
+    private ShardingConditionOptimizedStatement complexOptimizedStatement;
+    
+    @Setup
+    public void setUp() {
+        shardingRule = BenchmarkShardingEnvironment.createShardingRule();
+        ShardingMetaData shardingMetaData = BenchmarkShardingEnvironment.createShardingMetaData(shardingRule);
+        SQLParseEngine parseEngine = new SQLParseEngine(DatabaseTypes.getActualDatabaseType("MySQL"));
+        String placeHolders = BenchmarkShardingEnvironment.createPlaceHolders(shardingValueCount);
+        List<Object> parameters = BenchmarkShardingEnvironment.createParameters(shardingValueCount);
+        standardOptimizedStatement = optimize(parseEngine, shardingMetaData, 
+                "SELECT order_id, user_id, status FROM t_order WHERE user_id IN (" + placeHolders + ") AND order_id IN (" + placeHolders + ")", concat(parameters, parameters));
+        complexOptimizedStatement = optimize(parseEngine, shardingMetaData, 
+                "SELECT o.order_id, u.user_name FROM t_order o JOIN t_user u ON o.user_id = u.user_id WHERE o.user_id IN (" + placeHolders + ") AND u.user_id IN (" + placeHolders + ")", 
+                concat(parameters, parameters));
+    }
+    
+    private List<Object> concat(final List<Object> parameters1, final List<Object> parameters2) {
+        List<Object> result = new ArrayList<>(parameters1);
+        result.addAll(parameters2);
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private ShardingConditionOptimizedStatement optimize(final SQLParseEngine parseEngine, final ShardingMetaData shardingMetaData, final String sql, final List<Object> parameters) {
+        SQLStatement sqlStatement = parseEngine.parse(sql, false);
+        return (ShardingConditionOptimizedStatement) ShardingOptimizeEngineFactory.newInstance(sqlStatement).optimize(shardingRule, shardingMetaData.getTable(), sql, parameters, sqlStatement);
+    }
+    
+    @Benchmark
+    public RoutingResult routeStandard() {
+        return new StandardRoutingEngine(shardingRule, "t_order", standardOptimizedStatement).route();
+    }
+    
+    @Benchmark
+    public RoutingResult routeComplex() {
+        return new ComplexRoutingEngine(shardingRule, Arrays.asList("t_order", "t_user"), complexOptimizedStatement).route();
+    }
+}
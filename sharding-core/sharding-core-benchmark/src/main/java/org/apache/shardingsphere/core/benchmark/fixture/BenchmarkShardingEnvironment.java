@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.benchmark.fixture;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sharding environment for benchmark, which contains 8 data sources and 16 tables per data source for each logic table.
+ * 
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkShardingEnvironment {
+    
+    public static final int DATA_SOURCE_COUNT = 8;
+    
+    public static final int TABLE_COUNT_PER_DATA_SOURCE = 16;
+    
+    /**
+     * Create sharding rule.
+     * 
+     * @return sharding rule
+     */
+    public static ShardingRule createShardingRule() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_order", "order_id"));
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_order_item", "order_id"));
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_user", "user_id"));
+        shardingRuleConfig.getBindingTableGroups().add("t_order, t_order_item");
+        shardingRuleConfig.setDefaultDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % " + DATA_SOURCE_COUNT + "}"));
+        return new ShardingRule(shardingRuleConfig, createDataSourceNames());
+    }
+    
+    private static TableRuleConfiguration createTableRuleConfiguration(final String logicTable, final String shardingColumn) {
+        TableRuleConfiguration result = new TableRuleConfiguration(
+                logicTable, String.format("ds_${0..%d}.%s_${0..%d}", DATA_SOURCE_COUNT - 1, logicTable, TABLE_COUNT_PER_DATA_SOURCE - 1));
+        result.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration(shardingColumn, String.format("%s_${%s %% %d}", logicTable, shardingColumn, TABLE_COUNT_PER_DATA_SOURCE)));
+        return result;
+    }
+    
+    private static Collection<String> createDataSourceNames() {
+        Collection<String> result = new ArrayList<>(DATA_SOURCE_COUNT);
+        for (int i = 0; i < DATA_SOURCE_COUNT; i++) {
+            result.add("ds_" + i);
+        }
+        return result;
+    }
+    
+    /**
+     * Create sharding meta data.
+     * 
+     * @param shardingRule sharding rule
+     * @return sharding meta data
+     */
+    public static ShardingMetaData createShardingMetaData(final ShardingRule shardingRule) {
+        Map<String, String> dataSourceURLs = new LinkedHashMap<>(DATA_SOURCE_COUNT, 1);
+        for (String each : createDataSourceNames()) {
+            dataSourceURLs.put(each, "jdbc:mysql://127.0.0.1:3306/" + each);
+        }
+        return new ShardingMetaData(new ShardingDataSourceMetaData(dataSourceURLs, shardingRule, DatabaseTypes.getActualDatabaseType("MySQL")), createShardingTableMetaData());
+    }
+    
+    private static ShardingTableMetaData createShardingTableMetaData() {
+        Map<String, TableMetaData> tables = new HashMap<>(3, 1);
+        tables.put("t_order", new TableMetaData(Arrays.asList(
+                new ColumnMetaData("order_id", "bigint", true), new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "varchar", false)), Collections.<String>emptySet()));
+        tables.put("t_order_item", new TableMetaData(Arrays.asList(new ColumnMetaData("item_id", "bigint", true), 
+                new ColumnMetaData("order_id", "bigint", false), new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "varchar", false)), Collections.<String>emptySet()));
+        tables.put("t_user", new TableMetaData(Arrays.asList(new ColumnMetaData("user_id", "int", true), new ColumnMetaData("user_name", "varchar", false)), Collections.<String>emptySet()));
+        return new ShardingTableMetaData(tables);
+    }
+    
+    /**
+     * Create parameters of sharding values.
+     * 
+     * @param count count of parameters
+     * @return parameters
+     */
+    public static List<Object> createParameters(final int count) {
+        List<Object> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add((long) i * 7919);
+        }
+        return result;
+    }
+    
+    /**
+     * Create place holders for {@code IN} predicate.
+     * 
+     * @param count count of place holders
+     * @return place holders, such as {@code ?, ?, ?}
+     */
+    public static String createPlaceHolders(final int count) {
+        StringBuilder result = new StringBuilder(count * 3);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append('?');
+        }
+        return result.toString();
+    }
+}
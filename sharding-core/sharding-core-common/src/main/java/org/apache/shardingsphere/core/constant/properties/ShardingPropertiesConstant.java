@@ -80,6 +80,57 @@ public enum ShardingPropertiesConstant {
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max.connections.size.per.query", String.valueOf(1), int.class),
     
+    /**
+     * Max memory bytes of query results loaded into memory for each query.
+     *
+     * <p>
+     * If it is positive, query results of CONNECTION_STRICTLY mode are buffered by column and limited with this value.
+     * Default: 0, query results are buffered by row without limit.
+     * </p>
+     */
+    MAX_MEMORY_BYTES_PER_QUERY("max.memory.bytes.per.query", String.valueOf(0L), long.class),
+    
+    /**
+     * Max estimated bytes of rows kept in memory by group by and distinct merging for each query.
+     *
+     * <p>
+     * If it is positive, rows are spilled to sorted temporary files once their estimated bytes reach this value, and merged from disk.
+     * Default: 0, all rows are merged in memory.
+     * </p>
+     */
+    MAX_MERGE_BYTES_IN_MEMORY("max.merge.bytes.in.memory", String.valueOf(0L), long.class),
+    
+    /**
+     * Min offset of order by query to use deep pagination.
+     *
+     * <p>
+     * If it is positive, order by query with larger offset probes boundaries of every shard at first, then fetches rows after boundaries only.
+     * Default: 0, deep pagination is disabled.
+     * </p>
+     */
+    MIN_OFFSET_FOR_DEEP_PAGINATION("min.offset.for.deep.pagination", String.valueOf(0), int.class),
+    
+    /**
+     * Enable in predicate pruning or not.
+     *
+     * <p>
+     * If it is enabled, values of in predicate on sharding column are rewritten to only those can be routed to each data node.
+     * Default: false, values of in predicate are sent to every data node.
+     * </p>
+     */
+    IN_PREDICATE_PRUNING_ENABLED("in.predicate.pruning.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max idle prepared statements of databases cached by each connection.
+     *
+     * <p>
+     * If it is positive, prepared statements of Sharding-JDBC are reused for same data source connection and rewritten SQL until the connection is closed.
+     * For Sharding-Proxy, prepared statements of backend connections are reused while connections are held by transaction.
+     * Default: 0, prepared statements of databases are closed after every execution.
+     * </p>
+     */
+    MAX_CACHED_STATEMENTS_PER_CONNECTION("max.cached.statements.per.connection", String.valueOf(0), int.class),
+    
     /**
      * When encrypt data, query with cipher column or not.
      * 
@@ -116,6 +167,17 @@ public enum ShardingPropertiesConstant {
      */
     PROXY_OPENTRACING_ENABLED("proxy.opentracing.enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Enable native MySQL protocol backend over netty for Sharding-Proxy.
+     *
+     * <p>
+     * If it is true, single route queries out of transaction are relayed to MySQL over netty connections instead of JDBC,
+     * connection pool size and timeout of each data source are decided by proxy.backend.max.connections and proxy.backend.connection.timeout.seconds.
+     * Default: false.
+     * </p>
+     */
+    PROXY_BACKEND_USE_NIO("proxy.backend.use.nio", String.valueOf(Boolean.FALSE), boolean.class),
+    
     PROXY_BACKEND_MAX_CONNECTIONS("proxy.backend.max.connections", String.valueOf(8), int.class),
     
     PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
@@ -26,9 +26,11 @@ import org.apache.shardingsphere.api.config.encrypt.EncryptRuleConfiguration;
 import org.apache.shardingsphere.api.config.encrypt.EncryptTableRuleConfiguration;
 import org.apache.shardingsphere.api.config.encrypt.EncryptorRuleConfiguration;
 import org.apache.shardingsphere.core.spi.algorithm.encrypt.ShardingEncryptorServiceLoader;
+import org.apache.shardingsphere.spi.encrypt.ShardingBatchEncryptor;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 import org.apache.shardingsphere.spi.encrypt.ShardingQueryAssistedEncryptor;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -197,6 +199,9 @@ public final class EncryptEngine {
     public List<Object> getEncryptColumnValues(final String logicTable, final String logicColumn, final List<Object> originalColumnValues) {
         final Optional<ShardingEncryptor> shardingEncryptor = getShardingEncryptor(logicTable, logicColumn);
         Preconditions.checkArgument(shardingEncryptor.isPresent(), String.format("Can not find ShardingQueryAssistedEncryptor by %s.%s.", logicTable, logicColumn));
+        if (shardingEncryptor.get() instanceof ShardingBatchEncryptor) {
+            return new ArrayList<Object>(((ShardingBatchEncryptor) shardingEncryptor.get()).batchEncrypt(originalColumnValues));
+        }
         return Lists.transform(originalColumnValues, new Function<Object, Object>() {
             
             @Override
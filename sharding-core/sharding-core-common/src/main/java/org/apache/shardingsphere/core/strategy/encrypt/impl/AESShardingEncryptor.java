@@ -19,69 +19,142 @@ package org.apache.shardingsphere.core.strategy.encrypt.impl;
 
 import com.google.common.base.Preconditions;
 import lombok.Getter;
-import lombok.Setter;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.StringUtils;
 import org.apache.commons.codec.digest.DigestUtils;
-import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
+import org.apache.shardingsphere.spi.encrypt.ShardingBatchEncryptor;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
 
 /**
  * AES sharding encryptor.
  *
+ * <p>Secret key is derived only once, initialized ciphers are borrowed from a bounded idle pool and returned after use.</p>
+ *
  * @author panjuan
  */
-@Getter
-@Setter
-public final class AESShardingEncryptor implements ShardingEncryptor {
+public final class AESShardingEncryptor implements ShardingBatchEncryptor {
     
     private static final String AES_KEY = "aes.key.value";
     
+    private static final int MAX_IDLE_CIPHERS = Runtime.getRuntime().availableProcessors() * 2;
+    
+    @Getter
     private Properties properties = new Properties();
     
+    private volatile SecretKeySpec secretKey;
+    
+    private final Queue<AESCiphers> idleCiphers = new ArrayBlockingQueue<>(MAX_IDLE_CIPHERS);
+    
     @Override
     public String getType() {
         return "AES";
     }
     
+    @Override
+    public void setProperties(final Properties properties) {
+        this.properties = properties;
+        secretKey = null;
+        idleCiphers.clear();
+    }
+    
     @Override
     public void init() {
+        if (properties.containsKey(AES_KEY)) {
+            secretKey = createSecretKey();
+        }
     }
     
     @Override
-    @SneakyThrows
     public String encrypt(final Object plaintext) {
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
-        return Base64.encodeBase64String(result);
+        AESCiphers ciphers = borrowCiphers();
+        String result = encrypt(ciphers.encryptCipher, plaintext);
+        idleCiphers.offer(ciphers);
+        return result;
     }
     
     @Override
-    @SneakyThrows
     public Object decrypt(final String ciphertext) {
         if (null == ciphertext) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.decodeBase64(String.valueOf(ciphertext)));
+        AESCiphers ciphers = borrowCiphers();
+        Object result = decrypt(ciphers.decryptCipher, ciphertext);
+        idleCiphers.offer(ciphers);
+        return result;
+    }
+    
+    @Override
+    public List<String> batchEncrypt(final List<?> plaintexts) {
+        AESCiphers ciphers = borrowCiphers();
+        List<String> result = new ArrayList<>(plaintexts.size());
+        for (Object each : plaintexts) {
+            result.add(encrypt(ciphers.encryptCipher, each));
+        }
+        idleCiphers.offer(ciphers);
+        return result;
+    }
+    
+    @SneakyThrows
+    private String encrypt(final Cipher cipher, final Object plaintext) {
+        byte[] result = cipher.doFinal(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
+        return Base64.encodeBase64String(result);
+    }
+    
+    @SneakyThrows
+    private Object decrypt(final Cipher cipher, final String ciphertext) {
+        byte[] result = cipher.doFinal(Base64.decodeBase64(ciphertext));
         return new String(result);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
+    @SneakyThrows
+    private AESCiphers borrowCiphers() {
+        SecretKeySpec currentSecretKey = getSecretKey();
+        AESCiphers result = idleCiphers.poll();
+        if (null == result || currentSecretKey != result.secretKey) {
+            result = new AESCiphers(currentSecretKey, createCipher(Cipher.ENCRYPT_MODE, currentSecretKey), createCipher(Cipher.DECRYPT_MODE, currentSecretKey));
+        }
+        return result;
+    }
+    
+    private SecretKeySpec getSecretKey() {
+        SecretKeySpec result = secretKey;
+        if (null == result) {
+            result = createSecretKey();
+            secretKey = result;
+        }
+        return result;
+    }
+    
+    private SecretKeySpec createSecretKey() {
         Preconditions.checkArgument(properties.containsKey(AES_KEY), "No available secret key for `%s`.", AESShardingEncryptor.class.getName());
+        Preconditions.checkArgument(null != properties.get(AES_KEY), String.format("%s can not be null.", AES_KEY));
+        return new SecretKeySpec(Arrays.copyOf(DigestUtils.sha1(properties.get(AES_KEY).toString()), 16), getType());
+    }
+    
+    private Cipher createCipher(final int mode, final SecretKeySpec secretKey) throws GeneralSecurityException {
         Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(createSecretKey(), getType()));
+        result.init(mode, secretKey);
         return result;
     }
     
-    private byte[] createSecretKey() {
-        Preconditions.checkArgument(null != properties.get(AES_KEY), String.format("%s can not be null.", AES_KEY));
-        return Arrays.copyOf(DigestUtils.sha1(properties.get(AES_KEY).toString()), 16);
+    @RequiredArgsConstructor
+    private static final class AESCiphers {
+        
+        private final SecretKeySpec secretKey;
+        
+        private final Cipher encryptCipher;
+        
+        private final Cipher decryptCipher;
     }
 }
@@ -23,8 +23,11 @@ import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Snowflake distributed primary key generator.
@@ -47,6 +50,10 @@ import java.util.Properties;
  * <p>
  * Call @{@code SnowflakeShardingKeyGenerator.setMaxTolerateTimeDifferenceMilliseconds} to set max tolerate time difference milliseconds, default value is 0.
  * </p>
+ *
+ * <p>
+ * Keys are reserved by compare and set on one state which packs last milliseconds, sequence offset and last sequence, without lock.
+ * </p>
  * 
  * @author gaohongtao
  * @author panjuan
@@ -71,18 +78,21 @@ public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator
     
     private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS = 10;
     
+    private static final long SEQUENCE_OFFSET_LEFT_SHIFT_BITS = SEQUENCE_BITS;
+    
+    private static final long MILLISECONDS_LEFT_SHIFT_BITS = SEQUENCE_OFFSET_LEFT_SHIFT_BITS + 1;
+    
     @Setter
     private static TimeService timeService = new TimeService();
     
     @Getter
-    @Setter
     private Properties properties = new Properties();
     
-    private byte sequenceOffset;
+    private long workerId = WORKER_ID;
     
-    private long sequence;
+    private int maxTolerateTimeDifferenceMilliseconds = MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS;
     
-    private long lastMilliseconds;
+    private final AtomicLong state = new AtomicLong();
     
     static {
         Calendar calendar = Calendar.getInstance();
@@ -100,45 +110,86 @@ public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator
     }
     
     @Override
-    public synchronized Comparable<?> generateKey() {
-        long currentMilliseconds = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMilliseconds)) {
-            currentMilliseconds = timeService.getCurrentMillis();
+    public void setProperties(final Properties properties) {
+        workerId = getWorkerId(properties);
+        maxTolerateTimeDifferenceMilliseconds = getMaxTolerateTimeDifferenceMilliseconds(properties);
+        this.properties = properties;
+    }
+    
+    private long getWorkerId(final Properties properties) {
+        long result = Long.valueOf(properties.getProperty("worker.id", String.valueOf(WORKER_ID)));
+        Preconditions.checkArgument(result >= 0L && result < WORKER_ID_MAX_VALUE);
+        return result;
+    }
+    
+    private int getMaxTolerateTimeDifferenceMilliseconds(final Properties properties) {
+        return Integer.valueOf(properties.getProperty("max.tolerate.time.difference.milliseconds", String.valueOf(MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS)));
+    }
+    
+    @Override
+    public Comparable<?> generateKey() {
+        return reserve(1);
+    }
+    
+    /**
+     * Generate keys.
+     *
+     * <p>Keys generated in same milliseconds are reserved together, so the sequence range is contiguous.</p>
+     *
+     * @param count count of keys
+     * @return generated keys
+     */
+    public List<Comparable<?>> generateKeys(final int count) {
+        List<Comparable<?>> result = new ArrayList<>(count);
+        while (result.size() < count) {
+            int requiredCount = count - result.size();
+            long firstKey = reserve(requiredCount);
+            long reservedCount = Math.min(requiredCount, SEQUENCE_MASK + 1 - (firstKey & SEQUENCE_MASK));
+            for (long i = 0; i < reservedCount; i++) {
+                result.add(firstKey + i);
+            }
         }
-        if (lastMilliseconds == currentMilliseconds) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
+        return result;
+    }
+    
+    private long reserve(final int count) {
+        while (true) {
+            long lastState = state.get();
+            long lastMilliseconds = lastState >>> MILLISECONDS_LEFT_SHIFT_BITS;
+            long sequenceOffset = (lastState >>> SEQUENCE_OFFSET_LEFT_SHIFT_BITS) & 1;
+            long currentMilliseconds = timeService.getCurrentMillis();
+            if (waitTolerateTimeDifferenceIfNeed(lastMilliseconds, currentMilliseconds)) {
+                currentMilliseconds = timeService.getCurrentMillis();
+            }
+            long firstSequence;
+            if (lastMilliseconds != currentMilliseconds) {
+                sequenceOffset = ~sequenceOffset & 1;
+                firstSequence = sequenceOffset;
+            } else if (SEQUENCE_MASK == (lastState & SEQUENCE_MASK)) {
                 currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+                firstSequence = 0L;
+            } else {
+                firstSequence = (lastState & SEQUENCE_MASK) + 1;
+            }
+            long lastSequence = Math.min(firstSequence + count - 1, SEQUENCE_MASK);
+            if (state.compareAndSet(lastState, currentMilliseconds << MILLISECONDS_LEFT_SHIFT_BITS | sequenceOffset << SEQUENCE_OFFSET_LEFT_SHIFT_BITS | lastSequence)) {
+                return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | firstSequence;
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence = sequenceOffset;
         }
-        lastMilliseconds = currentMilliseconds;
-        return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
     }
     
     @SneakyThrows
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMilliseconds) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMilliseconds, final long currentMilliseconds) {
         if (lastMilliseconds <= currentMilliseconds) {
             return false;
         }
         long timeDifferenceMilliseconds = lastMilliseconds - currentMilliseconds;
-        Preconditions.checkState(timeDifferenceMilliseconds < getMaxTolerateTimeDifferenceMilliseconds(), 
+        Preconditions.checkState(timeDifferenceMilliseconds < maxTolerateTimeDifferenceMilliseconds,
                 "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastMilliseconds, currentMilliseconds);
         Thread.sleep(timeDifferenceMilliseconds);
         return true;
     }
     
-    private long getWorkerId() {
-        long result = Long.valueOf(properties.getProperty("worker.id", String.valueOf(WORKER_ID)));
-        Preconditions.checkArgument(result >= 0L && result < WORKER_ID_MAX_VALUE);
-        return result;
-    }
-    
-    private int getMaxTolerateTimeDifferenceMilliseconds() {
-        return Integer.valueOf(properties.getProperty("max.tolerate.time.difference.milliseconds", String.valueOf(MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS)));
-    }
-    
     private long waitUntilNextTime(final long lastTime) {
         long result = timeService.getCurrentMillis();
         while (result <= lastTime) {
@@ -146,8 +197,4 @@ public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator
         }
         return result;
     }
-    
-    private void vibrateSequenceOffset() {
-        sequenceOffset = (byte) (~sequenceOffset & 1);
-    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.util;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled inline expression.
+ * 
+ * <p>Simple shapes such as {@code ds_${user_id % 8}} are evaluated without groovy, other shapes should fall back to groovy closure.</p>
+ * 
+ * @author agent
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineExpression {
+    
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("^\\s*([A-Za-z_][A-Za-z0-9_]*)\\s*(?:%\\s*([1-9][0-9]{0,8})\\s*)?$");
+    
+    private static final Collection<String> RESERVED_WORDS = new HashSet<>(Arrays.asList("it", "this", "super", "null", "true", "false", "owner", "delegate", "thisObject"));
+    
+    private final String[] literals;
+    
+    private final String[] variables;
+    
+    private final int[] moduli;
+    
+    private final int literalLength;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression, place holder should be handled already
+     * @return compiled inline expression, absent if expression is too complex to compile
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        List<Integer> moduli = new ArrayList<>();
+        int literalLength = 0;
+        int position = 0;
+        while (position <= inlineExpression.length()) {
+            int placeholderStart = inlineExpression.indexOf("${", position);
+            String literal = -1 == placeholderStart ? inlineExpression.substring(position) : inlineExpression.substring(position, placeholderStart);
+            if (!isPlainLiteral(literal)) {
+                return Optional.absent();
+            }
+            literals.add(literal);
+            literalLength += literal.length();
+            if (-1 == placeholderStart) {
+                break;
+            }
+            int placeholderEnd = inlineExpression.indexOf('}', placeholderStart);
+            if (-1 == placeholderEnd) {
+                return Optional.absent();
+            }
+            Matcher matcher = PLACEHOLDER_PATTERN.matcher(inlineExpression.substring(placeholderStart + 2, placeholderEnd));
+            if (!matcher.matches() || RESERVED_WORDS.contains(matcher.group(1))) {
+                return Optional.absent();
+            }
+            variables.add(matcher.group(1));
+            moduli.add(null == matcher.group(2) ? 0 : Integer.parseInt(matcher.group(2)));
+            position = placeholderEnd + 1;
+        }
+        if (variables.isEmpty()) {
+            return Optional.absent();
+        }
+        int[] moduliArray = new int[moduli.size()];
+        for (int i = 0; i < moduliArray.length; i++) {
+            moduliArray[i] = moduli.get(i);
+        }
+        return Optional.of(new CompiledInlineExpression(literals.toArray(new String[literals.size()]), variables.toArray(new String[variables.size()]), moduliArray, literalLength));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        return !literal.contains("$") && !literal.contains("\"") && !literal.contains("\\") && !literal.contains("{") && !literal.contains("}");
+    }
+    
+    /**
+     * Evaluate compiled inline expression.
+     *
+     * @param variableName variable name
+     * @param value variable value
+     * @return evaluated result, absent if variable or value type is not supported by compiled expression
+     */
+    public Optional<String> evaluate(final String variableName, final Comparable<?> value) {
+        boolean isIntegral = value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+        if (!isIntegral && !(value instanceof String)) {
+            return Optional.absent();
+        }
+        StringBuilder result = new StringBuilder(literalLength + variables.length * 8);
+        for (int i = 0; i < variables.length; i++) {
+            if (!variables[i].equals(variableName)) {
+                return Optional.absent();
+            }
+            result.append(literals[i]);
+            if (0 == moduli[i]) {
+                result.append(value);
+            } else if (!isIntegral) {
+                return Optional.absent();
+            } else if (value instanceof Long) {
+                result.append((Long) value % moduli[i]);
+            } else {
+                result.append(((Number) value).intValue() % moduli[i]);
+            }
+        }
+        result.append(literals[variables.length]);
+        return Optional.of(result.toString());
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.util;
 
 import com.google.common.base.Function;
 import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.Sets;
 import groovy.lang.Closure;
@@ -83,6 +84,15 @@ public final class InlineExpressionParser {
         return (Closure) evaluate(Joiner.on("").join("{it -> \"", inlineExpression, "\"}"));
     }
     
+    /**
+     * Compile inline expression without groovy.
+     *
+     * @return compiled inline expression, absent if inline expression is too complex to compile
+     */
+    public Optional<CompiledInlineExpression> compile() {
+        return CompiledInlineExpression.compile(handlePlaceHolder(inlineExpression));
+    }
+    
     private List<Object> evaluate(final List<String> inlineExpressions) {
         List<Object> result = new ArrayList<>(inlineExpressions.size());
         for (String each : inlineExpressions) {
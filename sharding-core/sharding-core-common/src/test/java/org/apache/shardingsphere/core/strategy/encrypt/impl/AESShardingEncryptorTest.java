@@ -20,9 +20,13 @@ package org.apache.shardingsphere.core.strategy.encrypt.impl;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.Properties;
+import java.util.Queue;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
@@ -71,6 +75,43 @@ public final class AESShardingEncryptorTest {
         assertThat(encryptor.decrypt("dSpPiyENQGDUXMKFMJPGWA==").toString(), is("test"));
     }
     
+    @Test
+    public void assertDecodeAfterInit() {
+        encryptor.init();
+        assertThat(encryptor.decrypt("dSpPiyENQGDUXMKFMJPGWA==").toString(), is("test"));
+    }
+    
+    @Test
+    public void assertDecodeAfterKeyChanged() {
+        assertThat(encryptor.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
+        Properties properties = new Properties();
+        properties.setProperty("aes.key.value", "other");
+        encryptor.setProperties(properties);
+        assertThat(encryptor.decrypt(encryptor.encrypt("test")).toString(), is("test"));
+        assertThat(encryptor.encrypt("test"), not("dSpPiyENQGDUXMKFMJPGWA=="));
+    }
+    
+    @Test
+    public void assertBatchEncode() {
+        assertThat(encryptor.batchEncrypt(Arrays.asList("test", "test")), is(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", "dSpPiyENQGDUXMKFMJPGWA==")));
+    }
+    
+    @Test
+    public void assertCiphersReturnedToIdlePool() throws ReflectiveOperationException {
+        encryptor.encrypt("test");
+        encryptor.decrypt("dSpPiyENQGDUXMKFMJPGWA==");
+        encryptor.batchEncrypt(Arrays.asList("test", "test"));
+        assertThat(getIdleCiphers().size(), is(1));
+        encryptor.setProperties(new Properties());
+        assertThat(getIdleCiphers().size(), is(0));
+    }
+    
+    private Queue<?> getIdleCiphers() throws ReflectiveOperationException {
+        Field field = AESShardingEncryptor.class.getDeclaredField("idleCiphers");
+        field.setAccessible(true);
+        return (Queue<?>) field.get(encryptor);
+    }
+    
     @Test
     public void assertGetProperties() {
         assertThat(encryptor.getProperties().get("aes.key.value").toString(), is("test"));
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.util;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineExpressionTest {
+    
+    @Test
+    public void assertCompileForModulo() {
+        assertTrue(CompiledInlineExpression.compile("ds_${user_id % 8}").isPresent());
+        assertTrue(CompiledInlineExpression.compile("t_order_${ order_id%16 }_${order_id}").isPresent());
+    }
+    
+    @Test
+    public void assertCompileForComplexExpression() {
+        assertFalse(CompiledInlineExpression.compile("t_order").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id.longValue() % 2}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 2 + 1}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${it % 2}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_$order_${order_id % 2}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 2").isPresent());
+    }
+    
+    @Test
+    public void assertEvaluateSameAsGroovy() {
+        assertEvaluateSameAsGroovy("ds_${user_id % 8}", "user_id", 13);
+        assertEvaluateSameAsGroovy("ds_${user_id % 8}", "user_id", -13);
+        assertEvaluateSameAsGroovy("ds_${user_id % 8}", "user_id", 13L);
+        assertEvaluateSameAsGroovy("ds_${user_id % 8}", "user_id", -13L);
+        assertEvaluateSameAsGroovy("ds_${user_id % 8}", "user_id", Long.MAX_VALUE);
+        assertEvaluateSameAsGroovy("ds_${user_id % 8}", "user_id", (short) 13);
+        assertEvaluateSameAsGroovy("ds_${user_id % 8}", "user_id", (byte) 13);
+        assertEvaluateSameAsGroovy("t_order_${order_id % 16}_${order_id}", "order_id", 1000L);
+        assertEvaluateSameAsGroovy("t_order_${order_id}", "order_id", "abc");
+    }
+    
+    @Test
+    public void assertEvaluateForUnsupportedValue() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("ds_${user_id % 8}").get();
+        assertFalse(actual.evaluate("user_id", 1.5D).isPresent());
+        assertFalse(actual.evaluate("user_id", "abc").isPresent());
+        assertFalse(actual.evaluate("order_id", 1).isPresent());
+    }
+    
+    private void assertEvaluateSameAsGroovy(final String expression, final String variableName, final Comparable<?> value) {
+        Closure<?> closure = new InlineExpressionParser(expression).evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        closure.setProperty(variableName, value);
+        assertThat(CompiledInlineExpression.compile(expression).get().evaluate(variableName, value).get(), is(closure.call().toString()));
+    }
+}
@@ -23,7 +23,10 @@ import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.optimize.api.statement.OptimizedStatement;
 import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
+import org.apache.shardingsphere.core.rewrite.builder.BaseParameterBuilder;
+import org.apache.shardingsphere.core.rewrite.cache.SQLRewriteResultCache;
 import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLLogger;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
@@ -68,18 +71,41 @@ public abstract class BaseShardingEngine {
     public SQLRouteResult shard(final String sql, final List<Object> parameters) {
         List<Object> clonedParameters = cloneParameters(parameters);
         SQLRouteResult result = executeRoute(sql, clonedParameters);
-        result.getRouteUnits().addAll(HintManager.isDatabaseShardingOnly() ? convert(sql, clonedParameters, result) : rewriteAndConvert(sql, clonedParameters, result));
+        result.getRouteUnits().addAll(HintManager.isDatabaseShardingOnly() ? convert(sql, clonedParameters, result) : rewriteAndConvert(sql, clonedParameters, result, getRewriteResultCache()));
+        logSQL(sql, result);
+        return result;
+    }
+    
+    /**
+     * Rewrite with revised optimized statement, routing result of original SQL route result is reused.
+     *
+     * @param sql SQL
+     * @param parameters parameters of SQL
+     * @param routeResult original SQL route result
+     * @param optimizedStatement revised optimized statement
+     * @return SQL route result
+     */
+    public SQLRouteResult rewrite(final String sql, final List<Object> parameters, final SQLRouteResult routeResult, final OptimizedStatement optimizedStatement) {
+        SQLRouteResult result = new SQLRouteResult(optimizedStatement);
+        result.setRoutingResult(routeResult.getRoutingResult());
+        result.getRouteUnits().addAll(rewriteAndConvert(sql, cloneParameters(parameters), result, Optional.<SQLRewriteResultCache>absent()));
+        logSQL(sql, result);
+        return result;
+    }
+    
+    private void logSQL(final String sql, final SQLRouteResult routeResult) {
         if (shardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW)) {
             boolean showSimple = shardingProperties.getValue(ShardingPropertiesConstant.SQL_SIMPLE);
-            SQLLogger.logSQL(sql, showSimple, result.getOptimizedStatement().getSQLStatement(), result.getRouteUnits());
+            SQLLogger.logSQL(sql, showSimple, routeResult.getOptimizedStatement().getSQLStatement(), routeResult.getRouteUnits());
         }
-        return result;
     }
     
     protected abstract List<Object> cloneParameters(List<Object> parameters);
     
     protected abstract SQLRouteResult route(String sql, List<Object> parameters);
     
+    protected abstract Optional<SQLRewriteResultCache> getRewriteResultCache();
+    
     private SQLRouteResult executeRoute(final String sql, final List<Object> clonedParameters) {
         routingHook.start(sql);
         try {
@@ -102,17 +128,45 @@ public abstract class BaseShardingEngine {
         return result;
     }
     
-    private Collection<RouteUnit> rewriteAndConvert(final String sql, final List<Object> parameters, final SQLRouteResult sqlRouteResult) {
-        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, 
-                sqlRouteResult, sql, parameters, sqlRouteResult.getRoutingResult().isSingleRouting(), shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.QUERY_WITH_CIPHER_COLUMN));
+    private Collection<RouteUnit> rewriteAndConvert(final String sql, final List<Object> parameters, final SQLRouteResult sqlRouteResult, final Optional<SQLRewriteResultCache> rewriteResultCache) {
+        if (rewriteResultCache.isPresent()) {
+            Optional<Collection<RouteUnit>> result = convertWithCache(parameters, sqlRouteResult, rewriteResultCache.get());
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        boolean isSingleRouting = sqlRouteResult.getRoutingResult().isSingleRouting();
+        boolean isQueryWithCipherColumn = shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.QUERY_WITH_CIPHER_COLUMN);
+        boolean isInPredicatePruning = shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.IN_PREDICATE_PRUNING_ENABLED);
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, sqlRouteResult, sql, parameters, isSingleRouting, isQueryWithCipherColumn, isInPredicatePruning);
         Collection<RouteUnit> result = new LinkedHashSet<>();
         for (RoutingUnit each : sqlRouteResult.getRoutingResult().getRoutingUnits()) {
-            result.add(new RouteUnit(each.getDataSourceName(), 
-                    rewriteEngine.generateSQL(each, getLogicAndActualTables(each, sqlRouteResult.getOptimizedStatement().getTables().getTableNames()))));
+            SQLUnit sqlUnit = rewriteEngine.generateSQL(each, getLogicAndActualTables(each, sqlRouteResult.getOptimizedStatement().getTables().getTableNames()));
+            if (rewriteResultCache.isPresent()) {
+                rewriteResultCache.get().put(rewriteEngine, isSingleRouting, each, sqlUnit.getSql());
+            }
+            result.add(new RouteUnit(each.getDataSourceName(), sqlUnit));
         }
         return result;
     }
     
+    private Optional<Collection<RouteUnit>> convertWithCache(final List<Object> parameters, final SQLRouteResult sqlRouteResult, final SQLRewriteResultCache rewriteResultCache) {
+        boolean isSingleRouting = sqlRouteResult.getRoutingResult().isSingleRouting();
+        BaseParameterBuilder parameterBuilder = null;
+        Collection<RouteUnit> result = new LinkedHashSet<>();
+        for (RoutingUnit each : sqlRouteResult.getRoutingResult().getRoutingUnits()) {
+            Optional<String> rewrittenSQL = rewriteResultCache.getSQL(isSingleRouting, each);
+            if (!rewrittenSQL.isPresent()) {
+                return Optional.absent();
+            }
+            if (null == parameterBuilder) {
+                parameterBuilder = new BaseParameterBuilder(parameters, sqlRouteResult);
+            }
+            result.add(new RouteUnit(each.getDataSourceName(), new SQLUnit(rewrittenSQL.get(), parameterBuilder.getParameters(each))));
+        }
+        return result.isEmpty() ? Optional.<Collection<RouteUnit>>absent() : Optional.of(result);
+    }
+    
     private Map<String, String> getLogicAndActualTables(final RoutingUnit routingUnit, final Collection<String> parsedTableNames) {
         Map<String, String> result = new HashMap<>();
         for (TableUnit each : routingUnit.getTableUnits()) {
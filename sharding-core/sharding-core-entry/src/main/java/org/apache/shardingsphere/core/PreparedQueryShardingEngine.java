@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.core;
 
+import com.google.common.base.Optional;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.rewrite.cache.SQLRewriteResultCache;
 import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.rule.ShardingRule;
@@ -44,10 +46,18 @@ public final class PreparedQueryShardingEngine extends BaseShardingEngine {
     
     private final PreparedStatementRoutingEngine routingEngine;
     
+    private final SQLRewriteResultCache rewriteResultCache;
+    
     public PreparedQueryShardingEngine(final String sql, final ShardingRule shardingRule, final ShardingProperties shardingProperties,
                                        final ShardingMetaData metaData, final DatabaseType databaseType, final SQLParseEngine sqlParseEngine) {
+        this(sql, shardingRule, shardingProperties, metaData, databaseType, sqlParseEngine, new SQLRewriteResultCache());
+    }
+    
+    public PreparedQueryShardingEngine(final String sql, final ShardingRule shardingRule, final ShardingProperties shardingProperties, final ShardingMetaData metaData,
+                                       final DatabaseType databaseType, final SQLParseEngine sqlParseEngine, final SQLRewriteResultCache rewriteResultCache) {
         super(shardingRule, shardingProperties, metaData);
         routingEngine = new PreparedStatementRoutingEngine(sql, shardingRule, metaData, databaseType, sqlParseEngine);
+        this.rewriteResultCache = rewriteResultCache;
     }
     
     @Override
@@ -59,4 +69,9 @@ public final class PreparedQueryShardingEngine extends BaseShardingEngine {
     protected SQLRouteResult route(final String sql, final List<Object> parameters) {
         return routingEngine.route(parameters);
     }
+    
+    @Override
+    protected Optional<SQLRewriteResultCache> getRewriteResultCache() {
+        return Optional.of(rewriteResultCache);
+    }
 }
@@ -21,7 +21,10 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.rewrite.cache.SQLRewriteResultCache;
 import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
 import org.apache.shardingsphere.core.rule.EncryptRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.junit.Before;
@@ -33,7 +36,11 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.lang.reflect.Field;
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.List;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -56,11 +63,11 @@ public final class PreparedQueryShardingEngineTest extends BaseShardingEngineTes
         when(shardingRule.getEncryptRule()).thenReturn(encryptRule);
         shardingEngine = new PreparedQueryShardingEngine(
                 getSql(), shardingRule, getShardingProperties(), mock(ShardingMetaData.class), DatabaseTypes.getActualDatabaseType("MySQL"), mock(SQLParseEngine.class));
-        setRoutingEngine();
+        setRoutingEngine(shardingEngine);
     }
     
     @SneakyThrows
-    private void setRoutingEngine() {
+    private void setRoutingEngine(final PreparedQueryShardingEngine shardingEngine) {
         Field field = PreparedQueryShardingEngine.class.getDeclaredField("routingEngine");
         field.setAccessible(true);
         field.set(shardingEngine, routingEngine);
@@ -76,4 +83,41 @@ public final class PreparedQueryShardingEngineTest extends BaseShardingEngineTes
         when(routingEngine.route(getParameters())).thenThrow(SQLException.class);
         shardingEngine.shard(getSql(), getParameters());
     }
+    
+    @Test
+    public void assertShardWithRewriteResultCache() {
+        List<Object> otherParameters = Collections.<Object>singletonList(2);
+        when(routingEngine.route(getParameters())).thenReturn(createSQLRouteResult());
+        when(routingEngine.route(otherParameters)).thenReturn(createSQLRouteResult());
+        assertSQLRouteResult(shardingEngine.shard(getSql(), getParameters()));
+        SQLRewriteResultCache rewriteResultCache = shardingEngine.getRewriteResultCache().get();
+        assertThat(rewriteResultCache.size(), is(1));
+        assertTrue(rewriteResultCache.getSQL(true, new RoutingUnit("ds")).isPresent());
+        RouteUnit actual = shardingEngine.shard(getSql(), otherParameters).getRouteUnits().iterator().next();
+        assertThat(actual.getSqlUnit().getSql(), is(getSql()));
+        assertThat(actual.getSqlUnit().getParameters(), is(otherParameters));
+        assertThat(rewriteResultCache.size(), is(1));
+    }
+    
+    @Test
+    public void assertShardWithSharedRewriteResultCache() {
+        SQLRewriteResultCache rewriteResultCache = new SQLRewriteResultCache();
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        when(shardingRule.getEncryptRule()).thenReturn(mock(EncryptRule.class));
+        PreparedQueryShardingEngine shardingEngine1 = new PreparedQueryShardingEngine(getSql(), shardingRule, getShardingProperties(),
+                mock(ShardingMetaData.class), DatabaseTypes.getActualDatabaseType("MySQL"), mock(SQLParseEngine.class), rewriteResultCache);
+        setRoutingEngine(shardingEngine1);
+        PreparedQueryShardingEngine shardingEngine2 = new PreparedQueryShardingEngine(getSql(), shardingRule, getShardingProperties(),
+                mock(ShardingMetaData.class), DatabaseTypes.getActualDatabaseType("MySQL"), mock(SQLParseEngine.class), rewriteResultCache);
+        setRoutingEngine(shardingEngine2);
+        List<Object> otherParameters = Collections.<Object>singletonList(2);
+        when(routingEngine.route(getParameters())).thenReturn(createSQLRouteResult());
+        when(routingEngine.route(otherParameters)).thenReturn(createSQLRouteResult());
+        assertSQLRouteResult(shardingEngine1.shard(getSql(), getParameters()));
+        assertThat(rewriteResultCache.size(), is(1));
+        RouteUnit actual = shardingEngine2.shard(getSql(), otherParameters).getRouteUnits().iterator().next();
+        assertThat(actual.getSqlUnit().getSql(), is(getSql()));
+        assertThat(actual.getSqlUnit().getParameters(), is(otherParameters));
+        assertThat(rewriteResultCache.size(), is(1));
+    }
 }
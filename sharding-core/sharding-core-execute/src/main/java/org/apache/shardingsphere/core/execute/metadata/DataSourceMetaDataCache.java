@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.shardingsphere.spi.database.DataSourceMetaData;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Data source meta data cache.
+ * 
+ * <p>Data source names are only unique in one runtime context, so the cache should be owned by the runtime context.</p>
+ *
+ * @author agent
+ */
+public final class DataSourceMetaDataCache {
+    
+    public static final long DEFAULT_MAXIMUM_SIZE = 1024L;
+    
+    private final DatabaseType databaseType;
+    
+    private final Cache<String, DataSourceMetaData> cache;
+    
+    public DataSourceMetaDataCache(final DatabaseType databaseType) {
+        this(databaseType, DEFAULT_MAXIMUM_SIZE);
+    }
+    
+    public DataSourceMetaDataCache(final DatabaseType databaseType, final long maximumSize) {
+        this.databaseType = databaseType;
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+    
+    /**
+     * Get data source meta data, resolve it from URL of connection if absent.
+     * 
+     * @param dataSourceName data source name
+     * @param connection connection of data source
+     * @return data source meta data
+     * @throws SQLException SQL exception
+     */
+    public DataSourceMetaData getDataSourceMetaData(final String dataSourceName, final Connection connection) throws SQLException {
+        DataSourceMetaData result = cache.getIfPresent(dataSourceName);
+        if (null == result) {
+            result = databaseType.getDataSourceMetaData(connection.getMetaData().getURL());
+            if (null != result) {
+                cache.put(dataSourceName, result);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Clear cached data source meta data.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
@@ -17,12 +17,12 @@
 
 package org.apache.shardingsphere.core.execute.sql.execute;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.execute.ShardingGroupExecuteCallback;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
 import org.apache.shardingsphere.core.execute.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.core.execute.hook.SQLExecutionHook;
+import org.apache.shardingsphere.core.execute.metadata.DataSourceMetaDataCache;
 import org.apache.shardingsphere.core.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
 import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.spi.database.DataSourceMetaData;
@@ -42,27 +42,37 @@ import java.util.Map;
  *
  * @param <T> class type of return value
  */
-@RequiredArgsConstructor
 public abstract class SQLExecuteCallback<T> implements ShardingGroupExecuteCallback<StatementExecuteUnit, T> {
     
-    private final DatabaseType databaseType;
+    private final DataSourceMetaDataCache dataSourceMetaDataCache;
     
     private final boolean isExceptionThrown;
     
+    public SQLExecuteCallback(final DatabaseType databaseType, final boolean isExceptionThrown) {
+        this(new DataSourceMetaDataCache(databaseType), isExceptionThrown);
+    }
+    
+    public SQLExecuteCallback(final DataSourceMetaDataCache dataSourceMetaDataCache, final boolean isExceptionThrown) {
+        this.dataSourceMetaDataCache = dataSourceMetaDataCache;
+        this.isExceptionThrown = isExceptionThrown;
+    }
+    
     @Override
     public final Collection<T> execute(final Collection<StatementExecuteUnit> statementExecuteUnits, final boolean isTrunkThread,
                                        final Map<String, Object> shardingExecuteDataMap) throws SQLException {
         Collection<T> result = new LinkedList<>();
+        SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
         for (StatementExecuteUnit each : statementExecuteUnits) {
-            result.add(execute0(each, isTrunkThread, shardingExecuteDataMap));
+            result.add(execute0(each, sqlExecutionHook, isTrunkThread, shardingExecuteDataMap));
         }
         return result;
     }
     
-    private T execute0(final StatementExecuteUnit statementExecuteUnit, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
+    private T execute0(final StatementExecuteUnit statementExecuteUnit, final SQLExecutionHook sqlExecutionHook,
+                       final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
         ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
-        DataSourceMetaData dataSourceMetaData = databaseType.getDataSourceMetaData(statementExecuteUnit.getStatement().getConnection().getMetaData().getURL());
-        SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
+        DataSourceMetaData dataSourceMetaData = dataSourceMetaDataCache.getDataSourceMetaData(
+                statementExecuteUnit.getRouteUnit().getDataSourceName(), statementExecuteUnit.getStatement().getConnection());
         try {
             sqlExecutionHook.start(statementExecuteUnit.getRouteUnit(), dataSourceMetaData, isTrunkThread, shardingExecuteDataMap);
             T result = executeSQL(statementExecuteUnit.getRouteUnit(), statementExecuteUnit.getStatement(), statementExecuteUnit.getConnectionMode());
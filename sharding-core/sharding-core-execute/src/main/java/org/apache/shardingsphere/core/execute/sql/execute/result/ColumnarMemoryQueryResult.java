@@ -0,0 +1,400 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.rule.EncryptRule;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * Query result for memory loading with column oriented storage.
+ * 
+ * <p>Rows are buffered by column in chunks, integral and floating point columns are stored in primitive arrays and character columns are stored as UTF-8 bytes.
+ * Memory of all columnar query results for one query is limited by {@code QueryMemoryQuota}.</p>
+ * 
+ * @author agent
+ */
+public final class ColumnarMemoryQueryResult implements QueryResult {
+    
+    private static final int CHUNK_SIZE = 1024;
+    
+    private final QueryResultMetaData metaData;
+    
+    private final QueryMemoryQuota memoryQuota;
+    
+    private final Column[] columns;
+    
+    private final ShardingEncryptor[] shardingEncryptors;
+    
+    private int rowCount;
+    
+    private int currentRowIndex = -1;
+    
+    @Getter
+    private long usedBytes;
+    
+    @SneakyThrows
+    public ColumnarMemoryQueryResult(final ResultSet resultSet, final ShardingRule shardingRule, final QueryMemoryQuota memoryQuota) {
+        metaData = new QueryResultMetaData(resultSet.getMetaData(), shardingRule);
+        this.memoryQuota = memoryQuota;
+        columns = createColumns(resultSet.getMetaData());
+        shardingEncryptors = getShardingEncryptors();
+        load(resultSet);
+    }
+    
+    @SneakyThrows
+    public ColumnarMemoryQueryResult(final ResultSet resultSet, final EncryptRule encryptRule, final QueryMemoryQuota memoryQuota) {
+        metaData = new QueryResultMetaData(resultSet.getMetaData(), encryptRule);
+        this.memoryQuota = memoryQuota;
+        columns = createColumns(resultSet.getMetaData());
+        shardingEncryptors = getShardingEncryptors();
+        load(resultSet);
+    }
+    
+    @SneakyThrows
+    public ColumnarMemoryQueryResult(final ResultSet resultSet, final QueryMemoryQuota memoryQuota) {
+        metaData = new QueryResultMetaData(resultSet.getMetaData());
+        this.memoryQuota = memoryQuota;
+        columns = createColumns(resultSet.getMetaData());
+        shardingEncryptors = getShardingEncryptors();
+        load(resultSet);
+    }
+    
+    private Column[] createColumns(final ResultSetMetaData resultSetMetaData) throws SQLException {
+        Column[] result = new Column[resultSetMetaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = createColumn(resultSetMetaData.getColumnType(i + 1));
+        }
+        return result;
+    }
+    
+    private Column createColumn(final int columnType) {
+        switch (columnType) {
+            case Types.BOOLEAN:
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return new LongColumn(columnType);
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleColumn();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return new StringColumn();
+            default:
+                return new ObjectColumn();
+        }
+    }
+    
+    private ShardingEncryptor[] getShardingEncryptors() {
+        ShardingEncryptor[] result = new ShardingEncryptor[columns.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = metaData.getShardingEncryptor(i + 1).orNull();
+        }
+        return result;
+    }
+    
+    private void load(final ResultSet resultSet) throws SQLException {
+        while (resultSet.next()) {
+            for (int i = 0; i < columns.length; i++) {
+                allocate(columns[i].append(resultSet, i + 1, rowCount));
+            }
+            rowCount++;
+        }
+    }
+    
+    private void allocate(final long bytes) {
+        if (0 < bytes) {
+            memoryQuota.allocate(bytes);
+            usedBytes += bytes;
+        }
+    }
+    
+    @Override
+    public boolean next() {
+        if (currentRowIndex + 1 < rowCount) {
+            currentRowIndex++;
+            return true;
+        }
+        currentRowIndex = rowCount;
+        return false;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        return decrypt(columnIndex, getCurrentValue(columnIndex));
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) {
+        return getValue(metaData.getColumnIndex(columnLabel), type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getCurrentValue(columnIndex);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
+        return getCurrentValue(metaData.getColumnIndex(columnLabel));
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        return getInputStream(getCurrentValue(columnIndex));
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) {
+        return getInputStream(getCurrentValue(metaData.getColumnIndex(columnLabel)));
+    }
+    
+    @SneakyThrows
+    private InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return currentRowIndex < 0 || currentRowIndex >= rowCount;
+    }
+    
+    @Override
+    public boolean isCaseSensitive(final int columnIndex) {
+        return metaData.isCaseSensitive(columnIndex);
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columns.length;
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return metaData.getColumnLabel(columnIndex);
+    }
+    
+    private Object getCurrentValue(final int columnIndex) {
+        return columns[columnIndex - 1].get(currentRowIndex);
+    }
+    
+    private Object decrypt(final int columnIndex, final Object value) {
+        ShardingEncryptor shardingEncryptor = shardingEncryptors[columnIndex - 1];
+        return null == shardingEncryptor ? value : shardingEncryptor.decrypt(null == value ? null : value.toString());
+    }
+    
+    private abstract static class Column {
+        
+        private final BitSet nullRows = new BitSet();
+        
+        final long append(final ResultSet resultSet, final int columnIndex, final int rowIndex) throws SQLException {
+            long result = 0 == rowIndex % CHUNK_SIZE ? newChunk() : 0L;
+            result += appendValue(resultSet, columnIndex, rowIndex / CHUNK_SIZE, rowIndex % CHUNK_SIZE);
+            if (resultSet.wasNull()) {
+                nullRows.set(rowIndex);
+            }
+            return result;
+        }
+        
+        final Object get(final int rowIndex) {
+            return nullRows.get(rowIndex) ? null : getValue(rowIndex / CHUNK_SIZE, rowIndex % CHUNK_SIZE);
+        }
+        
+        abstract long newChunk();
+        
+        abstract long appendValue(ResultSet resultSet, int columnIndex, int chunkIndex, int offset) throws SQLException;
+        
+        abstract Object getValue(int chunkIndex, int offset);
+    }
+    
+    private static final class LongColumn extends Column {
+        
+        private final int columnType;
+        
+        private final List<long[]> chunks = new ArrayList<>();
+        
+        LongColumn(final int columnType) {
+            this.columnType = columnType;
+        }
+        
+        @Override
+        long newChunk() {
+            chunks.add(new long[CHUNK_SIZE]);
+            return 8L * CHUNK_SIZE;
+        }
+        
+        @Override
+        long appendValue(final ResultSet resultSet, final int columnIndex, final int chunkIndex, final int offset) throws SQLException {
+            chunks.get(chunkIndex)[offset] = readValue(resultSet, columnIndex);
+            return 0L;
+        }
+        
+        private long readValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
+            switch (columnType) {
+                case Types.BOOLEAN:
+                    return resultSet.getBoolean(columnIndex) ? 1L : 0L;
+                case Types.TINYINT:
+                    return resultSet.getByte(columnIndex);
+                case Types.SMALLINT:
+                    return resultSet.getShort(columnIndex);
+                case Types.INTEGER:
+                    return resultSet.getInt(columnIndex);
+                default:
+                    return resultSet.getLong(columnIndex);
+            }
+        }
+        
+        @Override
+        Object getValue(final int chunkIndex, final int offset) {
+            long value = chunks.get(chunkIndex)[offset];
+            switch (columnType) {
+                case Types.BOOLEAN:
+                    return 0L != value;
+                case Types.TINYINT:
+                    return (byte) value;
+                case Types.SMALLINT:
+                    return (short) value;
+                case Types.INTEGER:
+                    return (int) value;
+                default:
+                    return value;
+            }
+        }
+    }
+    
+    private static final class DoubleColumn extends Column {
+        
+        private final List<double[]> chunks = new ArrayList<>();
+        
+        @Override
+        long newChunk() {
+            chunks.add(new double[CHUNK_SIZE]);
+            return 8L * CHUNK_SIZE;
+        }
+        
+        @Override
+        long appendValue(final ResultSet resultSet, final int columnIndex, final int chunkIndex, final int offset) throws SQLException {
+            chunks.get(chunkIndex)[offset] = resultSet.getDouble(columnIndex);
+            return 0L;
+        }
+        
+        @Override
+        Object getValue(final int chunkIndex, final int offset) {
+            return chunks.get(chunkIndex)[offset];
+        }
+    }
+    
+    private static final class StringColumn extends Column {
+        
+        private static final int INITIAL_CHUNK_BYTES = 16 * CHUNK_SIZE;
+        
+        private final List<byte[]> chunks = new ArrayList<>();
+        
+        private final List<int[]> chunkEnds = new ArrayList<>();
+        
+        @Override
+        long newChunk() {
+            chunks.add(new byte[INITIAL_CHUNK_BYTES]);
+            chunkEnds.add(new int[CHUNK_SIZE]);
+            return INITIAL_CHUNK_BYTES + 4L * CHUNK_SIZE;
+        }
+        
+        @Override
+        long appendValue(final ResultSet resultSet, final int columnIndex, final int chunkIndex, final int offset) throws SQLException {
+            String value = resultSet.getString(columnIndex);
+            int[] ends = chunkEnds.get(chunkIndex);
+            int start = 0 == offset ? 0 : ends[offset - 1];
+            if (null == value) {
+                ends[offset] = start;
+                return 0L;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            byte[] chunk = chunks.get(chunkIndex);
+            long result = 0L;
+            if (start + bytes.length > chunk.length) {
+                byte[] newChunk = new byte[Math.max(chunk.length * 2, start + bytes.length)];
+                System.arraycopy(chunk, 0, newChunk, 0, start);
+                result = newChunk.length - chunk.length;
+                chunk = newChunk;
+                chunks.set(chunkIndex, chunk);
+            }
+            System.arraycopy(bytes, 0, chunk, start, bytes.length);
+            ends[offset] = start + bytes.length;
+            return result;
+        }
+        
+        @Override
+        Object getValue(final int chunkIndex, final int offset) {
+            int[] ends = chunkEnds.get(chunkIndex);
+            int start = 0 == offset ? 0 : ends[offset - 1];
+            return new String(chunks.get(chunkIndex), start, ends[offset] - start, StandardCharsets.UTF_8);
+        }
+    }
+    
+    private static final class ObjectColumn extends Column {
+        
+        private static final long ESTIMATED_OBJECT_BYTES = 32L;
+        
+        private final List<Object[]> chunks = new ArrayList<>();
+        
+        @Override
+        long newChunk() {
+            chunks.add(new Object[CHUNK_SIZE]);
+            return 8L * CHUNK_SIZE;
+        }
+        
+        @Override
+        long appendValue(final ResultSet resultSet, final int columnIndex, final int chunkIndex, final int offset) throws SQLException {
+            Object value = QueryResultUtil.getValueByColumnType(resultSet, columnIndex);
+            chunks.get(chunkIndex)[offset] = value;
+            if (null == value) {
+                return 0L;
+            }
+            return value instanceof byte[] ? ESTIMATED_OBJECT_BYTES + ((byte[]) value).length : ESTIMATED_OBJECT_BYTES;
+        }
+        
+        @Override
+        Object getValue(final int chunkIndex, final int offset) {
+            return chunks.get(chunkIndex)[offset];
+        }
+    }
+}
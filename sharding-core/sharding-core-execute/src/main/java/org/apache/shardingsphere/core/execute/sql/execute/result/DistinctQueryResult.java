@@ -27,19 +27,28 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.execute.sql.execute.row.QueryRow;
+import org.apache.shardingsphere.core.execute.sql.execute.spill.ExternalSorter;
+import org.apache.shardingsphere.core.execute.sql.execute.spill.SpillKeyComparator;
+import org.apache.shardingsphere.core.execute.sql.execute.spill.SpillSizeEstimator;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 /**
@@ -50,7 +59,7 @@ import java.util.Set;
  */
 @RequiredArgsConstructor
 @Getter(AccessLevel.PROTECTED)
-public class DistinctQueryResult implements QueryResult {
+public class DistinctQueryResult implements QueryResult, Closeable {
     
     private final Multimap<String, Integer> columnLabelAndIndexMap;
     
@@ -58,13 +67,35 @@ public class DistinctQueryResult implements QueryResult {
     
     private final Iterator<QueryRow> resultData;
     
+    @Getter(AccessLevel.NONE)
+    private final Collection<ExternalSorter<Object[]>> sorters = new LinkedList<>();
+    
+    @Getter(AccessLevel.NONE)
+    private long bytesInMemory;
+    
     private QueryRow currentRow;
     
-    @SneakyThrows
     public DistinctQueryResult(final Collection<QueryResult> queryResults, final List<String> distinctColumnLabels) {
+        this(queryResults, distinctColumnLabels, 0L, null);
+    }
+    
+    /**
+     * Constructor.
+     *
+     * <p>Distinct rows are spilled to sorted temporary files once their estimated bytes reach max bytes in memory, zero or negative value means never spill.
+     * Spilled rows are iterated in order of row comparator, or in order of distinct columns if row comparator is null.</p>
+     *
+     * @param queryResults query results
+     * @param distinctColumnLabels distinct column labels
+     * @param maxBytesInMemory max bytes in memory
+     * @param rowComparator comparator for order of spilled rows
+     */
+    @SneakyThrows
+    public DistinctQueryResult(final Collection<QueryResult> queryResults, final List<String> distinctColumnLabels,
+                               final long maxBytesInMemory, final Comparator<Object[]> rowComparator) {
         this.columnLabelAndIndexMap = getColumnLabelAndIndexMap(queryResults.iterator().next());
         this.columnCaseSensitive = getColumnCaseSensitive(queryResults.iterator().next());
-        resultData = getResultData(queryResults, distinctColumnLabels);
+        resultData = getResultData(queryResults, distinctColumnLabels, maxBytesInMemory, rowComparator);
     }
     
     @SneakyThrows
@@ -86,30 +117,89 @@ public class DistinctQueryResult implements QueryResult {
     }
     
     @SneakyThrows
-    private Iterator<QueryRow> getResultData(final Collection<QueryResult> queryResults, final List<String> distinctColumnLabels) {
+    private Iterator<QueryRow> getResultData(final Collection<QueryResult> queryResults, final List<String> distinctColumnLabels,
+                                             final long maxBytesInMemory, final Comparator<Object[]> rowComparator) {
         Set<QueryRow> result = new LinkedHashSet<>();
-        List<Integer> distinctColumnIndexes = Lists.transform(distinctColumnLabels, new Function<String, Integer>() {
+        final List<Integer> distinctColumnIndexes = new ArrayList<>(Lists.transform(distinctColumnLabels, new Function<String, Integer>() {
             
             @Override
             public Integer apply(final String input) {
                 return getColumnIndex(input);
             }
-        });
+        }));
+        SpillKeyComparator keyComparator = new SpillKeyComparator(getSpillKeyIndexes(distinctColumnIndexes));
+        ExternalSorter<Object[]> keySorter = maxBytesInMemory > 0 ? new ExternalSorter<Object[]>(keyComparator, maxBytesInMemory) : null;
         for (QueryResult each : queryResults) {
-            fill(result, each, distinctColumnIndexes);
+            fill(result, each, distinctColumnIndexes, keySorter, maxBytesInMemory);
         }
-        return result.iterator();
+        if (null == keySorter || !keySorter.isSpilled()) {
+            return result.iterator();
+        }
+        sorters.add(keySorter);
+        spill(result, keySorter);
+        Iterator<Object[]> spilledRows = new DistinctRowIterator(keySorter.sorted(), keyComparator);
+        if (null != rowComparator) {
+            ExternalSorter<Object[]> rowSorter = new ExternalSorter<>(rowComparator, maxBytesInMemory);
+            sorters.add(rowSorter);
+            while (spilledRows.hasNext()) {
+                rowSorter.add(spilledRows.next());
+            }
+            keySorter.close();
+            spilledRows = rowSorter.sorted();
+        }
+        return Iterators.transform(spilledRows, new Function<Object[], QueryRow>() {
+            
+            @Override
+            public QueryRow apply(final Object[] input) {
+                return new QueryRow(Arrays.asList(input), distinctColumnIndexes);
+            }
+        });
+    }
+    
+    private int[] getSpillKeyIndexes(final List<Integer> distinctColumnIndexes) {
+        int[] result = new int[distinctColumnIndexes.isEmpty() ? columnLabelAndIndexMap.size() : distinctColumnIndexes.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = distinctColumnIndexes.isEmpty() ? i : distinctColumnIndexes.get(i) - 1;
+        }
+        return result;
     }
     
     @SneakyThrows
-    private void fill(final Set<QueryRow> resultData, final QueryResult queryResult, final List<Integer> distinctColumnIndexes) {
+    private void fill(final Set<QueryRow> resultData, final QueryResult queryResult, final List<Integer> distinctColumnIndexes,
+                      final ExternalSorter<Object[]> sorter, final long maxBytesInMemory) {
         while (queryResult.next()) {
             List<Object> rowData = new ArrayList<>(queryResult.getColumnCount());
             for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
                 rowData.add(queryResult.getValue(columnIndex, Object.class));
             }
-            resultData.add(new QueryRow(rowData, distinctColumnIndexes));
+            if (resultData.add(new QueryRow(rowData, distinctColumnIndexes)) && null != sorter) {
+                bytesInMemory += SpillSizeEstimator.estimate(rowData);
+                if (bytesInMemory >= maxBytesInMemory) {
+                    spill(resultData, sorter);
+                }
+            }
+        }
+    }
+    
+    @SneakyThrows
+    private void spill(final Set<QueryRow> resultData, final ExternalSorter<Object[]> sorter) {
+        for (QueryRow each : resultData) {
+            sorter.add(each.getRowData().toArray());
         }
+        sorter.spill();
+        resultData.clear();
+        bytesInMemory = 0L;
+    }
+    
+    /**
+     * Judge whether distinct rows are spilled to temporary files.
+     *
+     * <p>Spilled distinct query result should be merged as a stream, rather than divided to child ones in memory.</p>
+     *
+     * @return distinct rows spilled or not
+     */
+    public final boolean isSpilled() {
+        return !sorters.isEmpty();
     }
     
     /**
@@ -207,4 +297,51 @@ public class DistinctQueryResult implements QueryResult {
     protected Integer getColumnIndex(final String columnLabel) {
         return new ArrayList<>(columnLabelAndIndexMap.get(columnLabel)).get(0);
     }
+    
+    @Override
+    public final void close() throws IOException {
+        for (ExternalSorter<Object[]> each : sorters) {
+            each.close();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class DistinctRowIterator implements Iterator<Object[]> {
+        
+        private final Iterator<Object[]> sortedRows;
+        
+        private final SpillKeyComparator comparator;
+        
+        private Object[] nextRow;
+        
+        @Override
+        public boolean hasNext() {
+            if (null == nextRow && sortedRows.hasNext()) {
+                nextRow = sortedRows.next();
+            }
+            return null != nextRow;
+        }
+        
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object[] result = nextRow;
+            nextRow = null;
+            while (sortedRows.hasNext()) {
+                Object[] row = sortedRows.next();
+                if (0 != comparator.compare(result, row)) {
+                    nextRow = row;
+                    break;
+                }
+            }
+            return result;
+        }
+        
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.core.execute.sql.execute.result;
 
-import com.google.common.base.Optional;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.execute.sql.execute.row.QueryRow;
 import org.apache.shardingsphere.core.rule.EncryptRule;
@@ -51,22 +50,27 @@ public final class MemoryQueryResult implements QueryResult {
     
     private final QueryResultMetaData metaData;
     
+    private final ShardingEncryptor[] shardingEncryptors;
+    
     @SneakyThrows
     public MemoryQueryResult(final ResultSet resultSet, final ShardingRule shardingRule) {
         resultData = getResultData(resultSet);
         metaData = new QueryResultMetaData(resultSet.getMetaData(), shardingRule);
+        shardingEncryptors = getShardingEncryptors();
     }
     
     @SneakyThrows
     public MemoryQueryResult(final ResultSet resultSet, final EncryptRule encryptRule) {
         resultData = getResultData(resultSet);
         metaData = new QueryResultMetaData(resultSet.getMetaData(), encryptRule);
+        shardingEncryptors = getShardingEncryptors();
     }
     
     @SneakyThrows
     public MemoryQueryResult(final ResultSet resultSet) {
         resultData = getResultData(resultSet);
         metaData = new QueryResultMetaData(resultSet.getMetaData());
+        shardingEncryptors = getShardingEncryptors();
     }
         
     @SneakyThrows
@@ -82,6 +86,14 @@ public final class MemoryQueryResult implements QueryResult {
         return result.iterator();
     }
     
+    private ShardingEncryptor[] getShardingEncryptors() {
+        ShardingEncryptor[] result = new ShardingEncryptor[metaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = metaData.getShardingEncryptor(i + 1).orNull();
+        }
+        return result;
+    }
+    
     @Override
     public boolean next() {
         if (resultData.hasNext()) {
@@ -157,10 +169,9 @@ public final class MemoryQueryResult implements QueryResult {
         return decrypt(metaData.getColumnIndex(columnLabel), value);
     }
     
-    @SneakyThrows
     private Object decrypt(final int columnIndex, final Object value) {
-        Optional<ShardingEncryptor> shardingEncryptor = metaData.getShardingEncryptor(columnIndex);
-        return shardingEncryptor.isPresent() ? shardingEncryptor.get().decrypt(getCiphertext(value)) : value;
+        ShardingEncryptor shardingEncryptor = shardingEncryptors[columnIndex - 1];
+        return null == shardingEncryptor ? value : shardingEncryptor.decrypt(getCiphertext(value));
     }
     
     private String getCiphertext(final Object value) {
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.exception.ShardingException;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memory quota for query results of one query.
+ * 
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class QueryMemoryQuota {
+    
+    @Getter
+    private final long maxBytes;
+    
+    private final AtomicLong usedBytes = new AtomicLong();
+    
+    /**
+     * Allocate memory from quota.
+     *
+     * @param bytes bytes to be allocated
+     * @throws ShardingException if memory of query exceeds max bytes
+     */
+    public void allocate(final long bytes) {
+        long used = usedBytes.addAndGet(bytes);
+        if (used > maxBytes) {
+            throw new ShardingException("Memory of query results used %s bytes, exceeds max %s bytes.", used, maxBytes);
+        }
+    }
+    
+    /**
+     * Get used bytes.
+     *
+     * @return used bytes
+     */
+    public long getUsedBytes() {
+        return usedBytes.get();
+    }
+}
@@ -17,18 +17,61 @@
 
 package org.apache.shardingsphere.core.execute.sql.execute.result;
 
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.Collection;
 
 /**
  * Query result util.
  *
  * @author yangyi
  */
+@Slf4j
 public class QueryResultUtil {
     
+    /**
+     * Cancel stream query results which still have rows not consumed.
+     *
+     * <p>Cancellation is best effort, failure of one query result is logged and does not stop cancelling others.</p>
+     *
+     * @param queryResults query results
+     */
+    public static void cancelStreamQueryResults(final Collection<QueryResult> queryResults) {
+        for (QueryResult each : queryResults) {
+            if (each instanceof StreamQueryResult) {
+                try {
+                    ((StreamQueryResult) each).cancel();
+                } catch (final SQLException ex) {
+                    log.warn("Cancel stream query result failure: ", ex);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Close query results which hold resources, such as temporary files of spilled rows.
+     *
+     * @param queryResults query results
+     * @throws SQLException SQL exception
+     */
+    public static void closeQueryResults(final Collection<QueryResult> queryResults) throws SQLException {
+        for (QueryResult each : queryResults) {
+            if (each instanceof Closeable) {
+                try {
+                    ((Closeable) each).close();
+                } catch (final IOException ex) {
+                    throw new SQLException(ex);
+                }
+            }
+        }
+    }
+    
     /**
      * Get value.
      *
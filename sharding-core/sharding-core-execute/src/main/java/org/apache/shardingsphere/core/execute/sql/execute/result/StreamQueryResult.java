@@ -27,6 +27,7 @@ import java.io.InputStream;
 import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
@@ -44,6 +45,8 @@ public final class StreamQueryResult implements QueryResult {
     
     private final ResultSet resultSet;
     
+    private boolean finished;
+    
     @SneakyThrows
     public StreamQueryResult(final ResultSet resultSet, final ShardingRule shardingRule) {
         this.resultSet = resultSet;
@@ -64,7 +67,34 @@ public final class StreamQueryResult implements QueryResult {
     
     @Override
     public boolean next() throws SQLException {
-        return resultSet.next();
+        if (finished) {
+            return false;
+        }
+        boolean result = resultSet.next();
+        finished = !result;
+        return result;
+    }
+    
+    /**
+     * Cancel statement and close result set if rows are not consumed completely.
+     *
+     * <p>Rows not read yet are discarded, the backend database can stop producing them.</p>
+     *
+     * @throws SQLException SQL exception
+     */
+    public void cancel() throws SQLException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        try {
+            Statement statement = resultSet.getStatement();
+            if (null != statement) {
+                statement.cancel();
+            }
+        } finally {
+            resultSet.close();
+        }
     }
     
     @Override
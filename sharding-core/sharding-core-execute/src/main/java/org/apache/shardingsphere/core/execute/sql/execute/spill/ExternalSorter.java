@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.spill;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * External sorter.
+ *
+ * <p>Elements are buffered in memory until their estimated bytes reach max bytes in memory, then buffered elements are sorted and spilled to temporary file as a run.
+ * Runs are merged with k-way merge when sorted elements are iterated, each temporary file is deleted once its run has been read or the sorter is closed.</p>
+ *
+ * @author agent
+ *
+ * @param <T> type of element
+ */
+@RequiredArgsConstructor
+public final class ExternalSorter<T extends Serializable> implements Closeable {
+    
+    private static final String TEMP_FILE_PREFIX = "sharding-spill-";
+    
+    private final Comparator<? super T> comparator;
+    
+    private final long maxBytesInMemory;
+    
+    private final List<T> elements = new ArrayList<>();
+    
+    @Getter
+    private long bytesInMemory;
+    
+    private final Collection<File> runFiles = new LinkedList<>();
+    
+    private final Collection<RunReader<T>> runReaders = new LinkedList<>();
+    
+    /**
+     * Add element.
+     *
+     * @param element element
+     * @throws IOException IO exception
+     */
+    public void add(final T element) throws IOException {
+        elements.add(element);
+        bytesInMemory += SpillSizeEstimator.estimate(element);
+        if (bytesInMemory >= maxBytesInMemory) {
+            spill();
+        }
+    }
+    
+    /**
+     * Sort and spill elements in memory to temporary file.
+     *
+     * @throws IOException IO exception
+     */
+    public void spill() throws IOException {
+        if (elements.isEmpty()) {
+            return;
+        }
+        Collections.sort(elements, comparator);
+        File runFile = File.createTempFile(TEMP_FILE_PREFIX, ".run");
+        runFiles.add(runFile);
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(runFile)))) {
+            outputStream.writeInt(elements.size());
+            for (T each : elements) {
+                outputStream.writeObject(each);
+                outputStream.reset();
+            }
+        }
+        elements.clear();
+        bytesInMemory = 0L;
+    }
+    
+    /**
+     * Judge whether elements are spilled to temporary files.
+     *
+     * @return elements spilled or not
+     */
+    public boolean isSpilled() {
+        return !runFiles.isEmpty();
+    }
+    
+    /**
+     * Get sorted elements.
+     *
+     * @return iterator of sorted elements
+     * @throws IOException IO exception
+     */
+    public Iterator<T> sorted() throws IOException {
+        if (!isSpilled()) {
+            Collections.sort(elements, comparator);
+            return elements.iterator();
+        }
+        spill();
+        PriorityQueue<RunReader<T>> queue = new PriorityQueue<>(runFiles.size(), new Comparator<RunReader<T>>() {
+            
+            @Override
+            public int compare(final RunReader<T> o1, final RunReader<T> o2) {
+                return comparator.compare(o1.getCurrent(), o2.getCurrent());
+            }
+        });
+        for (File each : runFiles) {
+            RunReader<T> runReader = new RunReader<>(each);
+            runReaders.add(runReader);
+            if (runReader.next()) {
+                queue.add(runReader);
+            }
+        }
+        return new MergedIterator<>(queue);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        for (RunReader<T> each : runReaders) {
+            each.close();
+        }
+        runReaders.clear();
+        for (File each : runFiles) {
+            each.delete();
+        }
+        runFiles.clear();
+        elements.clear();
+        bytesInMemory = 0L;
+    }
+    
+    private static final class RunReader<T> implements Closeable {
+        
+        private final File runFile;
+        
+        private final ObjectInputStream inputStream;
+        
+        private int remaining;
+        
+        @Getter
+        private T current;
+        
+        private RunReader(final File runFile) throws IOException {
+            this.runFile = runFile;
+            inputStream = new ObjectInputStream(new BufferedInputStream(new FileInputStream(runFile)));
+            remaining = inputStream.readInt();
+        }
+        
+        @SuppressWarnings("unchecked")
+        private boolean next() throws IOException {
+            if (0 == remaining) {
+                current = null;
+                close();
+                return false;
+            }
+            remaining--;
+            try {
+                current = (T) inputStream.readObject();
+            } catch (final ClassNotFoundException ex) {
+                throw new IOException(ex);
+            }
+            return true;
+        }
+        
+        @Override
+        public void close() throws IOException {
+            try {
+                inputStream.close();
+            } finally {
+                runFile.delete();
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class MergedIterator<T> implements Iterator<T> {
+        
+        private final PriorityQueue<RunReader<T>> queue;
+        
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+        
+        @Override
+        public T next() {
+            RunReader<T> runReader = queue.poll();
+            if (null == runReader) {
+                throw new NoSuchElementException();
+            }
+            T result = runReader.getCurrent();
+            try {
+                if (runReader.next()) {
+                    queue.add(runReader);
+                }
+            } catch (final IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+            return result;
+        }
+        
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
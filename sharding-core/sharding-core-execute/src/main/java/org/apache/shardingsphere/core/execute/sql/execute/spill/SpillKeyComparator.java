@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.spill;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Comparator;
+
+/**
+ * Comparator for spilled rows, which compares key columns in natural order and nulls first.
+ *
+ * <p>Key values compare as zero only if they are equal by {@code equals}, the same way as distinct and group by keys in memory.
+ * So {@code 1.0} and {@code 1.00} in {@code BigDecimal} are different keys, and equal keys from different runs are adjacent after merge.</p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class SpillKeyComparator implements Comparator<Object[]> {
+    
+    private final int[] keyIndexes;
+    
+    @Override
+    public int compare(final Object[] o1, final Object[] o2) {
+        for (int each : keyIndexes) {
+            int result = compareValue(o1[each], o2[each]);
+            if (0 != result) {
+                return result;
+            }
+        }
+        return 0;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private int compareValue(final Object value1, final Object value2) {
+        if (null == value1) {
+            return null == value2 ? 0 : -1;
+        }
+        if (null == value2) {
+            return 1;
+        }
+        if (value1.equals(value2)) {
+            return 0;
+        }
+        if (value1.getClass() != value2.getClass()) {
+            return value1.getClass().getName().compareTo(value2.getClass().getName());
+        }
+        if (value1 instanceof Comparable) {
+            int result = ((Comparable<Object>) value1).compareTo(value2);
+            if (0 != result) {
+                return result;
+            }
+        }
+        return String.valueOf(value1).compareTo(String.valueOf(value2));
+    }
+}
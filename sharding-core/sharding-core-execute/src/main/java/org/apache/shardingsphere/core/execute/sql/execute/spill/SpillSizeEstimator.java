@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Size estimator for values kept in memory before spilled.
+ *
+ * <p>Sizes are estimated for value types returned by JDBC drivers, they bound memory of merging rather than measure it exactly.</p>
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillSizeEstimator {
+    
+    private static final long OBJECT_HEADER_BYTES = 16L;
+    
+    private static final long REFERENCE_BYTES = 8L;
+    
+    private static final long BIG_NUMBER_BYTES = 64L;
+    
+    /**
+     * Estimate bytes of value in memory.
+     *
+     * @param value value
+     * @return estimated bytes
+     */
+    public static long estimate(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return OBJECT_HEADER_BYTES * 2 + REFERENCE_BYTES + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_HEADER_BYTES + ((byte[]) value).length;
+        }
+        if (value instanceof Object[]) {
+            return estimateElements(Arrays.asList((Object[]) value));
+        }
+        if (value instanceof Collection) {
+            return estimateElements((Collection<?>) value);
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return BIG_NUMBER_BYTES;
+        }
+        return OBJECT_HEADER_BYTES + REFERENCE_BYTES;
+    }
+    
+    private static long estimateElements(final Collection<?> elements) {
+        long result = OBJECT_HEADER_BYTES + REFERENCE_BYTES * elements.size();
+        for (Object each : elements) {
+            result += estimate(each);
+        }
+        return result;
+    }
+}
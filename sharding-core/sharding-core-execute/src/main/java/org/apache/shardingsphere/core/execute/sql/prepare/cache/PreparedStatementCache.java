@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.prepare.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Cache of prepared statements created by database connections.
+ * 
+ * <p>Prepared statements are cached by key, which decides how to create them.</p>
+ * 
+ * <p>Prepared statement is taken out of cache when acquired and put back when released, so it will not be shared by statements at the same time.
+ * Settings changed by previous user, such as max rows, query timeout and fetch size, are restored to the ones when created before put back.</p>
+ * 
+ * @author agent
+ * 
+ * @param <K> type of prepared statement key
+ */
+@RequiredArgsConstructor
+public final class PreparedStatementCache<K extends PreparedStatementKey> {
+    
+    private final int maximumSize;
+    
+    private final Map<K, CachedPreparedStatement<K>> idleStatements = new LinkedHashMap<>(16, 0.75f, true);
+    
+    private final Map<PreparedStatement, CachedPreparedStatement<K>> usedStatements = new IdentityHashMap<>();
+    
+    /**
+     * Acquire prepared statement, create it if absent.
+     * 
+     * @param key prepared statement key
+     * @return prepared statement
+     * @throws SQLException SQL exception
+     */
+    public PreparedStatement acquire(final K key) throws SQLException {
+        CachedPreparedStatement<K> cachedStatement;
+        synchronized (this) {
+            cachedStatement = idleStatements.remove(key);
+        }
+        if (null == cachedStatement || cachedStatement.getStatement().isClosed()) {
+            PreparedStatement statement = key.createPreparedStatement();
+            cachedStatement = new CachedPreparedStatement<>(key, statement, new StatementSettings(statement));
+        }
+        synchronized (this) {
+            usedStatements.put(cachedStatement.getStatement(), cachedStatement);
+        }
+        return cachedStatement.getStatement();
+    }
+    
+    /**
+     * Release statement.
+     * 
+     * <p>Statement acquired from this cache will be reset and put back, other statement will be closed.</p>
+     * 
+     * @param statement statement to be released
+     * @throws SQLException SQL exception
+     */
+    public void release(final Statement statement) throws SQLException {
+        CachedPreparedStatement<K> cachedStatement;
+        synchronized (this) {
+            cachedStatement = usedStatements.remove(statement);
+        }
+        if (null == cachedStatement || !reset(cachedStatement)) {
+            statement.close();
+            return;
+        }
+        PreparedStatement evictedStatement = null;
+        synchronized (this) {
+            if (idleStatements.containsKey(cachedStatement.getKey())) {
+                evictedStatement = cachedStatement.getStatement();
+            } else {
+                idleStatements.put(cachedStatement.getKey(), cachedStatement);
+                evictedStatement = pollEldest();
+            }
+        }
+        if (null != evictedStatement) {
+            evictedStatement.close();
+        }
+    }
+    
+    private boolean reset(final CachedPreparedStatement<K> cachedStatement) {
+        PreparedStatement statement = cachedStatement.getStatement();
+        try {
+            if (statement.isClosed()) {
+                return false;
+            }
+            ResultSet resultSet = statement.getResultSet();
+            if (null != resultSet) {
+                resultSet.close();
+            }
+            statement.clearParameters();
+            statement.clearBatch();
+            cachedStatement.getSettings().restore(statement);
+            statement.clearWarnings();
+            return true;
+        } catch (final SQLException ex) {
+            return false;
+        }
+    }
+    
+    private PreparedStatement pollEldest() {
+        if (idleStatements.size() <= maximumSize) {
+            return null;
+        }
+        Iterator<Entry<K, CachedPreparedStatement<K>>> iterator = idleStatements.entrySet().iterator();
+        PreparedStatement result = iterator.next().getValue().getStatement();
+        iterator.remove();
+        return result;
+    }
+    
+    /**
+     * Close all idle statements and forget all used statements.
+     * 
+     * <p>Exceptions are ignored because statements will be closed with their connections.</p>
+     */
+    public void clear() {
+        Collection<CachedPreparedStatement<K>> statements;
+        synchronized (this) {
+            statements = new ArrayList<>(idleStatements.values());
+            idleStatements.clear();
+            usedStatements.clear();
+        }
+        for (CachedPreparedStatement<K> each : statements) {
+            try {
+                each.getStatement().close();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+    
+    /**
+     * Get size of idle statements.
+     * 
+     * @return size of idle statements
+     */
+    public synchronized int size() {
+        return idleStatements.size();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CachedPreparedStatement<K extends PreparedStatementKey> {
+        
+        private final K key;
+        
+        private final PreparedStatement statement;
+        
+        private final StatementSettings settings;
+    }
+    
+    private static final class StatementSettings {
+        
+        private final int maxRows;
+        
+        private final int queryTimeout;
+        
+        private final int fetchSize;
+        
+        private final int maxFieldSize;
+        
+        private final boolean poolable;
+        
+        private StatementSettings(final PreparedStatement statement) throws SQLException {
+            maxRows = statement.getMaxRows();
+            queryTimeout = statement.getQueryTimeout();
+            fetchSize = statement.getFetchSize();
+            maxFieldSize = statement.getMaxFieldSize();
+            poolable = statement.isPoolable();
+        }
+        
+        private void restore(final PreparedStatement statement) throws SQLException {
+            if (maxRows != statement.getMaxRows()) {
+                statement.setMaxRows(maxRows);
+            }
+            if (queryTimeout != statement.getQueryTimeout()) {
+                statement.setQueryTimeout(queryTimeout);
+            }
+            if (fetchSize != statement.getFetchSize()) {
+                statement.setFetchSize(fetchSize);
+            }
+            if (maxFieldSize != statement.getMaxFieldSize()) {
+                statement.setMaxFieldSize(maxFieldSize);
+            }
+            if (poolable != statement.isPoolable()) {
+                statement.setPoolable(poolable);
+            }
+            statement.setEscapeProcessing(true);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata;
+
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.spi.database.DataSourceMetaData;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class DataSourceMetaDataCacheTest {
+    
+    @Mock
+    private Connection connection;
+    
+    @Mock
+    private DatabaseMetaData databaseMetaData;
+    
+    private final DataSourceMetaDataCache dataSourceMetaDataCache = new DataSourceMetaDataCache(DatabaseTypes.getActualDatabaseType("MySQL"));
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getURL()).thenReturn("jdbc:mysql://127.0.0.1:3306/ds_0");
+    }
+    
+    @Test
+    public void assertGetDataSourceMetaDataFromCache() throws SQLException {
+        DataSourceMetaData actual = dataSourceMetaDataCache.getDataSourceMetaData("ds_0", connection);
+        assertThat(actual.getHostName(), is("127.0.0.1"));
+        assertThat(actual.getPort(), is(3306));
+        assertThat(dataSourceMetaDataCache.getDataSourceMetaData("ds_0", connection), sameInstance(actual));
+        verify(databaseMetaData, times(1)).getURL();
+    }
+    
+    @Test
+    public void assertGetDataSourceMetaDataAfterClear() throws SQLException {
+        dataSourceMetaDataCache.getDataSourceMetaData("ds_0", connection);
+        dataSourceMetaDataCache.clear();
+        dataSourceMetaDataCache.getDataSourceMetaData("ds_0", connection);
+        verify(databaseMetaData, times(2)).getURL();
+    }
+}
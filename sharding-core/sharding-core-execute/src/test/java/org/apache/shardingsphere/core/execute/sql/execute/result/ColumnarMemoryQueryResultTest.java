@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ColumnarMemoryQueryResultTest {
+    
+    @Test
+    public void assertGetValue() throws SQLException {
+        QueryMemoryQuota memoryQuota = new QueryMemoryQuota(Long.MAX_VALUE);
+        ColumnarMemoryQueryResult actual = new ColumnarMemoryQueryResult(getResultSet(), memoryQuota);
+        assertThat(actual.getColumnCount(), is(3));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 10));
+        assertThat(actual.getValue("name", Object.class), is((Object) "test_中文"));
+        assertThat(actual.getValue(3, Object.class), is((Object) new BigDecimal("1.5")));
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, Object.class));
+        assertNull(actual.getValue(2, Object.class));
+        assertNull(actual.getValue(3, Object.class));
+        assertFalse(actual.next());
+        assertTrue(actual.getUsedBytes() > 0L);
+        assertThat(memoryQuota.getUsedBytes(), is(actual.getUsedBytes()));
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertExceedMemoryQuota() throws SQLException {
+        new ColumnarMemoryQueryResult(getResultSet(), new QueryMemoryQuota(100L));
+    }
+    
+    private ResultSet getResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(3);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("id");
+        when(resultSetMetaData.getColumnLabel(2)).thenReturn("name");
+        when(resultSetMetaData.getColumnLabel(3)).thenReturn("amount");
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+        when(resultSetMetaData.getColumnType(3)).thenReturn(Types.DECIMAL);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        when(result.next()).thenReturn(true, true, false);
+        when(result.getInt(1)).thenReturn(10, 0);
+        when(result.getString(2)).thenReturn("test_中文", null);
+        when(result.getBigDecimal(3)).thenReturn(new BigDecimal("1.5"), null);
+        when(result.wasNull()).thenReturn(false, false, false, true, true, true);
+        return result;
+    }
+}
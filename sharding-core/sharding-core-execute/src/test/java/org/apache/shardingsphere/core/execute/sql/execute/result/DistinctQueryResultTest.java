@@ -26,12 +26,14 @@ import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.sql.SQLException;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -83,6 +85,41 @@ public class DistinctQueryResultTest {
         assertFalse(distinctQueryResult.next());
     }
     
+    @Test
+    public void assertNextWithSpill() throws IOException {
+        DistinctQueryResult actual = new DistinctQueryResult(getQueryResults(), Collections.singletonList("order_id"), 1L, null);
+        assertTrue(actual.isSpilled());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 10));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 20));
+        assertFalse(actual.next());
+        actual.close();
+    }
+    
+    @Test
+    public void assertNextWithSpillInOrderOfRowComparator() throws IOException {
+        DistinctQueryResult actual = new DistinctQueryResult(getQueryResults(), Collections.singletonList("order_id"), 1L, new Comparator<Object[]>() {
+            
+            @Override
+            public int compare(final Object[] o1, final Object[] o2) {
+                return ((Integer) o2[0]).compareTo((Integer) o1[0]);
+            }
+        });
+        assertTrue(actual.isSpilled());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 20));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 10));
+        assertFalse(actual.next());
+        actual.close();
+    }
+    
+    @Test
+    public void assertNotSpilledUnderMaxBytesInMemory() {
+        assertFalse(new DistinctQueryResult(getQueryResults(), Collections.singletonList("order_id"), 1024L, null).isSpilled());
+    }
+    
     @Test
     public void assertGetValueByColumnIndex() {
         distinctQueryResult.next();
@@ -31,15 +31,20 @@ import java.sql.Clob;
 import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.Arrays;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -57,6 +62,21 @@ public class QueryResultUtilTest {
         when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
     }
     
+    @Test
+    public void assertCancelStreamQueryResultsWhenCancelFailed() throws SQLException {
+        Statement failedStatement = mock(Statement.class);
+        doThrow(new SQLException("cancel failed")).when(failedStatement).cancel();
+        when(resultSet.getStatement()).thenReturn(failedStatement);
+        ResultSet otherResultSet = mock(ResultSet.class);
+        when(otherResultSet.getMetaData()).thenReturn(resultSetMetaData);
+        Statement otherStatement = mock(Statement.class);
+        when(otherResultSet.getStatement()).thenReturn(otherStatement);
+        QueryResultUtil.cancelStreamQueryResults(Arrays.<QueryResult>asList(new StreamQueryResult(resultSet), new StreamQueryResult(otherResultSet)));
+        verify(resultSet).close();
+        verify(otherStatement).cancel();
+        verify(otherResultSet).close();
+    }
+    
     @Test
     @SneakyThrows
     public void assertGetValueByBit() {
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.spill;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ExternalSorterTest {
+    
+    @Test
+    public void assertSortedWithoutSpill() throws IOException {
+        try (ExternalSorter<Object[]> sorter = new ExternalSorter<>(new SpillKeyComparator(new int[] {0}), 1024L)) {
+            sorter.add(new Object[] {3});
+            sorter.add(new Object[] {1});
+            sorter.add(new Object[] {2});
+            assertFalse(sorter.isSpilled());
+            assertSorted(sorter.sorted(), 1, 2, 3);
+        }
+    }
+    
+    @Test
+    public void assertSortedWithSpill() throws IOException {
+        try (ExternalSorter<Object[]> sorter = new ExternalSorter<>(new SpillKeyComparator(new int[] {0}), 100L)) {
+            sorter.add(new Object[] {5});
+            sorter.add(new Object[] {3});
+            sorter.add(new Object[] {null});
+            sorter.add(new Object[] {4});
+            sorter.add(new Object[] {1});
+            assertTrue(sorter.isSpilled());
+            assertSorted(sorter.sorted(), null, 1, 3, 4, 5);
+        }
+    }
+    
+    @Test
+    public void assertBytesInMemoryBounded() throws IOException {
+        try (ExternalSorter<Object[]> sorter = new ExternalSorter<>(new SpillKeyComparator(new int[] {0}), 256L)) {
+            for (int i = 1000; i > 0; i--) {
+                sorter.add(new Object[] {i});
+                assertTrue(sorter.getBytesInMemory() < 256L);
+            }
+            assertTrue(sorter.isSpilled());
+            Iterator<Object[]> actual = sorter.sorted();
+            for (int i = 1; i <= 1000; i++) {
+                assertThat(actual.next()[0], is((Object) i));
+            }
+            assertFalse(actual.hasNext());
+        }
+    }
+    
+    @Test
+    public void assertRunFilesDeletedAfterRead() throws IOException, ReflectiveOperationException {
+        try (ExternalSorter<Object[]> sorter = new ExternalSorter<>(new SpillKeyComparator(new int[] {0}), 90L)) {
+            sorter.add(new Object[] {3});
+            sorter.add(new Object[] {2});
+            sorter.add(new Object[] {1});
+            Iterator<Object[]> actual = sorter.sorted();
+            Collection<File> runFiles = getRunFiles(sorter);
+            assertThat(runFiles.size(), is(2));
+            assertAllExist(runFiles, true);
+            assertSorted(actual, 1, 2, 3);
+            assertAllExist(runFiles, false);
+        }
+    }
+    
+    @Test
+    public void assertRunFilesDeletedOnClose() throws IOException, ReflectiveOperationException {
+        ExternalSorter<Object[]> sorter = new ExternalSorter<>(new SpillKeyComparator(new int[] {0}), 90L);
+        sorter.add(new Object[] {3});
+        sorter.add(new Object[] {2});
+        sorter.add(new Object[] {1});
+        Iterator<Object[]> actual = sorter.sorted();
+        Collection<File> runFiles = new ArrayList<>(getRunFiles(sorter));
+        assertThat(actual.next()[0], is((Object) 1));
+        sorter.close();
+        assertAllExist(runFiles, false);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Collection<File> getRunFiles(final ExternalSorter<Object[]> sorter) throws ReflectiveOperationException {
+        Field field = ExternalSorter.class.getDeclaredField("runFiles");
+        field.setAccessible(true);
+        return (Collection<File>) field.get(sorter);
+    }
+    
+    private void assertAllExist(final Collection<File> files, final boolean expected) {
+        for (File each : files) {
+            assertThat(each.exists(), is(expected));
+        }
+    }
+    
+    private void assertSorted(final Iterator<Object[]> actual, final Object... expected) {
+        for (Object each : expected) {
+            assertTrue(actual.hasNext());
+            assertThat(actual.next()[0], is(each));
+        }
+        assertFalse(actual.hasNext());
+    }
+}
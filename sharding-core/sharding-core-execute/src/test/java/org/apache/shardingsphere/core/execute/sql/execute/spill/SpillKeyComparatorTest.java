@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.spill;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillKeyComparatorTest {
+    
+    private final SpillKeyComparator comparator = new SpillKeyComparator(new int[] {1});
+    
+    @Test
+    public void assertCompareEqualKeys() {
+        assertThat(comparator.compare(new Object[] {1, "a"}, new Object[] {2, "a"}), is(0));
+    }
+    
+    @Test
+    public void assertCompareWithNull() {
+        assertTrue(comparator.compare(new Object[] {1, null}, new Object[] {1, "a"}) < 0);
+        assertTrue(comparator.compare(new Object[] {1, "a"}, new Object[] {1, null}) > 0);
+        assertThat(comparator.compare(new Object[] {1, null}, new Object[] {1, null}), is(0));
+    }
+    
+    @Test
+    public void assertCompareBigDecimalWithDifferentScales() {
+        Object[] row1 = {1, new BigDecimal("1.0")};
+        Object[] row2 = {1, new BigDecimal("1.00")};
+        assertTrue(comparator.compare(row1, row2) < 0);
+        assertTrue(comparator.compare(row2, row1) > 0);
+        assertThat(comparator.compare(row1, new Object[] {1, new BigDecimal("1.0")}), is(0));
+    }
+    
+    @Test
+    public void assertCompareDifferentClasses() {
+        assertTrue(comparator.compare(new Object[] {1, 1}, new Object[] {1, 1L}) < 0);
+    }
+}
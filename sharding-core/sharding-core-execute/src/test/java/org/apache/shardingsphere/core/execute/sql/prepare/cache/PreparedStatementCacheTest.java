@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.prepare.cache;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PreparedStatementCacheTest {
+    
+    @Mock
+    private PreparedStatementKey key;
+    
+    private final PreparedStatementCache<PreparedStatementKey> preparedStatementCache = new PreparedStatementCache<>(1);
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(key.createPreparedStatement()).thenReturn(mock(PreparedStatement.class), mock(PreparedStatement.class));
+    }
+    
+    @Test
+    public void assertAcquireAfterRelease() throws SQLException {
+        PreparedStatement expected = preparedStatementCache.acquire(key);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(expected.getResultSet()).thenReturn(resultSet);
+        preparedStatementCache.release(expected);
+        verify(resultSet).close();
+        verify(expected).clearParameters();
+        verify(expected, never()).close();
+        assertThat(preparedStatementCache.size(), is(1));
+        assertThat(preparedStatementCache.acquire(key), sameInstance(expected));
+        assertThat(preparedStatementCache.size(), is(0));
+    }
+    
+    @Test
+    public void assertReleaseWithSettingsReset() throws SQLException {
+        PreparedStatement expected = preparedStatementCache.acquire(key);
+        when(expected.getMaxRows()).thenReturn(10);
+        when(expected.getQueryTimeout()).thenReturn(30);
+        when(expected.getFetchSize()).thenReturn(100);
+        when(expected.getMaxFieldSize()).thenReturn(1024);
+        when(expected.isPoolable()).thenReturn(true);
+        preparedStatementCache.release(expected);
+        verify(expected).setMaxRows(0);
+        verify(expected).setQueryTimeout(0);
+        verify(expected).setFetchSize(0);
+        verify(expected).setMaxFieldSize(0);
+        verify(expected).setPoolable(false);
+        verify(expected).setEscapeProcessing(true);
+        verify(expected).clearWarnings();
+        assertThat(preparedStatementCache.acquire(key), sameInstance(expected));
+    }
+    
+    @Test
+    public void assertReleaseWithoutSettingsChanged() throws SQLException {
+        PreparedStatement expected = preparedStatementCache.acquire(key);
+        preparedStatementCache.release(expected);
+        verify(expected, never()).setMaxRows(anyInt());
+        verify(expected, never()).setQueryTimeout(anyInt());
+        verify(expected, never()).setFetchSize(anyInt());
+        verify(expected, never()).setMaxFieldSize(anyInt());
+        verify(expected, never()).setPoolable(anyBoolean());
+        assertThat(preparedStatementCache.size(), is(1));
+    }
+    
+    @Test
+    public void assertAcquireWithoutRelease() throws SQLException {
+        assertThat(preparedStatementCache.acquire(key), not(sameInstance(preparedStatementCache.acquire(key))));
+    }
+    
+    @Test
+    public void assertReleaseWithEviction() throws SQLException {
+        PreparedStatementKey otherKey = mock(PreparedStatementKey.class);
+        when(otherKey.createPreparedStatement()).thenReturn(mock(PreparedStatement.class));
+        PreparedStatement evicted = preparedStatementCache.acquire(key);
+        PreparedStatement cached = preparedStatementCache.acquire(otherKey);
+        preparedStatementCache.release(evicted);
+        preparedStatementCache.release(cached);
+        verify(evicted).close();
+        verify(cached, never()).close();
+        assertThat(preparedStatementCache.size(), is(1));
+    }
+    
+    @Test
+    public void assertReleaseClosedStatement() throws SQLException {
+        PreparedStatement statement = preparedStatementCache.acquire(key);
+        when(statement.isClosed()).thenReturn(true);
+        preparedStatementCache.release(statement);
+        assertThat(preparedStatementCache.size(), is(0));
+    }
+    
+    @Test
+    public void assertReleaseNotCachedStatement() throws SQLException {
+        Statement statement = mock(Statement.class);
+        preparedStatementCache.release(statement);
+        verify(statement).close();
+        assertThat(preparedStatementCache.size(), is(0));
+    }
+    
+    @Test
+    public void assertClear() throws SQLException {
+        PreparedStatement statement = preparedStatementCache.acquire(key);
+        preparedStatementCache.release(statement);
+        preparedStatementCache.clear();
+        verify(statement).close();
+        assertThat(preparedStatementCache.size(), is(0));
+    }
+}
@@ -54,8 +54,25 @@ public final class MergeEngineFactory {
      */
     public static MergeEngine newInstance(final DatabaseType databaseType, final ShardingRule shardingRule,
                                           final SQLRouteResult routeResult, final ShardingTableMetaData shardingTableMetaData, final List<QueryResult> queryResults) throws SQLException {
+        return newInstance(databaseType, shardingRule, routeResult, shardingTableMetaData, queryResults, 0L);
+    }
+    
+    /**
+     * Create merge engine instance.
+     *
+     * @param databaseType database type
+     * @param shardingRule sharding rule
+     * @param routeResult SQL route result
+     * @param shardingTableMetaData sharding table meta Data
+     * @param queryResults query results
+     * @param maxMergeBytesInMemory max estimated bytes of rows kept in memory by group by and distinct merging, zero means never spill to disk
+     * @return merge engine instance
+     * @throws SQLException SQL exception
+     */
+    public static MergeEngine newInstance(final DatabaseType databaseType, final ShardingRule shardingRule, final SQLRouteResult routeResult,
+                                          final ShardingTableMetaData shardingTableMetaData, final List<QueryResult> queryResults, final long maxMergeBytesInMemory) throws SQLException {
         if (routeResult.getOptimizedStatement() instanceof ShardingSelectOptimizedStatement) {
-            return new DQLMergeEngine(databaseType, routeResult, queryResults);
+            return new DQLMergeEngine(databaseType, routeResult, queryResults, maxMergeBytesInMemory);
         } 
         if (routeResult.getOptimizedStatement().getSQLStatement() instanceof DALStatement) {
             return new DALMergeEngine(shardingRule, queryResults, (DALStatement) routeResult.getOptimizedStatement().getSQLStatement(), shardingTableMetaData);
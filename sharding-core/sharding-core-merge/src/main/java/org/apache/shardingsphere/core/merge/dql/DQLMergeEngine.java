@@ -26,7 +26,9 @@ import org.apache.shardingsphere.core.execute.sql.execute.result.DistinctQueryRe
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergeEngine;
 import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.core.merge.dql.groupby.GroupByRowComparator;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.iterator.IteratorStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.orderby.OrderByStreamMergedResult;
@@ -41,6 +43,8 @@ import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -59,22 +63,32 @@ public final class DQLMergeEngine implements MergeEngine {
     
     private final ShardingSelectOptimizedStatement optimizedStatement;
     
+    private final long maxMergeBytesInMemory;
+    
+    private final boolean isSingleQueryResult;
+    
     private final List<QueryResult> queryResults;
     
     @Getter
     private final Map<String, Integer> columnLabelIndexMap;
     
     public DQLMergeEngine(final DatabaseType databaseType, final SQLRouteResult routeResult, final List<QueryResult> queryResults) throws SQLException {
+        this(databaseType, routeResult, queryResults, 0L);
+    }
+    
+    public DQLMergeEngine(final DatabaseType databaseType, final SQLRouteResult routeResult, final List<QueryResult> queryResults, final long maxMergeBytesInMemory) throws SQLException {
         this.databaseType = databaseType;
         this.routeResult = routeResult;
         this.optimizedStatement = (ShardingSelectOptimizedStatement) routeResult.getOptimizedStatement();
+        this.maxMergeBytesInMemory = maxMergeBytesInMemory;
+        isSingleQueryResult = 1 == queryResults.size();
         this.queryResults = getRealQueryResults(queryResults);
         columnLabelIndexMap = getColumnLabelIndexMap(this.queryResults.get(0));
     }
     
-    private List<QueryResult> getRealQueryResults(final List<QueryResult> queryResults) {
+    private List<QueryResult> getRealQueryResults(final List<QueryResult> queryResults) throws SQLException {
         List<QueryResult> result = queryResults;
-        if (1 == result.size()) {
+        if (isSingleQueryResult) {
             return result;
         }
         List<AggregationDistinctSelectItem> aggregationDistinctSelectItems = optimizedStatement.getSelectItems().getAggregationDistinctSelectItems();
@@ -82,11 +96,43 @@ public final class DQLMergeEngine implements MergeEngine {
             result = getDividedQueryResults(new AggregationDistinctQueryResult(queryResults, aggregationDistinctSelectItems));
         }
         if (isDistinctRowSelectItems()) {
-            result = getDividedQueryResults(new DistinctQueryResult(queryResults, optimizedStatement.getSelectItems().getColumnLabels()));
+            DistinctQueryResult distinctQueryResult = createDistinctQueryResult(queryResults);
+            result = distinctQueryResult.isSpilled() ? Collections.<QueryResult>singletonList(distinctQueryResult) : getDividedQueryResults(distinctQueryResult);
         }
         return result.isEmpty() ? queryResults : result;
     }
     
+    private DistinctQueryResult createDistinctQueryResult(final List<QueryResult> queryResults) throws SQLException {
+        List<String> distinctColumnLabels = optimizedStatement.getSelectItems().getColumnLabels();
+        if (0 >= maxMergeBytesInMemory || !optimizedStatement.getSelectItems().getAggregationDistinctSelectItems().isEmpty()) {
+            return new DistinctQueryResult(queryResults, distinctColumnLabels);
+        }
+        return new DistinctQueryResult(queryResults, distinctColumnLabels, maxMergeBytesInMemory, getSpilledRowComparator(queryResults.get(0)));
+    }
+    
+    private Comparator<Object[]> getSpilledRowComparator(final QueryResult queryResult) throws SQLException {
+        if (optimizedStatement.getOrderBy().getItems().isEmpty()) {
+            return null;
+        }
+        optimizedStatement.setIndexForItems(getColumnLabelIndexMap(queryResult));
+        final GroupByRowComparator groupByRowComparator = new GroupByRowComparator(optimizedStatement, getValueCaseSensitive(queryResult));
+        return new Comparator<Object[]>() {
+            
+            @Override
+            public int compare(final Object[] o1, final Object[] o2) {
+                return groupByRowComparator.compare(new MemoryQueryResultRow(o1), new MemoryQueryResultRow(o2));
+            }
+        };
+    }
+    
+    private List<Boolean> getValueCaseSensitive(final QueryResult queryResult) throws SQLException {
+        List<Boolean> result = Lists.newArrayList(false);
+        for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
+            result.add(queryResult.isCaseSensitive(columnIndex));
+        }
+        return result;
+    }
+    
     private List<QueryResult> getDividedQueryResults(final DistinctQueryResult distinctQueryResult) {
         return Lists.transform(distinctQueryResult.divide(), new Function<DistinctQueryResult, QueryResult>() {
             
@@ -111,7 +157,7 @@ public final class DQLMergeEngine implements MergeEngine {
     
     @Override
     public MergedResult merge() throws SQLException {
-        if (1 == queryResults.size()) {
+        if (isSingleQueryResult) {
             return new IteratorStreamMergedResult(queryResults);
         }
         optimizedStatement.setIndexForItems(columnLabelIndexMap);
@@ -130,23 +176,24 @@ public final class DQLMergeEngine implements MergeEngine {
     
     private MergedResult getGroupByMergedResult() throws SQLException {
         return optimizedStatement.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, optimizedStatement) : new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, optimizedStatement);
+                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, optimizedStatement)
+                : new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, optimizedStatement, maxMergeBytesInMemory);
     }
     
     private MergedResult decorate(final MergedResult mergedResult) throws SQLException {
         Pagination pagination = ((ShardingSelectOptimizedStatement) routeResult.getOptimizedStatement()).getPagination();
-        if (!pagination.isHasPagination() || 1 == queryResults.size()) {
+        if (!pagination.isHasPagination() || isSingleQueryResult) {
             return mergedResult;
         }
         String trunkDatabaseName = DatabaseTypes.getTrunkDatabaseType(databaseType.getName()).getName();
         if ("MySQL".equals(trunkDatabaseName) || "PostgreSQL".equals(trunkDatabaseName)) {
-            return new LimitDecoratorMergedResult(mergedResult, pagination);
+            return new LimitDecoratorMergedResult(mergedResult, pagination, queryResults);
         }
         if ("Oracle".equals(trunkDatabaseName)) {
-            return new RowNumberDecoratorMergedResult(mergedResult, pagination);
+            return new RowNumberDecoratorMergedResult(mergedResult, pagination, queryResults);
         }
         if ("SQLServer".equals(trunkDatabaseName)) {
-            return new TopAndRowNumberDecoratorMergedResult(mergedResult, pagination);
+            return new TopAndRowNumberDecoratorMergedResult(mergedResult, pagination, queryResults);
         }
         return mergedResult;
     }
@@ -102,4 +102,8 @@ public abstract class MemoryMergedResult implements MergedResult {
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    @Override
+    public void close() throws SQLException {
+    }
 }
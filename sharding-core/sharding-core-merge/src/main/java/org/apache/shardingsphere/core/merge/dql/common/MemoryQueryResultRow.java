@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.core.merge.dql.common;
 
 import com.google.common.base.Preconditions;
+import lombok.Getter;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 
 import java.sql.SQLException;
@@ -29,12 +30,17 @@ import java.sql.SQLException;
  */
 public class MemoryQueryResultRow {
     
+    @Getter
     private final Object[] data;
     
     public MemoryQueryResultRow(final QueryResult queryResult) throws SQLException {
         data = load(queryResult);
     }
     
+    public MemoryQueryResultRow(final Object[] data) {
+        this.data = data;
+    }
+    
     private Object[] load(final QueryResult queryResult) throws SQLException {
         int columnCount = queryResult.getColumnCount();
         Object[] result = new Object[columnCount];
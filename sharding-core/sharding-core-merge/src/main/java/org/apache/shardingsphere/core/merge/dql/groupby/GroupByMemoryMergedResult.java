@@ -19,9 +19,13 @@ package org.apache.shardingsphere.core.merge.dql.groupby;
 
 import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.spill.ExternalSorter;
+import org.apache.shardingsphere.core.execute.sql.execute.spill.SpillKeyComparator;
+import org.apache.shardingsphere.core.execute.sql.execute.spill.SpillSizeEstimator;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryMergedResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
 import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
@@ -29,11 +33,15 @@ import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationU
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.AggregationSelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -48,27 +56,58 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
     
     private final ShardingSelectOptimizedStatement optimizedStatement;
     
+    private final long maxBytesInMemory;
+    
+    private final Collection<ExternalSorter<Object[]>> sorters = new LinkedList<>();
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
     public GroupByMemoryMergedResult(
             final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final ShardingSelectOptimizedStatement optimizedStatement) throws SQLException {
+        this(labelAndIndexMap, queryResults, optimizedStatement, 0L);
+    }
+    
+    public GroupByMemoryMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults,
+                                     final ShardingSelectOptimizedStatement optimizedStatement, final long maxBytesInMemory) throws SQLException {
         super(labelAndIndexMap);
         this.optimizedStatement = optimizedStatement;
-        memoryResultSetRows = init(queryResults);
+        this.maxBytesInMemory = maxBytesInMemory;
+        try {
+            memoryResultSetRows = init(queryResults);
+        } catch (final SQLException | RuntimeException ex) {
+            close();
+            throw ex;
+        }
     }
     
     private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException {
         Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
         Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        ExternalSorter<Object[]> groupSorter = maxBytesInMemory > 0
+                ? createSorter(new SpilledGroupComparator(optimizedStatement.getGroupBy().getItems().size())) : null;
+        long bytesInMemory = 0L;
         for (QueryResult each : queryResults) {
             while (each.next()) {
                 GroupByValue groupByValue = new GroupByValue(each, optimizedStatement.getGroupBy().getItems());
+                boolean isNewGroup = !dataMap.containsKey(groupByValue);
                 initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
                 aggregate(each, groupByValue, aggregationMap);
+                if (null == groupSorter || !isNewGroup) {
+                    continue;
+                }
+                bytesInMemory += SpillSizeEstimator.estimate(groupByValue.getGroupValues()) + SpillSizeEstimator.estimate(dataMap.get(groupByValue).getData());
+                if (bytesInMemory >= maxBytesInMemory) {
+                    spill(dataMap, aggregationMap, groupSorter);
+                    bytesInMemory = 0L;
+                }
             }
         }
-        setAggregationValueToMemoryRow(dataMap, aggregationMap);
         List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.<Boolean>emptyList() : getValueCaseSensitive(queryResults.iterator().next());
+        if (null != groupSorter && groupSorter.isSpilled()) {
+            spill(dataMap, aggregationMap, groupSorter);
+            return getSpilledMemoryResultSetRows(groupSorter, valueCaseSensitive);
+        }
+        setAggregationValueToMemoryRow(dataMap, aggregationMap);
         List<MemoryQueryResultRow> result = getMemoryResultSetRows(dataMap, valueCaseSensitive);
         if (!result.isEmpty()) {
             setCurrentResultSetRow(result.get(0));
@@ -135,12 +174,136 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         return result;
     }
     
+    private void spill(final Map<GroupByValue, MemoryQueryResultRow> dataMap,
+                       final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap,
+                       final ExternalSorter<Object[]> groupSorter) throws SQLException {
+        List<AggregationSelectItem> aggregationSelectItems = optimizedStatement.getSelectItems().getAggregationSelectItems();
+        try {
+            for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+                Object[][] intermediateValues = new Object[aggregationSelectItems.size()][];
+                for (int i = 0; i < intermediateValues.length; i++) {
+                    intermediateValues[i] = aggregationMap.get(entry.getKey()).get(aggregationSelectItems.get(i)).getIntermediateValues().toArray();
+                }
+                groupSorter.add(new Object[] {entry.getKey().getGroupValues().toArray(), entry.getValue().getData(), intermediateValues});
+            }
+            groupSorter.spill();
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+        dataMap.clear();
+        aggregationMap.clear();
+    }
+    
+    private Iterator<MemoryQueryResultRow> getSpilledMemoryResultSetRows(
+            final ExternalSorter<Object[]> groupSorter, final List<Boolean> valueCaseSensitive) throws SQLException {
+        final GroupByRowComparator groupByRowComparator = new GroupByRowComparator(optimizedStatement, valueCaseSensitive);
+        ExternalSorter<Object[]> spilledRowSorter = createSorter(new Comparator<Object[]>() {
+            
+            @Override
+            public int compare(final Object[] o1, final Object[] o2) {
+                return groupByRowComparator.compare(new MemoryQueryResultRow(o1), new MemoryQueryResultRow(o2));
+            }
+        });
+        Comparator<Object[]> groupComparator = new SpilledGroupComparator(optimizedStatement.getGroupBy().getItems().size());
+        try {
+            Iterator<Object[]> spilledGroups = groupSorter.sorted();
+            Object[] currentGroup = null;
+            List<AggregationUnit> aggregationUnits = null;
+            while (spilledGroups.hasNext()) {
+                Object[] each = spilledGroups.next();
+                if (null == currentGroup || 0 != groupComparator.compare(currentGroup, each)) {
+                    if (null != currentGroup) {
+                        spilledRowSorter.add(getMergedRowData(currentGroup, aggregationUnits));
+                    }
+                    currentGroup = each;
+                    aggregationUnits = createAggregationUnits();
+                }
+                mergeIntermediateValues(aggregationUnits, (Object[][]) each[2]);
+            }
+            if (null != currentGroup) {
+                spilledRowSorter.add(getMergedRowData(currentGroup, aggregationUnits));
+            }
+            groupSorter.close();
+            return Iterators.transform(spilledRowSorter.sorted(), new Function<Object[], MemoryQueryResultRow>() {
+                
+                @Override
+                public MemoryQueryResultRow apply(final Object[] input) {
+                    return new MemoryQueryResultRow(input);
+                }
+            });
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    private ExternalSorter<Object[]> createSorter(final Comparator<Object[]> comparator) {
+        ExternalSorter<Object[]> result = new ExternalSorter<>(comparator, maxBytesInMemory);
+        sorters.add(result);
+        return result;
+    }
+    
+    private List<AggregationUnit> createAggregationUnits() {
+        List<AggregationUnit> result = new ArrayList<>(optimizedStatement.getSelectItems().getAggregationSelectItems().size());
+        for (AggregationSelectItem each : optimizedStatement.getSelectItems().getAggregationSelectItems()) {
+            result.add(AggregationUnitFactory.create(each.getType()));
+        }
+        return result;
+    }
+    
+    private void mergeIntermediateValues(final List<AggregationUnit> aggregationUnits, final Object[][] intermediateValues) {
+        for (int i = 0; i < intermediateValues.length; i++) {
+            List<Comparable<?>> values = new ArrayList<>(intermediateValues[i].length);
+            for (Object each : intermediateValues[i]) {
+                values.add((Comparable<?>) each);
+            }
+            aggregationUnits.get(i).merge(values);
+        }
+    }
+    
+    private Object[] getMergedRowData(final Object[] spilledGroup, final List<AggregationUnit> aggregationUnits) {
+        MemoryQueryResultRow result = new MemoryQueryResultRow((Object[]) spilledGroup[1]);
+        List<AggregationSelectItem> aggregationSelectItems = optimizedStatement.getSelectItems().getAggregationSelectItems();
+        for (int i = 0; i < aggregationSelectItems.size(); i++) {
+            result.setCell(aggregationSelectItems.get(i).getIndex(), aggregationUnits.get(i).getResult());
+        }
+        return result.getData();
+    }
+    
     @Override
-    public boolean next() {
+    public boolean next() throws SQLException {
         if (memoryResultSetRows.hasNext()) {
             setCurrentResultSetRow(memoryResultSetRows.next());
             return true;
         }
         return false;
     }
+    
+    @Override
+    public void close() throws SQLException {
+        try {
+            for (ExternalSorter<Object[]> each : sorters) {
+                each.close();
+            }
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    private static final class SpilledGroupComparator implements Comparator<Object[]> {
+        
+        private final SpillKeyComparator groupValueComparator;
+        
+        private SpilledGroupComparator(final int groupByItemCount) {
+            int[] keyIndexes = new int[groupByItemCount];
+            for (int i = 0; i < groupByItemCount; i++) {
+                keyIndexes[i] = i;
+            }
+            groupValueComparator = new SpillKeyComparator(keyIndexes);
+        }
+        
+        @Override
+        public int compare(final Object[] o1, final Object[] o2) {
+            return groupValueComparator.compare((Object[]) o1[0], (Object[]) o2[0]);
+        }
+    }
 }
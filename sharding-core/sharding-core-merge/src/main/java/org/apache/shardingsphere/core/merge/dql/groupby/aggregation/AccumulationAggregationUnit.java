@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -47,4 +48,9 @@ public final class AccumulationAggregationUnit implements AggregationUnit {
     public Comparable<?> getResult() {
         return result;
     }
+    
+    @Override
+    public List<Comparable<?>> getIntermediateValues() {
+        return Collections.<Comparable<?>>singletonList(result);
+    }
 }
@@ -39,4 +39,11 @@ public interface AggregationUnit {
      * @return aggregation result
      */
     Comparable<?> getResult();
+    
+    /**
+     * Get intermediate aggregation values, which can be merged into another aggregation unit of same type.
+     *
+     * @return intermediate aggregation values
+     */
+    List<Comparable<?>> getIntermediateValues();
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -57,4 +58,9 @@ public final class AverageAggregationUnit implements AggregationUnit {
         // TODO use metadata to fetch float number precise for database field
         return sum.divide(count, 4, BigDecimal.ROUND_HALF_UP);
     }
+    
+    @Override
+    public List<Comparable<?>> getIntermediateValues() {
+        return Arrays.<Comparable<?>>asList(count, sum);
+    }
 }
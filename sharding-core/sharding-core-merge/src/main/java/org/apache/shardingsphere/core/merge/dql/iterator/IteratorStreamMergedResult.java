@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.core.merge.dql.iterator;
 
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResultUtil;
 import org.apache.shardingsphere.core.merge.dql.common.StreamMergedResult;
 
 import java.sql.SQLException;
@@ -31,9 +32,12 @@ import java.util.List;
  */
 public final class IteratorStreamMergedResult extends StreamMergedResult {
     
+    private final List<QueryResult> allQueryResults;
+    
     private final Iterator<QueryResult> queryResults;
     
     public IteratorStreamMergedResult(final List<QueryResult> queryResults) {
+        allQueryResults = queryResults;
         this.queryResults = queryResults.iterator();
         setCurrentQueryResult(this.queryResults.next());
     }
@@ -57,4 +61,9 @@ public final class IteratorStreamMergedResult extends StreamMergedResult {
         }
         return hasNext;
     }
+    
+    @Override
+    public void close() throws SQLException {
+        QueryResultUtil.closeQueryResults(allQueryResults);
+    }
 }
@@ -42,7 +42,7 @@ public final class CompareUtil {
      */
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public static int compareTo(final Comparable thisValue, final Comparable otherValue, final OrderDirection orderDirection, final OrderDirection nullOrderDirection, final boolean caseSensitive) {
-        if (null == thisValue && null == otherValue) {
+        if (thisValue == otherValue) {
             return 0;
         }
         if (null == thisValue) {
@@ -51,14 +51,36 @@ public final class CompareUtil {
         if (null == otherValue) {
             return orderDirection == nullOrderDirection ? 1 : -1;
         }
-        if (!caseSensitive && thisValue instanceof String && otherValue instanceof String) {
-            return compareToCaseInsensitiveString((String) thisValue, (String) otherValue, orderDirection);
+        int result;
+        if (thisValue instanceof Long && otherValue instanceof Long) {
+            result = compareLong((Long) thisValue, (Long) otherValue);
+        } else if (thisValue instanceof Integer && otherValue instanceof Integer) {
+            result = compareLong((Integer) thisValue, (Integer) otherValue);
+        } else if (!caseSensitive && thisValue instanceof String && otherValue instanceof String) {
+            result = compareToCaseInsensitiveString((String) thisValue, (String) otherValue);
+        } else {
+            result = thisValue.compareTo(otherValue);
         }
-        return OrderDirection.ASC == orderDirection ? thisValue.compareTo(otherValue) : -thisValue.compareTo(otherValue);
+        return OrderDirection.ASC == orderDirection ? result : -result;
     }
     
-    private static int compareToCaseInsensitiveString(final String thisValue, final String otherValue, final OrderDirection orderDirection) {
-        int result = thisValue.toUpperCase().compareTo(otherValue.toUpperCase());
-        return OrderDirection.ASC == orderDirection ? result : -result;
+    private static int compareLong(final long thisValue, final long otherValue) {
+        return thisValue < otherValue ? -1 : (thisValue == otherValue ? 0 : 1);
+    }
+    
+    private static int compareToCaseInsensitiveString(final String thisValue, final String otherValue) {
+        int length = Math.min(thisValue.length(), otherValue.length());
+        for (int i = 0; i < length; i++) {
+            char thisChar = thisValue.charAt(i);
+            char otherChar = otherValue.charAt(i);
+            if (thisChar != otherChar) {
+                thisChar = Character.toUpperCase(thisChar);
+                otherChar = Character.toUpperCase(otherChar);
+                if (thisChar != otherChar) {
+                    return thisChar - otherChar;
+                }
+            }
+        }
+        return thisValue.length() - otherValue.length();
     }
 }
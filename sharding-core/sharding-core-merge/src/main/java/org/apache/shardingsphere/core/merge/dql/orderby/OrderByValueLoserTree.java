@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ *
+ * <p>Each internal node keeps the loser of its match and the overall winner is kept at root, so advancing the winner only replays matches on its path to root.</p>
+ * 
+ * @author agent
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] losers;
+    
+    private int winner;
+    
+    private int remaining;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[orderByValues.size()]);
+        exhausted = new boolean[this.orderByValues.length];
+        losers = new int[Math.max(this.orderByValues.length, 1)];
+        remaining = this.orderByValues.length;
+        winner = this.orderByValues.length > 0 ? build(1) : -1;
+    }
+    
+    private int build(final int node) {
+        if (node >= orderByValues.length) {
+            return node - orderByValues.length;
+        }
+        int left = build(node * 2);
+        int right = build(node * 2 + 1);
+        if (beats(left, right)) {
+            losers[node] = right;
+            return left;
+        }
+        losers[node] = left;
+        return right;
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == remaining;
+    }
+    
+    /**
+     * Get order by value of winner.
+     *
+     * @return order by value of winner
+     */
+    public OrderByValue peek() {
+        return orderByValues[winner];
+    }
+    
+    /**
+     * Replay matches after winner moved to next data.
+     *
+     * @param hasNext winner has next data or not
+     */
+    public void adjust(final boolean hasNext) {
+        if (!hasNext) {
+            exhausted[winner] = true;
+            remaining--;
+        }
+        int result = winner;
+        for (int node = (winner + orderByValues.length) / 2; node > 0; node /= 2) {
+            if (beats(losers[node], result)) {
+                int loser = result;
+                result = losers[node];
+                losers[node] = loser;
+            }
+        }
+        winner = result;
+    }
+    
+    private boolean beats(final int index, final int otherIndex) {
+        if (exhausted[index]) {
+            return false;
+        }
+        if (exhausted[otherIndex]) {
+            return true;
+        }
+        int result = orderByValues[index].compareTo(orderByValues[otherIndex]);
+        return result < 0 || 0 == result && index < otherIndex;
+    }
+}
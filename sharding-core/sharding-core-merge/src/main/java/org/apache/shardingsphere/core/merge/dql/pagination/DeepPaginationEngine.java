@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.pagination;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.orderby.CompareUtil;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.pagination.Pagination;
+import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.limit.LimitValueSegment;
+import org.apache.shardingsphere.core.parse.util.SQLUtil;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Deep pagination engine.
+ *
+ * <p>
+ * Deep pagination query is executed in two phases instead of fetching {@code offset + row count} rows from every shard.
+ * Probe phase fetches a small window of rows which ends at position {@code offset / shard count} of every shard,
+ * fetch phase skips rows which are proved to be ordered before the first probed boundary on every shard.
+ * </p>
+ * 
+ * @author agent
+ */
+public final class DeepPaginationEngine {
+    
+    private static final int PROBE_WINDOW_FACTOR = 4;
+    
+    private final ShardingSelectOptimizedStatement optimizedStatement;
+    
+    private final Pagination pagination;
+    
+    private final int shardCount;
+    
+    private final int probePosition;
+    
+    private final int probeOffset;
+    
+    public DeepPaginationEngine(final SQLRouteResult routeResult) {
+        optimizedStatement = (ShardingSelectOptimizedStatement) routeResult.getOptimizedStatement();
+        pagination = optimizedStatement.getPagination();
+        shardCount = routeResult.getRouteUnits().size();
+        probePosition = pagination.getActualOffset() / shardCount;
+        probeOffset = Math.max(0, probePosition - getProbeWindowSize());
+    }
+    
+    private int getProbeWindowSize() {
+        return Math.max(pagination.getActualRowCount().get(), (int) Math.sqrt(probePosition) * PROBE_WINDOW_FACTOR);
+    }
+    
+    /**
+     * Judge is deep pagination applicable or not.
+     *
+     * @param databaseType database type
+     * @param routeResult SQL route result
+     * @param minOffset min offset of deep pagination, zero means disabled
+     * @return is deep pagination applicable or not
+     */
+    public static boolean isApplicable(final DatabaseType databaseType, final SQLRouteResult routeResult, final int minOffset) {
+        if (minOffset <= 0 || !(routeResult.getOptimizedStatement() instanceof ShardingSelectOptimizedStatement) || routeResult.getRouteUnits().size() < 2) {
+            return false;
+        }
+        String trunkDatabaseName = DatabaseTypes.getTrunkDatabaseType(databaseType.getName()).getName();
+        if (!"MySQL".equals(trunkDatabaseName) && !"PostgreSQL".equals(trunkDatabaseName)) {
+            return false;
+        }
+        ShardingSelectOptimizedStatement optimizedStatement = (ShardingSelectOptimizedStatement) routeResult.getOptimizedStatement();
+        Pagination pagination = optimizedStatement.getPagination();
+        return pagination.getRowCountSegment().isPresent() && pagination.getRowCountSegment().get() instanceof LimitValueSegment && pagination.getActualOffset() >= minOffset
+                && !optimizedStatement.getOrderBy().getItems().isEmpty() && optimizedStatement.getGroupBy().getItems().isEmpty()
+                && optimizedStatement.getSelectItems().getAggregationSelectItems().isEmpty() && !optimizedStatement.getSelectItems().isDistinctRow() && !optimizedStatement.isContainsSubquery();
+    }
+    
+    /**
+     * Get optimized statement of probe phase.
+     *
+     * @return optimized statement of probe phase
+     */
+    public ShardingSelectOptimizedStatement getProbeOptimizedStatement() {
+        return createOptimizedStatement(pagination.revise(pagination.getActualOffset(), probeOffset, probePosition - probeOffset + 1));
+    }
+    
+    /**
+     * Get optimized statement of fetch phase.
+     *
+     * @param probeQueryResults query results of probe phase
+     * @return optimized statement of fetch phase, absent if no row can be skipped
+     * @throws SQLException SQL exception
+     */
+    public Optional<ShardingSelectOptimizedStatement> getFetchOptimizedStatement(final List<QueryResult> probeQueryResults) throws SQLException {
+        optimizedStatement.setIndexForItems(getColumnLabelIndexMap(probeQueryResults.get(0)));
+        OrderByItem[] orderByItems = optimizedStatement.getOrderBy().getItems().toArray(new OrderByItem[0]);
+        boolean[] caseSensitives = getCaseSensitives(probeQueryResults.get(0), orderByItems);
+        List<List<Comparable<?>[]>> probedOrderValues = new ArrayList<>(probeQueryResults.size());
+        for (QueryResult each : probeQueryResults) {
+            probedOrderValues.add(loadOrderValues(each, orderByItems));
+        }
+        Optional<Comparable<?>[]> boundary = findBoundary(probedOrderValues, orderByItems, caseSensitives);
+        if (!boundary.isPresent()) {
+            return Optional.absent();
+        }
+        int skippedRowCount = Integer.MAX_VALUE;
+        for (List<Comparable<?>[]> each : probedOrderValues) {
+            skippedRowCount = Math.min(skippedRowCount, getSkippedRowCount(each, boundary.get(), orderByItems, caseSensitives));
+        }
+        if (0 == skippedRowCount) {
+            return Optional.absent();
+        }
+        int actualOffset = pagination.getActualOffset() - skippedRowCount * shardCount;
+        return Optional.of(createOptimizedStatement(pagination.revise(actualOffset, skippedRowCount, actualOffset + pagination.getActualRowCount().get())));
+    }
+    
+    private Map<String, Integer> getColumnLabelIndexMap(final QueryResult queryResult) throws SQLException {
+        Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = queryResult.getColumnCount(); i > 0; i--) {
+            result.put(SQLUtil.getExactlyValue(queryResult.getColumnLabel(i)), i);
+        }
+        return result;
+    }
+    
+    private boolean[] getCaseSensitives(final QueryResult queryResult, final OrderByItem[] orderByItems) throws SQLException {
+        boolean[] result = new boolean[orderByItems.length];
+        for (int i = 0; i < orderByItems.length; i++) {
+            result[i] = queryResult.isCaseSensitive(orderByItems[i].getIndex());
+        }
+        return result;
+    }
+    
+    private List<Comparable<?>[]> loadOrderValues(final QueryResult queryResult, final OrderByItem[] orderByItems) throws SQLException {
+        List<Comparable<?>[]> result = new ArrayList<>(probePosition - probeOffset + 1);
+        while (queryResult.next()) {
+            Comparable<?>[] orderValues = new Comparable<?>[orderByItems.length];
+            for (int i = 0; i < orderByItems.length; i++) {
+                Object value = queryResult.getValue(orderByItems[i].getIndex(), Object.class);
+                Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
+                orderValues[i] = (Comparable<?>) value;
+            }
+            result.add(orderValues);
+        }
+        return result;
+    }
+    
+    private Optional<Comparable<?>[]> findBoundary(final List<List<Comparable<?>[]>> probedOrderValues, final OrderByItem[] orderByItems, final boolean[] caseSensitives) {
+        Comparable<?>[] result = null;
+        for (List<Comparable<?>[]> each : probedOrderValues) {
+            if (probePosition - probeOffset + 1 == each.size() && (null == result || compare(each.get(each.size() - 1), result, orderByItems, caseSensitives) < 0)) {
+                result = each.get(each.size() - 1);
+            }
+        }
+        return Optional.fromNullable(result);
+    }
+    
+    private int getSkippedRowCount(final List<Comparable<?>[]> orderValues, final Comparable<?>[] boundary, final OrderByItem[] orderByItems, final boolean[] caseSensitives) {
+        if (0 != probeOffset && (orderValues.isEmpty() || compare(orderValues.get(0), boundary, orderByItems, caseSensitives) >= 0)) {
+            return 0;
+        }
+        int result = probeOffset;
+        for (Comparable<?>[] each : orderValues) {
+            if (compare(each, boundary, orderByItems, caseSensitives) >= 0) {
+                break;
+            }
+            result++;
+        }
+        return result;
+    }
+    
+    private int compare(final Comparable<?>[] orderValues, final Comparable<?>[] otherOrderValues, final OrderByItem[] orderByItems, final boolean[] caseSensitives) {
+        for (int i = 0; i < orderByItems.length; i++) {
+            int result = CompareUtil.compareTo(
+                    orderValues[i], otherOrderValues[i], orderByItems[i].getSegment().getOrderDirection(), orderByItems[i].getSegment().getNullOrderDirection(), caseSensitives[i]);
+            if (0 != result) {
+                return result;
+            }
+        }
+        return 0;
+    }
+    
+    private ShardingSelectOptimizedStatement createOptimizedStatement(final Pagination revisedPagination) {
+        ShardingSelectOptimizedStatement result = new ShardingSelectOptimizedStatement(optimizedStatement.getSQLStatement(), optimizedStatement.getShardingConditions().getConditions(),
+                optimizedStatement.getEncryptConditions().getConditions(), optimizedStatement.getGroupBy(), optimizedStatement.getOrderBy(), optimizedStatement.getSelectItems(), revisedPagination);
+        result.setContainsSubquery(optimizedStatement.isContainsSubquery());
+        return result;
+    }
+}
@@ -17,11 +17,15 @@
 
 package org.apache.shardingsphere.core.merge.dql.pagination;
 
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResultUtil;
 import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.merge.dql.common.DecoratorMergedResult;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.pagination.Pagination;
 
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 
 /**
  * Decorator merged result for top and row number pagination.
@@ -32,13 +36,20 @@ public final class TopAndRowNumberDecoratorMergedResult extends DecoratorMergedR
     
     private final Pagination pagination;
     
+    private final Collection<QueryResult> queryResults;
+    
     private final boolean skipAll;
     
     private int rowNumber;
     
     public TopAndRowNumberDecoratorMergedResult(final MergedResult mergedResult, final Pagination pagination) throws SQLException {
+        this(mergedResult, pagination, Collections.<QueryResult>emptyList());
+    }
+    
+    public TopAndRowNumberDecoratorMergedResult(final MergedResult mergedResult, final Pagination pagination, final Collection<QueryResult> queryResults) throws SQLException {
         super(mergedResult);
         this.pagination = pagination;
+        this.queryResults = queryResults;
         skipAll = skipOffset();
     }
     
@@ -61,6 +72,10 @@ public final class TopAndRowNumberDecoratorMergedResult extends DecoratorMergedR
         if (!pagination.getActualRowCount().isPresent()) {
             return getMergedResult().next();
         }
-        return rowNumber++ <= pagination.getActualRowCount().get() && getMergedResult().next();
+        if (rowNumber++ <= pagination.getActualRowCount().get()) {
+            return getMergedResult().next();
+        }
+        QueryResultUtil.cancelStreamQueryResults(queryResults);
+        return false;
     }
 }
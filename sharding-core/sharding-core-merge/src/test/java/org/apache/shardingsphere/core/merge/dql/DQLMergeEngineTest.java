@@ -21,6 +21,7 @@ import com.google.common.collect.Lists;
 import org.apache.shardingsphere.core.constant.AggregationType;
 import org.apache.shardingsphere.core.constant.OrderDirection;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.execute.sql.execute.result.DistinctQueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByMemoryMergedResult;
@@ -36,6 +37,7 @@ import org.apache.shardingsphere.core.optimize.encrypt.segment.condition.Encrypt
 import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingCondition;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.groupby.GroupBy;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.AggregationSelectItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.CommonSelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.SelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.SelectItems;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.orderby.OrderBy;
@@ -50,6 +52,7 @@ import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -59,7 +62,10 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -357,4 +363,46 @@ public final class DQLMergeEngineTest {
         assertThat(actual, instanceOf(TopAndRowNumberDecoratorMergedResult.class));
         assertThat(((TopAndRowNumberDecoratorMergedResult) actual).getMergedResult(), instanceOf(GroupByMemoryMergedResult.class));
     }
+    
+    @Test
+    public void assertBuildIteratorStreamMergedResultWithSpilledDistinct() throws SQLException, ReflectiveOperationException {
+        List<QueryResult> distinctQueryResults = Arrays.<QueryResult>asList(new TestQueryResult(mockDistinctResultSet(3, 1, 2)), new TestQueryResult(mockDistinctResultSet(2, 4)));
+        SelectItems selectItems = new SelectItems(Collections.<SelectItem>singletonList(new CommonSelectItem("order_id", null)), true, 0);
+        SQLRouteResult routeResult = new SQLRouteResult(new ShardingSelectOptimizedStatement(new SelectStatement(),
+                Collections.<ShardingCondition>emptyList(), Collections.<EncryptCondition>emptyList(),
+                new GroupBy(Collections.<OrderByItem>emptyList(), 0), new OrderBy(Collections.<OrderByItem>emptyList(), false),
+                selectItems, new Pagination(null, null, Collections.emptyList())));
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, distinctQueryResults, 1L);
+        List<?> actualQueryResults = getQueryResults(mergeEngine);
+        assertThat(actualQueryResults.size(), is(1));
+        assertTrue(((DistinctQueryResult) actualQueryResults.get(0)).isSpilled());
+        MergedResult actual = mergeEngine.merge();
+        assertThat(actual, instanceOf(IteratorStreamMergedResult.class));
+        for (int each : new int[] {1, 2, 3, 4}) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is((Object) each));
+        }
+        assertFalse(actual.next());
+        actual.close();
+    }
+    
+    private ResultSet mockDistinctResultSet(final Integer... orderIds) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("order_id");
+        Boolean[] nextValues = new Boolean[orderIds.length];
+        Arrays.fill(nextValues, true);
+        nextValues[orderIds.length - 1] = false;
+        when(result.next()).thenReturn(true, nextValues);
+        when(result.getObject(1)).thenReturn(orderIds[0], (Object[]) Arrays.copyOfRange(orderIds, 1, orderIds.length));
+        return result;
+    }
+    
+    private List<?> getQueryResults(final DQLMergeEngine mergeEngine) throws ReflectiveOperationException {
+        Field field = DQLMergeEngine.class.getDeclaredField("queryResults");
+        field.setAccessible(true);
+        return (List<?>) field.get(mergeEngine);
+    }
 }
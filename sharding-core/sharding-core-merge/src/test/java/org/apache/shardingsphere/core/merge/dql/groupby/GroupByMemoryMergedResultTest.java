@@ -42,13 +42,16 @@ import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.File;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -150,4 +153,55 @@ public final class GroupByMemoryMergedResultTest {
         assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults, 1L);
+        mockSingleRow(resultSets.get(0), 20, 2);
+        mockSingleRow(resultSets.get(1), 30, 3);
+        mockSingleRow(resultSets.get(2), 20, 2);
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat((Integer) actual.getValue(3, Object.class), is(3));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat((Integer) actual.getValue(3, Object.class), is(2));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertCloseWithSpillBeforeAllRowsRead() throws SQLException {
+        Collection<String> expected = getSpilledFileNames();
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults, 1L);
+        mockSingleRow(resultSets.get(0), 20, 2);
+        mockSingleRow(resultSets.get(1), 30, 3);
+        mockSingleRow(resultSets.get(2), 20, 2);
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        actual.close();
+        assertThat(getSpilledFileNames(), is(expected));
+    }
+    
+    private Collection<String> getSpilledFileNames() {
+        Collection<String> result = new HashSet<>();
+        String[] fileNames = new File(System.getProperty("java.io.tmpdir")).list();
+        for (String each : null == fileNames ? new String[0] : fileNames) {
+            if (each.startsWith("sharding-spill-")) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private void mockSingleRow(final ResultSet resultSet, final int count, final int id) throws SQLException {
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getObject(1)).thenReturn(count);
+        when(resultSet.getObject(2)).thenReturn(0);
+        when(resultSet.getObject(3)).thenReturn(id);
+        when(resultSet.getObject(4)).thenReturn(id);
+        when(resultSet.getObject(5)).thenReturn(count);
+    }
 }
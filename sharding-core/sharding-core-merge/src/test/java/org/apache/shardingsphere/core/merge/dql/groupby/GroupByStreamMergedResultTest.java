@@ -41,6 +41,8 @@ import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.math.BigDecimal;
 import java.sql.ResultSet;
@@ -52,6 +54,7 @@ import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -162,24 +165,9 @@ public final class GroupByStreamMergedResultTest {
     @Test
     public void assertNextForMix() throws SQLException {
         mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults);
-        when(resultSets.get(0).next()).thenReturn(true, false);
-        when(resultSets.get(0).getObject(1)).thenReturn(20);
-        when(resultSets.get(0).getObject(2)).thenReturn(0);
-        when(resultSets.get(0).getObject(3)).thenReturn(2);
-        when(resultSets.get(0).getObject(5)).thenReturn(2);
-        when(resultSets.get(0).getObject(6)).thenReturn(20);
-        when(resultSets.get(1).next()).thenReturn(true, true, true, false);
-        when(resultSets.get(1).getObject(1)).thenReturn(20, 30, 30, 40);
-        when(resultSets.get(1).getObject(2)).thenReturn(0);
-        when(resultSets.get(1).getObject(3)).thenReturn(2, 2, 3, 3, 3, 4);
-        when(resultSets.get(1).getObject(5)).thenReturn(2, 2, 3, 3, 3, 4);
-        when(resultSets.get(1).getObject(6)).thenReturn(20, 20, 30, 30, 30, 40);
-        when(resultSets.get(2).next()).thenReturn(true, true, false);
-        when(resultSets.get(2).getObject(1)).thenReturn(10, 30);
-        when(resultSets.get(2).getObject(2)).thenReturn(10);
-        when(resultSets.get(2).getObject(3)).thenReturn(1, 1, 1, 1, 3);
-        when(resultSets.get(2).getObject(5)).thenReturn(1, 1, 3);
-        when(resultSets.get(2).getObject(6)).thenReturn(10, 10, 30);
+        mockRows(resultSets.get(0), new Object[] {20, 0, 2, null, 2, 20});
+        mockRows(resultSets.get(1), new Object[] {20, 0, 2, null, 2, 20}, new Object[] {30, 0, 3, null, 3, 30}, new Object[] {40, 0, 4, null, 4, 40});
+        mockRows(resultSets.get(2), new Object[] {10, 10, 1, null, 1, 10}, new Object[] {30, 10, 3, null, 3, 30});
         MergedResult actual = mergeEngine.merge();
         assertTrue(actual.next());
         assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(10)));
@@ -207,4 +195,25 @@ public final class GroupByStreamMergedResultTest {
         assertThat((BigDecimal) actual.getValue(6, Object.class), is(new BigDecimal(40)));
         assertFalse(actual.next());
     }
+    
+    private void mockRows(final ResultSet resultSet, final Object[]... rows) throws SQLException {
+        final AtomicInteger cursor = new AtomicInteger(-1);
+        when(resultSet.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return cursor.incrementAndGet() < rows.length;
+            }
+        });
+        for (int i = 1; i <= rows[0].length; i++) {
+            final int columnIndex = i;
+            when(resultSet.getObject(columnIndex)).thenAnswer(new Answer<Object>() {
+                
+                @Override
+                public Object answer(final InvocationOnMock invocation) {
+                    return rows[cursor.get()][columnIndex - 1];
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueLoserTreeTest {
+    
+    @Test
+    public void assertEmpty() {
+        assertTrue(new OrderByValueLoserTree(Collections.<OrderByValue>emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertAdjust() throws SQLException {
+        List<OrderByValue> orderByValues = new ArrayList<>(5);
+        orderByValues.add(createOrderByValue(3, 8));
+        orderByValues.add(createOrderByValue(1, 6, 9));
+        orderByValues.add(createOrderByValue(5));
+        orderByValues.add(createOrderByValue(2, 4));
+        orderByValues.add(createOrderByValue(7));
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(orderByValues);
+        for (int each : new int[] {1, 3, 0, 3, 2, 1, 4, 0, 1}) {
+            assertFalse(actual.isEmpty());
+            assertThat(actual.peek(), is(orderByValues.get(each)));
+            actual.adjust(actual.peek().next());
+        }
+        assertTrue(actual.isEmpty());
+    }
+    
+    private OrderByValue createOrderByValue(final Integer... values) throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        Boolean[] nextResults = new Boolean[values.length];
+        for (int i = 0; i < values.length - 1; i++) {
+            nextResults[i] = true;
+        }
+        nextResults[values.length - 1] = false;
+        when(queryResult.next()).thenReturn(true, nextResults);
+        when(queryResult.getValue(1, Object.class)).thenReturn(values[0], (Object[]) Arrays.copyOfRange(values, 1, values.length));
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+        orderByItem.setIndex(1);
+        OrderByValue result = new OrderByValue(queryResult, Collections.singletonList(orderByItem));
+        assertTrue(result.next());
+        return result;
+    }
+}
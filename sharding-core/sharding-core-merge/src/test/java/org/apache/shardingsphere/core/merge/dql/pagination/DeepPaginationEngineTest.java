@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.pagination;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.optimize.encrypt.segment.condition.EncryptCondition;
+import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingCondition;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.groupby.GroupBy;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.SelectItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.SelectItems;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.orderby.OrderBy;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.pagination.Pagination;
+import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.SQLUnit;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DeepPaginationEngineTest {
+    
+    @Test
+    public void assertIsApplicable() {
+        assertTrue(DeepPaginationEngine.isApplicable(DatabaseTypes.getActualDatabaseType("MySQL"), createRouteResult(20, 5), 10));
+    }
+    
+    @Test
+    public void assertIsNotApplicableWhenDisabled() {
+        assertFalse(DeepPaginationEngine.isApplicable(DatabaseTypes.getActualDatabaseType("MySQL"), createRouteResult(20, 5), 0));
+    }
+    
+    @Test
+    public void assertIsNotApplicableForSmallOffset() {
+        assertFalse(DeepPaginationEngine.isApplicable(DatabaseTypes.getActualDatabaseType("MySQL"), createRouteResult(5, 5), 10));
+    }
+    
+    @Test
+    public void assertIsNotApplicableForOracle() {
+        assertFalse(DeepPaginationEngine.isApplicable(DatabaseTypes.getActualDatabaseType("Oracle"), createRouteResult(20, 5), 10));
+    }
+    
+    @Test
+    public void assertGetProbeOptimizedStatement() {
+        ShardingSelectOptimizedStatement actual = new DeepPaginationEngine(createRouteResult(20, 5)).getProbeOptimizedStatement();
+        assertThat(actual.getPagination().getRevisedOffset(), is(0));
+        assertThat(actual.getPagination().getRevisedRowCount(actual), is(11));
+    }
+    
+    @Test
+    public void assertGetFetchOptimizedStatement() throws SQLException {
+        Optional<ShardingSelectOptimizedStatement> actual = new DeepPaginationEngine(createRouteResult(20, 5)).getFetchOptimizedStatement(
+                Arrays.asList(mockQueryResult(0, 2, 4, 6, 8, 10, 12, 14, 16, 18, 20), mockQueryResult(1, 3, 5, 7, 9, 11, 13, 15, 17, 19, 21)));
+        assertTrue(actual.isPresent());
+        Pagination pagination = actual.get().getPagination();
+        assertThat(pagination.getActualOffset(), is(0));
+        assertThat(pagination.getRevisedOffset(), is(10));
+        assertThat(pagination.getRevisedRowCount(actual.get()), is(5));
+    }
+    
+    @Test
+    public void assertGetFetchOptimizedStatementWithoutSkippedRows() throws SQLException {
+        Optional<ShardingSelectOptimizedStatement> actual = new DeepPaginationEngine(createRouteResult(20, 5)).getFetchOptimizedStatement(
+                Arrays.asList(mockQueryResult(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10), mockQueryResult(11, 12, 13)));
+        assertFalse(actual.isPresent());
+    }
+    
+    private SQLRouteResult createRouteResult(final int offset, final int rowCount) {
+        ShardingSelectOptimizedStatement optimizedStatement = new ShardingSelectOptimizedStatement(new SelectStatement(), Collections.<ShardingCondition>emptyList(),
+                Collections.<EncryptCondition>emptyList(), new GroupBy(Collections.<OrderByItem>emptyList(), 0),
+                new OrderBy(Collections.singletonList(new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC))), false),
+                new SelectItems(Collections.<SelectItem>emptyList(), false, 0),
+                new Pagination(new NumberLiteralLimitValueSegment(0, 0, offset), new NumberLiteralLimitValueSegment(0, 0, rowCount), Collections.emptyList()));
+        SQLRouteResult result = new SQLRouteResult(optimizedStatement);
+        result.getRouteUnits().add(new RouteUnit("ds_0", new SQLUnit("", Collections.emptyList())));
+        result.getRouteUnits().add(new RouteUnit("ds_1", new SQLUnit("", Collections.emptyList())));
+        return result;
+    }
+    
+    private QueryResult mockQueryResult(final Integer... values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        Boolean[] nexts = new Boolean[values.length];
+        Arrays.fill(nexts, true);
+        when(result.next()).thenReturn(true, Arrays.copyOf(nexts, values.length - 1)).thenReturn(false);
+        when(result.getValue(1, Object.class)).thenReturn(values[0], Arrays.copyOfRange(values, 1, values.length));
+        return result;
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.merge.dql.pagination;
 import com.google.common.collect.Lists;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.StreamQueryResult;
 import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
 import org.apache.shardingsphere.core.merge.fixture.TestQueryResult;
@@ -42,6 +43,7 @@ import org.junit.Test;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -49,6 +51,8 @@ import java.util.List;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class LimitDecoratorMergedResultTest {
@@ -109,4 +113,34 @@ public final class LimitDecoratorMergedResultTest {
         assertTrue(actual.next());
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextWithRowCountCancelStreamQueryResults() throws SQLException {
+        List<QueryResult> streamQueryResults = new ArrayList<>(2);
+        List<Statement> statements = new ArrayList<>(2);
+        List<ResultSet> resultSets = new ArrayList<>(2);
+        for (int i = 0; i < 2; i++) {
+            Statement statement = mock(Statement.class);
+            ResultSet resultSet = mock(ResultSet.class);
+            when(resultSet.getMetaData()).thenReturn(mock(ResultSetMetaData.class));
+            when(resultSet.getStatement()).thenReturn(statement);
+            when(resultSet.next()).thenReturn(true, true, true, false);
+            streamQueryResults.add(new StreamQueryResult(resultSet));
+            statements.add(statement);
+            resultSets.add(resultSet);
+        }
+        OptimizedStatement optimizedStatement = new ShardingSelectOptimizedStatement(new SelectStatement(), Collections.<ShardingCondition>emptyList(), Collections.<EncryptCondition>emptyList(),
+                new GroupBy(Collections.<OrderByItem>emptyList(), 0), new OrderBy(Collections.<OrderByItem>emptyList(), false), new SelectItems(Collections.<SelectItem>emptyList(), false, 0),
+                new Pagination(new NumberLiteralLimitValueSegment(0, 0, 1), new NumberLiteralLimitValueSegment(0, 0, 2), Collections.emptyList()));
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), new SQLRouteResult(optimizedStatement), streamQueryResults);
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        verify(statements.get(0), never()).cancel();
+        assertFalse(actual.next());
+        for (int i = 0; i < 2; i++) {
+            verify(statements.get(i)).cancel();
+            verify(resultSets.get(i)).close();
+        }
+    }
 }
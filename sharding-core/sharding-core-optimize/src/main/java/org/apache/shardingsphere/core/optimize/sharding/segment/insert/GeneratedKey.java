@@ -111,9 +111,7 @@ public final class GeneratedKey {
     private static GeneratedKey createGeneratedKey(
             final ShardingRule shardingRule, final InsertStatement insertStatement, final Collection<InsertValue> insertValues, final String generateKeyColumnName) {
         GeneratedKey result = new GeneratedKey(generateKeyColumnName, true);
-        for (int i = 0; i < insertValues.size(); i++) {
-            result.getGeneratedValues().add(shardingRule.generateKey(insertStatement.getTable().getTableName()));
-        }
+        result.getGeneratedValues().addAll(shardingRule.generateKeys(insertStatement.getTable().getTableName(), insertValues.size()));
         return result;
     }
 }
@@ -47,12 +47,28 @@ public final class Pagination {
     
     private final Integer actualRowCount;
     
+    private final Integer revisedOffset;
+    
+    private final Integer revisedRowCount;
+    
     public Pagination(final PaginationValueSegment offsetSegment, final PaginationValueSegment rowCountSegment, final List<Object> parameters) {
         hasPagination = null != offsetSegment || null != rowCountSegment;
         this.offsetSegment = offsetSegment;
         this.rowCountSegment = rowCountSegment;
         actualOffset = null == offsetSegment ? 0 : getValue(offsetSegment, parameters);
         actualRowCount = null == rowCountSegment ? null : getValue(rowCountSegment, parameters); 
+        revisedOffset = null;
+        revisedRowCount = null;
+    }
+    
+    private Pagination(final Pagination pagination, final int actualOffset, final int revisedOffset, final int revisedRowCount) {
+        hasPagination = pagination.hasPagination;
+        offsetSegment = pagination.offsetSegment;
+        rowCountSegment = pagination.rowCountSegment;
+        this.actualOffset = actualOffset;
+        actualRowCount = pagination.actualRowCount;
+        this.revisedOffset = revisedOffset;
+        this.revisedRowCount = revisedRowCount;
     }
     
     private int getValue(final PaginationValueSegment paginationValueSegment, final List<Object> parameters) {
@@ -88,6 +104,9 @@ public final class Pagination {
         if (null == offsetSegment) {
             return 0;
         }
+        if (null != revisedOffset) {
+            return actualOffset;
+        }
         return offsetSegment.isBoundOpened() ? actualOffset - 1 : actualOffset;
     }
     
@@ -128,7 +147,7 @@ public final class Pagination {
      * @return revised offset
      */
     public int getRevisedOffset() {
-        return 0;
+        return null == revisedOffset ? 0 : revisedOffset;
     }
     
     /**
@@ -138,6 +157,9 @@ public final class Pagination {
      * @return revised row count
      */
     public int getRevisedRowCount(final ShardingSelectOptimizedStatement optimizedStatement) {
+        if (null != revisedRowCount) {
+            return revisedRowCount;
+        }
         if (isMaxRowCount(optimizedStatement)) {
             return Integer.MAX_VALUE;
         }
@@ -148,4 +170,18 @@ public final class Pagination {
         return (!optimizedStatement.getGroupBy().getItems().isEmpty()
                 || !optimizedStatement.getSelectItems().getAggregationSelectItems().isEmpty()) && !optimizedStatement.isSameGroupByAndOrderByItems();
     }
+    
+    /**
+     * Revise pagination.
+     *
+     * <p>Revised pagination rewrites fixed offset and row count to every shard, and skips actual offset rows of merged result.</p>
+     *
+     * @param actualOffset actual offset of merged result
+     * @param revisedOffset revised offset of every shard
+     * @param revisedRowCount revised row count of every shard
+     * @return revised pagination
+     */
+    public Pagination revise(final int actualOffset, final int revisedOffset, final int revisedRowCount) {
+        return new Pagination(this, actualOffset, revisedOffset, revisedRowCount);
+    }
 }
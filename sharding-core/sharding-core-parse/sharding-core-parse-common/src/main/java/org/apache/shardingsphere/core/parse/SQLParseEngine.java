@@ -17,8 +17,7 @@
 
 package org.apache.shardingsphere.core.parse;
 
-import com.google.common.base.Optional;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 import org.apache.shardingsphere.core.parse.cache.SQLParseResultCache;
 import org.apache.shardingsphere.core.parse.core.SQLParseKernel;
 import org.apache.shardingsphere.core.parse.core.rule.registry.ParseRuleRegistry;
@@ -27,17 +26,28 @@ import org.apache.shardingsphere.core.parse.hook.SPIParsingHook;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
+import java.util.concurrent.Callable;
+
 /**
  * SQL parse engine.
  *
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class SQLParseEngine {
     
     private final DatabaseType databaseType;
     
-    private final SQLParseResultCache cache = new SQLParseResultCache();
+    @Getter
+    private final SQLParseResultCache cache;
+    
+    public SQLParseEngine(final DatabaseType databaseType) {
+        this(databaseType, new SQLParseResultCache());
+    }
+    
+    public SQLParseEngine(final DatabaseType databaseType, final SQLParseResultCache cache) {
+        this.databaseType = databaseType;
+        this.cache = cache;
+    }
     
     /**
      * Parse SQL.
@@ -62,16 +72,15 @@ public final class SQLParseEngine {
     }
     
     private SQLStatement parse0(final String sql, final boolean useCache) {
-        if (useCache) {
-            Optional<SQLStatement> cachedSQLStatement = cache.getSQLStatement(sql);
-            if (cachedSQLStatement.isPresent()) {
-                return cachedSQLStatement.get();
-            }
+        if (!useCache) {
+            return new SQLParseKernel(ParseRuleRegistry.getInstance(), databaseType, sql).parse();
         }
-        SQLStatement result = new SQLParseKernel(ParseRuleRegistry.getInstance(), databaseType, sql).parse();
-        if (useCache) {
-            cache.put(sql, result);
-        }
-        return result;
+        return cache.getSQLStatement(sql, new Callable<SQLStatement>() {
+            
+            @Override
+            public SQLStatement call() {
+                return new SQLParseKernel(ParseRuleRegistry.getInstance(), databaseType, sql).parse();
+            }
+        });
     }
 }
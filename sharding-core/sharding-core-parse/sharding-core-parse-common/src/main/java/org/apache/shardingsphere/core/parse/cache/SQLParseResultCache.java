@@ -18,11 +18,14 @@
 package org.apache.shardingsphere.core.parse.cache;
 
 import com.google.common.base.Optional;
-import org.apache.commons.collections4.map.AbstractReferenceMap;
-import org.apache.commons.collections4.map.ReferenceMap;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 
-import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 /**
  * SQL parse result cache.
@@ -32,7 +35,17 @@ import java.util.Map;
  */
 public final class SQLParseResultCache {
     
-    private final Map<String, SQLStatement> cache = new ReferenceMap<>(AbstractReferenceMap.ReferenceStrength.SOFT, AbstractReferenceMap.ReferenceStrength.SOFT, 65535, 1);
+    public static final long DEFAULT_MAXIMUM_SIZE = 65535L;
+    
+    private final Cache<String, SQLStatement> cache;
+    
+    public SQLParseResultCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+    
+    public SQLParseResultCache(final long maximumSize) {
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
     
     /**
      * Put SQL and parse result into cache.
@@ -51,13 +64,48 @@ public final class SQLParseResultCache {
      * @return SQL statement
      */
     public Optional<SQLStatement> getSQLStatement(final String sql) {
-        return Optional.fromNullable(cache.get(sql));
+        return Optional.fromNullable(cache.getIfPresent(sql));
+    }
+    
+    /**
+     * Get SQL statement, load and put it into cache if absent.
+     *
+     * @param sql SQL
+     * @param loader loader of SQL statement
+     * @return SQL statement
+     */
+    public SQLStatement getSQLStatement(final String sql, final Callable<SQLStatement> loader) {
+        try {
+            return cache.get(sql, loader);
+        } catch (final UncheckedExecutionException ex) {
+            throw ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : ex;
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+    
+    /**
+     * Get statistics of hit, miss, eviction and load time.
+     *
+     * @return cache statistics
+     */
+    public CacheStats getStatistics() {
+        return cache.stats();
+    }
+    
+    /**
+     * Get cached size.
+     *
+     * @return cached size
+     */
+    public long size() {
+        return cache.size();
     }
     
     /**
      * Clear cache.
      */
     public synchronized void clear() {
-        cache.clear();
+        cache.invalidateAll();
     }
 }
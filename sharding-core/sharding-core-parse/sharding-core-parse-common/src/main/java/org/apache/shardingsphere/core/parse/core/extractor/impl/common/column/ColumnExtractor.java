@@ -21,6 +21,7 @@ import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
@@ -36,13 +37,13 @@ import java.util.Map;
 public final class ColumnExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<ColumnSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> columnNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.COLUMN_NAME);
-        return columnNode.isPresent() ? Optional.of(getColumnSegment(columnNode.get())) : Optional.<ColumnSegment>absent();
+    public Optional<ColumnSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> columnNode = ExtractorUtils.findFirstChildNode(parseTreeIndex, ancestorNode, RuleName.COLUMN_NAME);
+        return columnNode.isPresent() ? Optional.of(getColumnSegment(columnNode.get(), parseTreeIndex)) : Optional.<ColumnSegment>absent();
     }
     
-    private ColumnSegment getColumnSegment(final ParserRuleContext columnNode) {
-        ParserRuleContext nameNode = ExtractorUtils.getFirstChildNode(columnNode, RuleName.NAME);
+    private ColumnSegment getColumnSegment(final ParserRuleContext columnNode, final ParseTreeIndex parseTreeIndex) {
+        ParserRuleContext nameNode = ExtractorUtils.getFirstChildNode(parseTreeIndex, columnNode, RuleName.NAME);
         ColumnSegment result = new ColumnSegment(columnNode.getStart().getStartIndex(), columnNode.getStart().getStopIndex(), nameNode.getText());
         Optional<ParserRuleContext> ownerNode = ExtractorUtils.findFirstChildNodeNoneRecursive(columnNode, RuleName.OWNER);
         if (ownerNode.isPresent()) {
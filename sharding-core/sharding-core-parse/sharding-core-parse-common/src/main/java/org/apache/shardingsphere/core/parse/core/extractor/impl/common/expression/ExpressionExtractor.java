@@ -25,6 +25,7 @@ import org.apache.shardingsphere.core.parse.core.extractor.impl.common.expressio
 import org.apache.shardingsphere.core.parse.core.extractor.impl.common.expression.impl.ParameterMarkerExpressionExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.impl.dml.select.SubqueryExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
@@ -47,19 +48,19 @@ public final class ExpressionExtractor implements OptionalSQLSegmentExtractor {
     private final CommonExpressionExtractor commonExpressionExtractor = new CommonExpressionExtractor();
     
     @Override
-    public Optional<? extends ExpressionSegment> extract(final ParserRuleContext expressionNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> subqueryNode = ExtractorUtils.findFirstChildNode(expressionNode, RuleName.SUBQUERY);
+    public Optional<? extends ExpressionSegment> extract(final ParserRuleContext expressionNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> subqueryNode = ExtractorUtils.findFirstChildNode(parseTreeIndex, expressionNode, RuleName.SUBQUERY);
         if (subqueryNode.isPresent()) {
-            return new SubqueryExtractor().extract(subqueryNode.get(), parameterMarkerIndexes);
+            return new SubqueryExtractor().extract(subqueryNode.get(), parameterMarkerIndexes, parseTreeIndex);
         }
-        Optional<ParameterMarkerExpressionSegment> parameterMarkerExpressionSegment = parameterMarkerExpressionExtractor.extract(expressionNode, parameterMarkerIndexes);
+        Optional<ParameterMarkerExpressionSegment> parameterMarkerExpressionSegment = parameterMarkerExpressionExtractor.extract(expressionNode, parameterMarkerIndexes, parseTreeIndex);
         if (parameterMarkerExpressionSegment.isPresent()) {
             return parameterMarkerExpressionSegment;
         }
-        Optional<LiteralExpressionSegment> literalExpressionSegment = literalExpressionExtractor.extract(expressionNode, parameterMarkerIndexes);
+        Optional<LiteralExpressionSegment> literalExpressionSegment = literalExpressionExtractor.extract(expressionNode, parameterMarkerIndexes, parseTreeIndex);
         if (literalExpressionSegment.isPresent()) {
             return literalExpressionSegment;
         }
-        return commonExpressionExtractor.extract(expressionNode, parameterMarkerIndexes);
+        return commonExpressionExtractor.extract(expressionNode, parameterMarkerIndexes, parseTreeIndex);
     }
 }
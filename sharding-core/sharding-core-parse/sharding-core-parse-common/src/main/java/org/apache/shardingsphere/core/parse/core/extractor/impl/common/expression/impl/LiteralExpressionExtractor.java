@@ -21,6 +21,7 @@ import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
 import org.apache.shardingsphere.core.parse.util.SQLUtil;
@@ -35,31 +36,31 @@ import java.util.Map;
 public final class LiteralExpressionExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<LiteralExpressionSegment> extract(final ParserRuleContext expressionNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public Optional<LiteralExpressionSegment> extract(final ParserRuleContext expressionNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
         Optional<ParserRuleContext> literalsNode = ExtractorUtils.findSingleNodeFromFirstDescendant(expressionNode, RuleName.LITERALS);
         if (!literalsNode.isPresent()) {
             return Optional.absent();
         }
-        Optional<?> literals = getLiterals(literalsNode.get());
+        Optional<?> literals = getLiterals(literalsNode.get(), parseTreeIndex);
         return literals.isPresent() ? Optional.of(new LiteralExpressionSegment(literalsNode.get().getStart().getStartIndex(), literalsNode.get().getStop().getStopIndex(), literals.get()))
                 : Optional.<LiteralExpressionSegment>absent();
     }
     
-    private Optional<?> getLiterals(final ParserRuleContext literalsNode) {
-        Optional<Number> numberLiterals = getNumberLiterals(literalsNode);
+    private Optional<?> getLiterals(final ParserRuleContext literalsNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<Number> numberLiterals = getNumberLiterals(literalsNode, parseTreeIndex);
         if (numberLiterals.isPresent()) {
             return numberLiterals;
         }
-        return getStringLiterals(literalsNode);
+        return getStringLiterals(literalsNode, parseTreeIndex);
     }
     
-    private Optional<Number> getNumberLiterals(final ParserRuleContext literalsNode) {
-        Optional<ParserRuleContext> numberLiteralsNode = ExtractorUtils.findFirstChildNode(literalsNode, RuleName.NUMBER_LITERALS);
+    private Optional<Number> getNumberLiterals(final ParserRuleContext literalsNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> numberLiteralsNode = ExtractorUtils.findFirstChildNode(parseTreeIndex, literalsNode, RuleName.NUMBER_LITERALS);
         return numberLiteralsNode.isPresent() ? Optional.of(SQLUtil.getExactlyNumber(numberLiteralsNode.get().getText(), 10)) : Optional.<Number>absent();
     }
     
-    private Optional<String> getStringLiterals(final ParserRuleContext literalsNode) {
-        Optional<ParserRuleContext> stringLiteralsNode = ExtractorUtils.findFirstChildNode(literalsNode, RuleName.STRING_LITERALS);
+    private Optional<String> getStringLiterals(final ParserRuleContext literalsNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> stringLiteralsNode = ExtractorUtils.findFirstChildNode(parseTreeIndex, literalsNode, RuleName.STRING_LITERALS);
         if (stringLiteralsNode.isPresent()) {
             String text = stringLiteralsNode.get().getText();
             return Optional.of(text.substring(1, text.length() - 1));
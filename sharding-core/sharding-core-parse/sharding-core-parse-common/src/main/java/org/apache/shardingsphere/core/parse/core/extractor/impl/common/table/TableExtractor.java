@@ -21,6 +21,7 @@ import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.generic.SchemaSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
@@ -36,18 +37,18 @@ import java.util.Map;
 public final class TableExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<TableSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> tableNameNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.TABLE_NAME);
+    public Optional<TableSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> tableNameNode = ExtractorUtils.findFirstChildNode(parseTreeIndex, ancestorNode, RuleName.TABLE_NAME);
         if (!tableNameNode.isPresent()) {
             return Optional.absent();
         }
-        TableSegment result = getTableSegment(tableNameNode.get());
-        setAlias(tableNameNode.get(), result);
+        TableSegment result = getTableSegment(tableNameNode.get(), parseTreeIndex);
+        setAlias(tableNameNode.get(), result, parseTreeIndex);
         return Optional.of(result);
     }
     
-    private TableSegment getTableSegment(final ParserRuleContext tableNode) {
-        ParserRuleContext nameNode = ExtractorUtils.getFirstChildNode(tableNode, RuleName.NAME);
+    private TableSegment getTableSegment(final ParserRuleContext tableNode, final ParseTreeIndex parseTreeIndex) {
+        ParserRuleContext nameNode = ExtractorUtils.getFirstChildNode(parseTreeIndex, tableNode, RuleName.NAME);
         TableSegment result = new TableSegment(nameNode.getStart().getStartIndex(), nameNode.getStop().getStopIndex(), nameNode.getText());
         Optional<ParserRuleContext> ownerNode = ExtractorUtils.findFirstChildNodeNoneRecursive(tableNode, RuleName.OWNER);
         if (ownerNode.isPresent()) {
@@ -56,8 +57,8 @@ public final class TableExtractor implements OptionalSQLSegmentExtractor {
         return result;
     }
     
-    private void setAlias(final ParserRuleContext tableNameNode, final TableSegment tableSegment) {
-        Optional<ParserRuleContext> aliasNode = ExtractorUtils.findFirstChildNode(tableNameNode.getParent(), RuleName.ALIAS);
+    private void setAlias(final ParserRuleContext tableNameNode, final TableSegment tableSegment, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> aliasNode = ExtractorUtils.findFirstChildNode(parseTreeIndex, tableNameNode.getParent(), RuleName.ALIAS);
         if (aliasNode.isPresent()) {
             tableSegment.setAlias(aliasNode.get().getText());
         }
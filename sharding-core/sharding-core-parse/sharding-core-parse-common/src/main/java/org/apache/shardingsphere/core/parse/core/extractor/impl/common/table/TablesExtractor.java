@@ -21,6 +21,7 @@ import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.CollectionSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
 
@@ -38,10 +39,10 @@ public final class TablesExtractor implements CollectionSQLSegmentExtractor {
     private final TableExtractor tableExtractor = new TableExtractor();
     
     @Override
-    public Collection<TableSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public Collection<TableSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
         Collection<TableSegment> result = new LinkedList<>();
-        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(ancestorNode, RuleName.TABLE_NAME)) {
-            Optional<TableSegment> tableSegment = tableExtractor.extract(each, parameterMarkerIndexes);
+        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(parseTreeIndex, ancestorNode, RuleName.TABLE_NAME)) {
+            Optional<TableSegment> tableSegment = tableExtractor.extract(each, parameterMarkerIndexes, parseTreeIndex);
             if (tableSegment.isPresent()) {
                 result.add(tableSegment.get());
             }
@@ -22,6 +22,7 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.CollectionSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.impl.common.table.TablesExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
 
@@ -39,8 +40,8 @@ public final class TableReferencesExtractor implements CollectionSQLSegmentExtra
     private final TablesExtractor tablesExtractor = new TablesExtractor();
     
     @Override
-    public Collection<TableSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> tableReferencesNodes = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.TABLE_REFERENCES);
-        return tableReferencesNodes.isPresent() ? tablesExtractor.extract(tableReferencesNodes.get(), parameterMarkerIndexes) : Collections.<TableSegment>emptyList();
+    public Collection<TableSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> tableReferencesNodes = ExtractorUtils.findFirstChildNode(parseTreeIndex, ancestorNode, RuleName.TABLE_REFERENCES);
+        return tableReferencesNodes.isPresent() ? tablesExtractor.extract(tableReferencesNodes.get(), parameterMarkerIndexes, parseTreeIndex) : Collections.<TableSegment>emptyList();
     }
 }
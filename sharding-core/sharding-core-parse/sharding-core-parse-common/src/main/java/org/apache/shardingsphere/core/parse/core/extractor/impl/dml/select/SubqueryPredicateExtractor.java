@@ -22,6 +22,7 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.CollectionSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.impl.dml.PredicateExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.OrPredicateSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.SubqueryPredicateSegment;
@@ -40,11 +41,11 @@ public final class SubqueryPredicateExtractor implements CollectionSQLSegmentExt
     private final PredicateExtractor predicateExtractor = new PredicateExtractor();
     
     @Override
-    public Collection<SubqueryPredicateSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Collection<ParserRuleContext> subqueryNodes = ExtractorUtils.getAllDescendantNodes(ancestorNode, RuleName.SUBQUERY);
+    public Collection<SubqueryPredicateSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Collection<ParserRuleContext> subqueryNodes = ExtractorUtils.getAllDescendantNodes(parseTreeIndex, ancestorNode, RuleName.SUBQUERY);
         Collection<SubqueryPredicateSegment> result = new LinkedList<>();
         for (ParserRuleContext each : subqueryNodes) {
-            Optional<OrPredicateSegment> orPredicateSegment = predicateExtractor.extract(each, parameterMarkerIndexes);
+            Optional<OrPredicateSegment> orPredicateSegment = predicateExtractor.extract(each, parameterMarkerIndexes, parseTreeIndex);
             if (orPredicateSegment.isPresent()) {
                 result.add(new SubqueryPredicateSegment(orPredicateSegment.get().getAndPredicates()));
             }
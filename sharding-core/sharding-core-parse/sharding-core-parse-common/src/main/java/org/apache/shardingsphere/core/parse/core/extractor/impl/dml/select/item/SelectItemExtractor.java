@@ -26,6 +26,7 @@ import org.apache.shardingsphere.core.parse.core.extractor.impl.dml.select.item.
 import org.apache.shardingsphere.core.parse.core.extractor.impl.dml.select.item.impl.FunctionSelectItemExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.impl.dml.select.item.impl.ShorthandSelectItemExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.impl.dml.select.item.impl.TopSelectItemExtractor;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.item.SelectItemSegment;
 
 import java.util.Map;
@@ -50,28 +51,28 @@ public final class SelectItemExtractor implements OptionalSQLSegmentExtractor {
     private final SubqueryExtractor subqueryExtractor = new SubqueryExtractor();
     
     @Override
-    public Optional<? extends SelectItemSegment> extract(final ParserRuleContext expressionNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public Optional<? extends SelectItemSegment> extract(final ParserRuleContext expressionNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
         Optional<? extends SelectItemSegment> result;
-        result = shorthandSelectItemExtractor.extract(expressionNode, parameterMarkerIndexes);
+        result = shorthandSelectItemExtractor.extract(expressionNode, parameterMarkerIndexes, parseTreeIndex);
         if (result.isPresent()) {
             return result;
         }
-        result = topSelectItemExtractor.extract(expressionNode, parameterMarkerIndexes);
+        result = topSelectItemExtractor.extract(expressionNode, parameterMarkerIndexes, parseTreeIndex);
         if (result.isPresent()) {
             return result;
         }
-        result = columnSelectItemExtractor.extract(expressionNode, parameterMarkerIndexes);
+        result = columnSelectItemExtractor.extract(expressionNode, parameterMarkerIndexes, parseTreeIndex);
         if (result.isPresent()) {
             return result;
         }
-        result = functionSelectItemSegmentExtractor.extract(expressionNode, parameterMarkerIndexes);
+        result = functionSelectItemSegmentExtractor.extract(expressionNode, parameterMarkerIndexes, parseTreeIndex);
         if (result.isPresent()) {
             return result;
         }
-        result = subqueryExtractor.extract(expressionNode, parameterMarkerIndexes);
+        result = subqueryExtractor.extract(expressionNode, parameterMarkerIndexes, parseTreeIndex);
         if (result.isPresent()) {
             return result;
         }
-        return expressionSelectItemExtractor.extract(expressionNode, parameterMarkerIndexes);
+        return expressionSelectItemExtractor.extract(expressionNode, parameterMarkerIndexes, parseTreeIndex);
     }
 }
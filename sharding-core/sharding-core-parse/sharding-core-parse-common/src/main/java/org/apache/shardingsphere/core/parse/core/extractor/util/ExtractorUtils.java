@@ -49,6 +49,22 @@ public final class ExtractorUtils {
         return result.get();
     }
     
+    /**
+     * Get first child node with parse tree index.
+     * 
+     * <p>Node is queried from parse tree index if indexed, otherwise the tree is walked.</p>
+     *
+     * @param parseTreeIndex parse tree index
+     * @param node start node
+     * @param ruleName rule name
+     * @return matched node
+     */
+    public static ParserRuleContext getFirstChildNode(final ParseTreeIndex parseTreeIndex, final ParserRuleContext node, final RuleName ruleName) {
+        Optional<ParserRuleContext> result = findFirstChildNode(parseTreeIndex, node, ruleName);
+        Preconditions.checkState(result.isPresent());
+        return result.get();
+    }
+    
     /**
      * Find first child node.
      *
@@ -73,6 +89,20 @@ public final class ExtractorUtils {
         return Optional.absent();
     }
     
+    /**
+     * Find first child node with parse tree index.
+     * 
+     * <p>Node is queried from parse tree index if indexed, otherwise the tree is walked.</p>
+     *
+     * @param parseTreeIndex parse tree index
+     * @param node start node
+     * @param ruleName rule name
+     * @return matched node
+     */
+    public static Optional<ParserRuleContext> findFirstChildNode(final ParseTreeIndex parseTreeIndex, final ParserRuleContext node, final RuleName ruleName) {
+        return parseTreeIndex.isIndexed(node) ? parseTreeIndex.findFirstDescendantNode(node, ruleName) : findFirstChildNode(node, ruleName);
+    }
+    
     /**
      * Find first child node none recursive.
      * 
@@ -134,8 +164,22 @@ public final class ExtractorUtils {
         return result;
     }
     
+    /**
+     * Get all descendant nodes with parse tree index.
+     * 
+     * <p>Nodes are queried from parse tree index if indexed, otherwise the tree is walked.</p>
+     *
+     * @param parseTreeIndex parse tree index
+     * @param node start node
+     * @param ruleName rule name
+     * @return all descendant nodes
+     */
+    public static Collection<ParserRuleContext> getAllDescendantNodes(final ParseTreeIndex parseTreeIndex, final ParserRuleContext node, final RuleName ruleName) {
+        return parseTreeIndex.isIndexed(node) ? parseTreeIndex.getAllDescendantNodes(node, ruleName) : getAllDescendantNodes(node, ruleName);
+    }
+    
     private static boolean isMatchedNode(final ParserRuleContext node, final RuleName ruleName) {
-        return ruleName.getName().equals(node.getClass().getSimpleName());
+        return ruleName == RuleName.findRuleName(node).orNull();
     }
     
     private static Collection<ParserRuleContext> getChildrenNodes(final ParserRuleContext node) {
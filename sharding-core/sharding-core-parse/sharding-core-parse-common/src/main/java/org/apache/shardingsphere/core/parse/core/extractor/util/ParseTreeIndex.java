@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.core.extractor.util;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parse tree index.
+ * 
+ * <p>Nodes are indexed by rule name in pre-order with only one walk, descendants of any indexed node can be found without walking the tree again.</p>
+ * 
+ * @author agent
+ */
+public final class ParseTreeIndex {
+    
+    private final Map<ParserRuleContext, IndexedNode> indexedNodes = new IdentityHashMap<>();
+    
+    private final Map<RuleName, List<IndexedNode>> ruleNodes = new EnumMap<>(RuleName.class);
+    
+    public ParseTreeIndex(final ParserRuleContext rootNode) {
+        index(rootNode, 0);
+    }
+    
+    private void index(final ParserRuleContext node, final int depth) {
+        IndexedNode indexedNode = new IndexedNode(node, indexedNodes.size(), depth);
+        indexedNodes.put(node, indexedNode);
+        Optional<RuleName> ruleName = RuleName.findRuleName(node);
+        if (ruleName.isPresent()) {
+            getRuleNodes(ruleName.get()).add(indexedNode);
+        }
+        for (int i = 0; i < node.getChildCount(); i++) {
+            ParseTree child = node.getChild(i);
+            if (child instanceof ParserRuleContext) {
+                index((ParserRuleContext) child, depth + 1);
+            }
+        }
+        indexedNode.lastDescendantPosition = indexedNodes.size() - 1;
+    }
+    
+    private List<IndexedNode> getRuleNodes(final RuleName ruleName) {
+        List<IndexedNode> result = ruleNodes.get(ruleName);
+        if (null == result) {
+            result = new ArrayList<>();
+            ruleNodes.put(ruleName, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Judge is node indexed or not.
+     * 
+     * @param node node of AST
+     * @return is node indexed or not
+     */
+    public boolean isIndexed(final ParserRuleContext node) {
+        return indexedNodes.containsKey(node);
+    }
+    
+    /**
+     * Get all nodes.
+     * 
+     * @param ruleName rule name
+     * @return all nodes in pre-order
+     */
+    public Collection<ParserRuleContext> getAllNodes(final RuleName ruleName) {
+        List<IndexedNode> candidates = ruleNodes.get(ruleName);
+        if (null == candidates) {
+            return Collections.emptyList();
+        }
+        Collection<ParserRuleContext> result = new ArrayList<>(candidates.size());
+        for (IndexedNode each : candidates) {
+            result.add(each.node);
+        }
+        return result;
+    }
+    
+    /**
+     * Get all descendant nodes, node itself is included if matched.
+     * 
+     * @param node indexed node
+     * @param ruleName rule name
+     * @return all descendant nodes in pre-order
+     */
+    public Collection<ParserRuleContext> getAllDescendantNodes(final ParserRuleContext node, final RuleName ruleName) {
+        IndexedNode ancestor = indexedNodes.get(node);
+        List<IndexedNode> candidates = ruleNodes.get(ruleName);
+        if (null == candidates) {
+            return Collections.emptyList();
+        }
+        Collection<ParserRuleContext> result = new LinkedList<>();
+        for (int i = findFirstCandidate(candidates, ancestor.position); i < candidates.size() && candidates.get(i).position <= ancestor.lastDescendantPosition; i++) {
+            result.add(candidates.get(i).node);
+        }
+        return result;
+    }
+    
+    /**
+     * Find first descendant node in breadth first order, node itself is included if matched.
+     * 
+     * @param node indexed node
+     * @param ruleName rule name
+     * @return first descendant node
+     */
+    public Optional<ParserRuleContext> findFirstDescendantNode(final ParserRuleContext node, final RuleName ruleName) {
+        IndexedNode ancestor = indexedNodes.get(node);
+        List<IndexedNode> candidates = ruleNodes.get(ruleName);
+        if (null == candidates) {
+            return Optional.absent();
+        }
+        IndexedNode result = null;
+        for (int i = findFirstCandidate(candidates, ancestor.position); i < candidates.size() && candidates.get(i).position <= ancestor.lastDescendantPosition; i++) {
+            IndexedNode each = candidates.get(i);
+            if (null == result || each.depth < result.depth) {
+                result = each;
+            }
+            if (result.depth == ancestor.depth) {
+                break;
+            }
+        }
+        return null == result ? Optional.<ParserRuleContext>absent() : Optional.of(result.node);
+    }
+    
+    private int findFirstCandidate(final List<IndexedNode> candidates, final int position) {
+        int low = 0;
+        int high = candidates.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (candidates.get(middle).position < position) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class IndexedNode {
+        
+        private final ParserRuleContext node;
+        
+        private final int position;
+        
+        private final int depth;
+        
+        private int lastDescendantPosition;
+    }
+}
@@ -17,7 +17,12 @@
 
 package org.apache.shardingsphere.core.parse.core.extractor.util;
 
+import com.google.common.base.Optional;
 import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Rule name.
@@ -159,6 +164,8 @@ public enum RuleName {
     
     TOP("Top");
     
+    private static final ConcurrentMap<Class<?>, Optional<RuleName>> RULE_NAMES = new ConcurrentHashMap<>();
+    
     private final String name;
     
     /**
@@ -169,4 +176,29 @@ public enum RuleName {
     public String getName() {
         return name + "Context";
     }
+    
+    /**
+     * Find rule name of node.
+     * 
+     * @param node node of AST
+     * @return rule name
+     */
+    public static Optional<RuleName> findRuleName(final ParseTree node) {
+        Class<?> nodeClass = node.getClass();
+        Optional<RuleName> result = RULE_NAMES.get(nodeClass);
+        if (null == result) {
+            result = loadRuleName(nodeClass.getSimpleName());
+            RULE_NAMES.putIfAbsent(nodeClass, result);
+        }
+        return result;
+    }
+    
+    private static Optional<RuleName> loadRuleName(final String nodeClassName) {
+        for (RuleName each : values()) {
+            if (each.getName().equals(nodeClassName)) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.absent();
+    }
 }
@@ -17,11 +17,19 @@
 
 package org.apache.shardingsphere.core.parse.core.parser;
 
+import com.google.common.base.Optional;
 import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.ParseTree;
-import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.core.rule.registry.ParseRuleRegistry;
 import org.apache.shardingsphere.core.parse.core.rule.registry.statement.SQLStatementRule;
@@ -52,7 +60,7 @@ public final class SQLParserEngine {
      * @return abstract syntax tree of SQL
      */
     public SQLAST parse() {
-        ParseTree parseTree = SQLParserFactory.newInstance(databaseType, sql).execute().getChild(0);
+        ParseTree parseTree = execute().getChild(0);
         if (parseTree instanceof ErrorNode) {
             throw new SQLParsingException(String.format("Unsupported SQL of `%s`", sql));
         }
@@ -60,11 +68,44 @@ public final class SQLParserEngine {
         if (null == rule) {
             throw new SQLParsingException(String.format("Unsupported SQL of `%s`", sql));
         }
-        return new SQLAST((ParserRuleContext) parseTree, getParameterMarkerIndexes((ParserRuleContext) parseTree), rule);
+        ParseTreeIndex parseTreeIndex = new ParseTreeIndex((ParserRuleContext) parseTree);
+        return new SQLAST((ParserRuleContext) parseTree, getParameterMarkerIndexes(parseTreeIndex), rule, parseTreeIndex);
     }
     
-    private Map<ParserRuleContext, Integer> getParameterMarkerIndexes(final ParserRuleContext rootNode) {
-        Collection<ParserRuleContext> placeholderNodes = ExtractorUtils.getAllDescendantNodes(rootNode, RuleName.PARAMETER_MARKER);
+    private ParserRuleContext execute() {
+        SQLParser sqlParser = SQLParserFactory.newInstance(databaseType, sql);
+        try {
+            return execute(sqlParser);
+        } finally {
+            SQLParserFactory.release(databaseType, sqlParser);
+        }
+    }
+    
+    private static ParserRuleContext execute(final SQLParser sqlParser) {
+        Optional<ParserRuleContext> result = executeWithSLL((Parser) sqlParser);
+        return result.isPresent() ? result.get() : executeWithLL((Parser) sqlParser);
+    }
+    
+    private static Optional<ParserRuleContext> executeWithSLL(final Parser parser) {
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.setErrorHandler(new BailErrorStrategy());
+        try {
+            ParserRuleContext result = ((SQLParser) parser).execute();
+            return Token.EOF == parser.getCurrentToken().getType() ? Optional.of(result) : Optional.<ParserRuleContext>absent();
+        } catch (final ParseCancellationException ex) {
+            return Optional.absent();
+        }
+    }
+    
+    private static ParserRuleContext executeWithLL(final Parser parser) {
+        parser.reset();
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        parser.setErrorHandler(new DefaultErrorStrategy());
+        return ((SQLParser) parser).execute();
+    }
+    
+    private Map<ParserRuleContext, Integer> getParameterMarkerIndexes(final ParseTreeIndex parseTreeIndex) {
+        Collection<ParserRuleContext> placeholderNodes = parseTreeIndex.getAllNodes(RuleName.PARAMETER_MARKER);
         Map<ParserRuleContext, Integer> result = new HashMap<>(placeholderNodes.size(), 1);
         int index = 0;
         for (ParserRuleContext each : placeholderNodes) {
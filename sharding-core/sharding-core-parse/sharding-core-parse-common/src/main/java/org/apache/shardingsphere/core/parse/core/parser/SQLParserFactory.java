@@ -24,7 +24,9 @@ import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.parse.api.SQLParser;
 import org.apache.shardingsphere.core.parse.spi.SQLParserEntry;
@@ -33,7 +35,11 @@ import org.apache.shardingsphere.spi.database.BranchDatabaseType;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
 
 /**
  * SQL parser factory.
@@ -46,12 +52,20 @@ public final class SQLParserFactory {
     
     private static final Collection<DatabaseType> DATABASE_TYPES = new HashSet<>();
     
+    private static final Map<DatabaseType, SQLParserEntry> PARSER_ENTRIES = new HashMap<>();
+    
+    private static final int MAX_IDLE_PARSERS = Runtime.getRuntime().availableProcessors() * 2;
+    
+    private static final Map<DatabaseType, Queue<SQLParser>> IDLE_PARSERS = new HashMap<>();
+    
     static {
         NewInstanceServiceLoader.register(SQLParserEntry.class);
         for (SQLParserEntry each : NewInstanceServiceLoader.newServiceInstances(SQLParserEntry.class)) {
             if (!(each instanceof BranchDatabaseType)) {
                 DATABASE_TYPES.add(DatabaseTypes.getActualDatabaseType(each.getDatabaseType()));
             }
+            PARSER_ENTRIES.put(DatabaseTypes.getActualDatabaseType(each.getDatabaseType()), each);
+            IDLE_PARSERS.put(DatabaseTypes.getActualDatabaseType(each.getDatabaseType()), new ArrayBlockingQueue<SQLParser>(MAX_IDLE_PARSERS));
         }
     }
     
@@ -67,22 +81,57 @@ public final class SQLParserFactory {
     /** 
      * New instance of SQL parser.
      * 
+     * <p>Idle parser of same database type is reused if present, the returned SQL parser should be given back by {@code release} after parsing.</p>
+     * 
      * @param databaseType database type
      * @param sql SQL
      * @return SQL parser
      */
     public static SQLParser newInstance(final DatabaseType databaseType, final String sql) {
-        for (SQLParserEntry each : NewInstanceServiceLoader.newServiceInstances(SQLParserEntry.class)) {
-            if (DatabaseTypes.getActualDatabaseType(each.getDatabaseType()) == databaseType) {
-                return createSQLParser(sql, each);
-            }
+        SQLParserEntry parserEntry = getParserEntry(databaseType);
+        SQLParser result = IDLE_PARSERS.get(databaseType).poll();
+        if (null == result) {
+            result = createSQLParser(parserEntry);
+        }
+        resetSQLParser((Parser) result, sql);
+        return result;
+    }
+    
+    /**
+     * Release SQL parser for reusing.
+     * 
+     * <p>Input SQL and parse state are cleared, so idle parser does not hold the last parsed SQL.</p>
+     * 
+     * @param databaseType database type
+     * @param sqlParser SQL parser to be released
+     */
+    public static void release(final DatabaseType databaseType, final SQLParser sqlParser) {
+        Parser parser = (Parser) sqlParser;
+        resetSQLParser(parser, "");
+        ParserATNSimulator interpreter = parser.getInterpreter();
+        parser.setInterpreter(new ParserATNSimulator(parser, parser.getATN(), interpreter.decisionToDFA, interpreter.getSharedContextCache()));
+        IDLE_PARSERS.get(databaseType).offer(sqlParser);
+    }
+    
+    private static SQLParserEntry getParserEntry(final DatabaseType databaseType) {
+        SQLParserEntry result = PARSER_ENTRIES.get(databaseType);
+        if (null == result) {
+            throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseType));
         }
-        throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseType));
+        return result;
     }
     
     @SneakyThrows
-    private static SQLParser createSQLParser(final String sql, final SQLParserEntry parserEntry) {
-        Lexer lexer = parserEntry.getLexerClass().getConstructor(CharStream.class).newInstance(CharStreams.fromString(sql));
+    private static SQLParser createSQLParser(final SQLParserEntry parserEntry) {
+        Lexer lexer = parserEntry.getLexerClass().getConstructor(CharStream.class).newInstance(CharStreams.fromString(""));
         return parserEntry.getParserClass().getConstructor(TokenStream.class).newInstance(new CommonTokenStream(lexer));
     }
+    
+    private static void resetSQLParser(final Parser parser, final String sql) {
+        CommonTokenStream tokenStream = (CommonTokenStream) parser.getTokenStream();
+        Lexer lexer = (Lexer) tokenStream.getTokenSource();
+        lexer.setInputStream(CharStreams.fromString(sql));
+        tokenStream.setTokenSource(lexer);
+        parser.setTokenStream(tokenStream);
+    }
 }
@@ -21,6 +21,8 @@ import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.junit.Test;
 
+import java.util.concurrent.Callable;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
@@ -53,4 +55,43 @@ public final class SQLParseResultCacheTest {
         actual.clear();
         assertFalse(actual.getSQLStatement("SELECT 1").isPresent());
     }
+    
+    @Test
+    public void assertGetSQLStatementWithLoader() {
+        SQLParseResultCache actual = new SQLParseResultCache();
+        final SQLStatement selectStatement = new SelectStatement();
+        Callable<SQLStatement> loader = new Callable<SQLStatement>() {
+            
+            @Override
+            public SQLStatement call() {
+                return selectStatement;
+            }
+        };
+        assertThat(actual.getSQLStatement("SELECT 1", loader), is(selectStatement));
+        assertThat(actual.getSQLStatement("SELECT 1", loader), is(selectStatement));
+        assertThat(actual.getStatistics().missCount(), is(1L));
+        assertThat(actual.getStatistics().hitCount(), is(1L));
+        assertThat(actual.getStatistics().loadSuccessCount(), is(1L));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertGetSQLStatementWithLoaderFailure() {
+        new SQLParseResultCache().getSQLStatement("SELECT 1", new Callable<SQLStatement>() {
+            
+            @Override
+            public SQLStatement call() {
+                throw new IllegalArgumentException();
+            }
+        });
+    }
+    
+    @Test
+    public void assertEvictWhenExceedMaximumSize() {
+        SQLParseResultCache actual = new SQLParseResultCache(1L);
+        actual.put("SELECT 1", new SelectStatement());
+        actual.put("SELECT 2", new SelectStatement());
+        assertThat(actual.size(), is(1L));
+        assertThat(actual.getStatistics().evictionCount(), is(1L));
+        assertTrue(actual.getSQLStatement("SELECT 2").isPresent());
+    }
 }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.parse.core.extractor.impl.common.schema;
 
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.junit.Test;
 
 import java.util.HashMap;
@@ -38,7 +39,7 @@ public class SchemaExtractorTest {
         ParserRuleContext parserRuleContext = new ParserRuleContext();
         Map<ParserRuleContext, Integer> hashMap = new HashMap<>();
 
-        assertEquals(Optional.absent(), new SchemaExtractor().extract(parserRuleContext, hashMap));
+        assertEquals(Optional.absent(), new SchemaExtractor().extract(parserRuleContext, hashMap, new ParseTreeIndex(parserRuleContext)));
     }
 
 }
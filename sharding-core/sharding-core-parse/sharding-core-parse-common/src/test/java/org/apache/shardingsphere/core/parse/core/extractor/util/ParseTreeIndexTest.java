@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.core.extractor.util;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ParseTreeIndexTest {
+    
+    private ParserRuleContext rootNode;
+    
+    private ParserRuleContext tableNameNode;
+    
+    private ParserRuleContext deepColumnNameNode;
+    
+    private ParserRuleContext shallowColumnNameNode;
+    
+    private ParseTreeIndex parseTreeIndex;
+    
+    @Before
+    public void setUp() {
+        rootNode = new ParserRuleContext();
+        tableNameNode = new TableNameContext();
+        deepColumnNameNode = new ColumnNameContext();
+        shallowColumnNameNode = new ColumnNameContext();
+        tableNameNode.addChild(deepColumnNameNode);
+        rootNode.addChild(tableNameNode);
+        rootNode.addChild(shallowColumnNameNode);
+        parseTreeIndex = new ParseTreeIndex(rootNode);
+    }
+    
+    @Test
+    public void assertIsIndexed() {
+        assertTrue(parseTreeIndex.isIndexed(deepColumnNameNode));
+        assertFalse(parseTreeIndex.isIndexed(new ColumnNameContext()));
+    }
+    
+    @Test
+    public void assertGetAllNodes() {
+        assertThat(new ArrayList<>(parseTreeIndex.getAllNodes(RuleName.COLUMN_NAME)), is(Arrays.asList(deepColumnNameNode, shallowColumnNameNode)));
+        assertTrue(parseTreeIndex.getAllNodes(RuleName.OWNER).isEmpty());
+    }
+    
+    @Test
+    public void assertGetAllDescendantNodes() {
+        assertThat(new ArrayList<>(parseTreeIndex.getAllDescendantNodes(rootNode, RuleName.COLUMN_NAME)), is(Arrays.asList(deepColumnNameNode, shallowColumnNameNode)));
+        assertThat(new ArrayList<>(parseTreeIndex.getAllDescendantNodes(tableNameNode, RuleName.COLUMN_NAME)), is(Arrays.<ParserRuleContext>asList(deepColumnNameNode)));
+        assertThat(new ArrayList<>(parseTreeIndex.getAllDescendantNodes(tableNameNode, RuleName.TABLE_NAME)), is(Arrays.asList(tableNameNode)));
+        assertTrue(parseTreeIndex.getAllDescendantNodes(shallowColumnNameNode, RuleName.TABLE_NAME).isEmpty());
+    }
+    
+    @Test
+    public void assertFindFirstDescendantNodeInBreadthFirstOrder() {
+        assertThat(parseTreeIndex.findFirstDescendantNode(rootNode, RuleName.COLUMN_NAME).get(), is(shallowColumnNameNode));
+        assertThat(parseTreeIndex.findFirstDescendantNode(tableNameNode, RuleName.COLUMN_NAME).get(), is(deepColumnNameNode));
+        assertFalse(parseTreeIndex.findFirstDescendantNode(shallowColumnNameNode, RuleName.TABLE_NAME).isPresent());
+    }
+    
+    @Test
+    public void assertExtractorUtilsWithParseTreeIndex() {
+        assertThat(new ArrayList<>(ExtractorUtils.getAllDescendantNodes(parseTreeIndex, tableNameNode, RuleName.COLUMN_NAME)), is(Arrays.<ParserRuleContext>asList(deepColumnNameNode)));
+        assertThat(ExtractorUtils.findFirstChildNode(parseTreeIndex, rootNode, RuleName.COLUMN_NAME).get(), is(shallowColumnNameNode));
+        assertThat(ExtractorUtils.getFirstChildNode(parseTreeIndex, tableNameNode, RuleName.COLUMN_NAME), is(deepColumnNameNode));
+    }
+    
+    @Test
+    public void assertSameResultWithExtractorUtils() {
+        List<ParserRuleContext> expected = new ArrayList<>(ExtractorUtils.getAllDescendantNodes(rootNode, RuleName.COLUMN_NAME));
+        assertThat(new ArrayList<>(parseTreeIndex.getAllDescendantNodes(rootNode, RuleName.COLUMN_NAME)), is(expected));
+        assertThat(parseTreeIndex.findFirstDescendantNode(rootNode, RuleName.COLUMN_NAME), is(ExtractorUtils.findFirstChildNode(rootNode, RuleName.COLUMN_NAME)));
+    }
+    
+    @Test
+    public void assertExtractorUtilsWithParseTreeIndexForNotIndexedNode() {
+        ParserRuleContext notIndexedNode = new TableNameContext();
+        ParserRuleContext columnNameNode = new ColumnNameContext();
+        notIndexedNode.addChild(columnNameNode);
+        assertThat(new ArrayList<>(ExtractorUtils.getAllDescendantNodes(parseTreeIndex, notIndexedNode, RuleName.COLUMN_NAME)), is(Arrays.asList(columnNameNode)));
+        assertThat(ExtractorUtils.findFirstChildNode(parseTreeIndex, notIndexedNode, RuleName.COLUMN_NAME).get(), is(columnNameNode));
+    }
+    
+    private static final class TableNameContext extends ParserRuleContext {
+    }
+    
+    private static final class ColumnNameContext extends ParserRuleContext {
+    }
+}
@@ -22,6 +22,7 @@ import com.google.common.base.Preconditions;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dal.ShowLikeSegment;
 
@@ -35,12 +36,12 @@ import java.util.Map;
 public final class MySQLShowLikeExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<ShowLikeSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> showLikeNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.SHOW_LIKE);
+    public Optional<ShowLikeSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> showLikeNode = ExtractorUtils.findFirstChildNode(parseTreeIndex, ancestorNode, RuleName.SHOW_LIKE);
         if (!showLikeNode.isPresent()) {
             return Optional.absent();
         }
-        Optional<ParserRuleContext> stringLiteralsNode = ExtractorUtils.findFirstChildNode(showLikeNode.get(), RuleName.STRING_LITERALS);
+        Optional<ParserRuleContext> stringLiteralsNode = ExtractorUtils.findFirstChildNode(parseTreeIndex, showLikeNode.get(), RuleName.STRING_LITERALS);
         Preconditions.checkState(stringLiteralsNode.isPresent());
         String pattern = stringLiteralsNode.get().getText().substring(1, stringLiteralsNode.get().getText().length() - 1);
         return Optional.of(new ShowLikeSegment(stringLiteralsNode.get().getStart().getStartIndex() + 1, stringLiteralsNode.get().getStop().getStopIndex() - 1, pattern));
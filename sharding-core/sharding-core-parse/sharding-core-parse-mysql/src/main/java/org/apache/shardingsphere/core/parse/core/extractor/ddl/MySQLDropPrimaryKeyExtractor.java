@@ -21,6 +21,7 @@ import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.constraint.DropPrimaryKeySegment;
 
@@ -34,8 +35,8 @@ import java.util.Map;
 public final class MySQLDropPrimaryKeyExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<DropPrimaryKeySegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> dropPrimaryKeySpecificationNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.DROP_PRIMARY_KEY_SPECIFICATION);
+    public Optional<DropPrimaryKeySegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> dropPrimaryKeySpecificationNode = ExtractorUtils.findFirstChildNode(parseTreeIndex, ancestorNode, RuleName.DROP_PRIMARY_KEY_SPECIFICATION);
         return dropPrimaryKeySpecificationNode.isPresent()
                 ? Optional.of(new DropPrimaryKeySegment(dropPrimaryKeySpecificationNode.get().getStart().getStartIndex(), dropPrimaryKeySpecificationNode.get().getStop().getStopIndex()))
                 : Optional.<DropPrimaryKeySegment>absent();
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.core.parser;
+
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParserEngineTest {
+    
+    private final DatabaseType databaseType = DatabaseTypes.getActualDatabaseType("MySQL");
+    
+    @Test
+    public void assertExecuteWithSLL() throws ReflectiveOperationException {
+        SQLParser sqlParser = SQLParserFactory.newInstance(databaseType, "SELECT * FROM t_order WHERE order_id = ?");
+        try {
+            ParserRuleContext actual = execute(sqlParser);
+            assertThat(actual.getChild(0).getClass().getSimpleName(), is("SelectContext"));
+            assertThat(((Parser) sqlParser).getInterpreter().getPredictionMode(), is(PredictionMode.SLL));
+        } finally {
+            SQLParserFactory.release(databaseType, sqlParser);
+        }
+    }
+    
+    @Test
+    public void assertExecuteWithLLWhenSLLStopsBeforeEOF() throws ReflectiveOperationException {
+        SQLParser sqlParser = SQLParserFactory.newInstance(databaseType, "SELECT * FROM t_order WHERE order_id = ? )");
+        try {
+            ParserRuleContext actual = execute(sqlParser);
+            assertThat(actual.getChild(0).getClass().getSimpleName(), is("SelectContext"));
+            assertThat(((Parser) sqlParser).getInterpreter().getPredictionMode(), is(PredictionMode.LL));
+        } finally {
+            SQLParserFactory.release(databaseType, sqlParser);
+        }
+    }
+    
+    @Test
+    public void assertReleaseClearsInput() {
+        SQLParser sqlParser = SQLParserFactory.newInstance(databaseType, "SELECT * FROM t_order");
+        SQLParserFactory.release(databaseType, sqlParser);
+        assertThat(((Parser) sqlParser).getTokenStream().getText(), is(""));
+    }
+    
+    private ParserRuleContext execute(final SQLParser sqlParser) throws ReflectiveOperationException {
+        Method method = SQLParserEngine.class.getDeclaredMethod("execute", SQLParser.class);
+        method.setAccessible(true);
+        try {
+            return (ParserRuleContext) method.invoke(null, sqlParser);
+        } catch (final InvocationTargetException ex) {
+            throw (RuntimeException) ex.getCause();
+        }
+    }
+}
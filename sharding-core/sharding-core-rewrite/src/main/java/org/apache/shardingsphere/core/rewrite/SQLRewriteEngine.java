@@ -29,6 +29,9 @@ import org.apache.shardingsphere.core.rewrite.builder.SQLBuilder;
 import org.apache.shardingsphere.core.rewrite.token.BaseTokenGenerateEngine;
 import org.apache.shardingsphere.core.rewrite.token.EncryptTokenGenerateEngine;
 import org.apache.shardingsphere.core.rewrite.token.ShardingTokenGenerateEngine;
+import org.apache.shardingsphere.core.rewrite.token.generator.InPredicateTokenGenerator;
+import org.apache.shardingsphere.core.rewrite.token.pojo.EncryptColumnToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.InPredicateToken;
 import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.SQLUnit;
@@ -41,6 +44,7 @@ import org.apache.shardingsphere.core.strategy.encrypt.EncryptEngine;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 import org.apache.shardingsphere.spi.encrypt.ShardingQueryAssistedEncryptor;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -66,10 +70,18 @@ public final class SQLRewriteEngine {
     
     public SQLRewriteEngine(final ShardingRule shardingRule, 
                             final SQLRouteResult sqlRouteResult, final String sql, final List<Object> parameters, final boolean isSingleRoute, final boolean isQueryWithCipherColumn) {
+        this(shardingRule, sqlRouteResult, sql, parameters, isSingleRoute, isQueryWithCipherColumn, false);
+    }
+    
+    public SQLRewriteEngine(final ShardingRule shardingRule, final SQLRouteResult sqlRouteResult, final String sql, final List<Object> parameters, 
+                            final boolean isSingleRoute, final boolean isQueryWithCipherColumn, final boolean isInPredicatePruning) {
         baseRule = shardingRule;
         this.optimizedStatement = getEncryptedOptimizedStatement(shardingRule.getEncryptRule().getEncryptEngine(), sqlRouteResult.getOptimizedStatement());
         parameterBuilder = createParameterBuilder(parameters, sqlRouteResult);
         sqlTokens = createSQLTokens(isSingleRoute, isQueryWithCipherColumn);
+        if (isInPredicatePruning && !isSingleRoute) {
+            pruneInPredicates(shardingRule, sql);
+        }
         sqlBuilder = new SQLBuilder(sql, sqlTokens);
     }
     
@@ -149,6 +161,38 @@ public final class SQLRewriteEngine {
         return result;
     }
     
+    private void pruneInPredicates(final ShardingRule shardingRule, final String sql) {
+        if (!(parameterBuilder instanceof BaseParameterBuilder)) {
+            return;
+        }
+        Collection<InPredicateToken> inPredicateTokens = new InPredicateTokenGenerator(sql).generateSQLTokens(optimizedStatement, parameterBuilder, shardingRule, false);
+        if (inPredicateTokens.isEmpty()) {
+            return;
+        }
+        ((BaseParameterBuilder) parameterBuilder).getInPredicateTokens().addAll(inPredicateTokens);
+        sqlTokens.addAll(inPredicateTokens);
+        Collections.sort(sqlTokens);
+    }
+    
+    /**
+     * Judge whether rewritten SQL only depends on logic SQL and routing unit.
+     * 
+     * <p>Rewritten SQL of insert statement depends on insert values, encrypt and in predicate tokens depend on parameters.</p>
+     * 
+     * @return rewritten SQL is reusable or not
+     */
+    public boolean isReusable() {
+        if (optimizedStatement instanceof InsertOptimizedStatement) {
+            return false;
+        }
+        for (SQLToken each : sqlTokens) {
+            if (each instanceof EncryptColumnToken || each instanceof InPredicateToken) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     /**
      * Generate SQL.
      * 
@@ -21,10 +21,16 @@ import com.google.common.base.Optional;
 import lombok.Getter;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.pagination.Pagination;
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.rewrite.token.pojo.InPredicateToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.InPredicateValue;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -44,6 +50,8 @@ public final class BaseParameterBuilder implements ParameterBuilder {
     
     private final Map<Integer, Object> replacedIndexAndParameters = new HashMap<>();
     
+    private final Collection<InPredicateToken> inPredicateTokens = new LinkedList<>();
+    
     public BaseParameterBuilder(final List<Object> parameters) {
         originalParameters.addAll(parameters);
     }
@@ -94,6 +102,31 @@ public final class BaseParameterBuilder implements ParameterBuilder {
     
     @Override
     public List<Object> getParameters(final RoutingUnit routingUnit) {
-        return getParameters();
+        if (inPredicateTokens.isEmpty() || null == routingUnit) {
+            return getParameters();
+        }
+        Collection<Integer> removedParameterIndexes = getRemovedParameterIndexes(routingUnit);
+        List<Object> parameters = getParameters();
+        List<Object> result = new ArrayList<>(parameters.size() - removedParameterIndexes.size());
+        int index = 0;
+        for (Object each : parameters) {
+            if (!removedParameterIndexes.contains(index++)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private Collection<Integer> getRemovedParameterIndexes(final RoutingUnit routingUnit) {
+        Collection<Integer> result = new HashSet<>();
+        for (InPredicateToken each : inPredicateTokens) {
+            Collection<InPredicateValue> routedValues = each.getRoutedValues(routingUnit);
+            for (InPredicateValue value : each.getValues()) {
+                if (value.getExpression() instanceof ParameterMarkerExpressionSegment && !routedValues.contains(value)) {
+                    result.add(((ParameterMarkerExpressionSegment) value.getExpression()).getParameterMarkerIndex());
+                }
+            }
+        }
+        return result;
     }
 }
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.core.rewrite.builder;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.rewrite.token.pojo.Alterable;
 import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
 import org.apache.shardingsphere.core.rewrite.token.pojo.Substitutable;
@@ -35,12 +34,49 @@ import java.util.Map;
  * @author maxiaoguang
  * @author panjuan
  */
-@RequiredArgsConstructor
 public final class SQLBuilder {
     
     private final String logicSQL;
     
-    private final List<SQLToken> sqlTokens;
+    private final SQLToken[] sqlTokens;
+    
+    private final String[] conjunctionLiterals;
+    
+    private final int conjunctionLiteralsLength;
+    
+    private StringBuilder buffer;
+    
+    public SQLBuilder(final String logicSQL, final List<SQLToken> sqlTokens) {
+        this.logicSQL = logicSQL;
+        this.sqlTokens = sqlTokens.toArray(new SQLToken[sqlTokens.size()]);
+        conjunctionLiterals = createConjunctionLiterals();
+        conjunctionLiteralsLength = getLength(conjunctionLiterals);
+    }
+    
+    private String[] createConjunctionLiterals() {
+        if (0 == sqlTokens.length) {
+            return new String[0];
+        }
+        String[] result = new String[sqlTokens.length + 1];
+        result[0] = logicSQL.substring(0, sqlTokens[0].getStartIndex());
+        for (int i = 0; i < sqlTokens.length; i++) {
+            int stopIndex = sqlTokens.length - 1 == i ? logicSQL.length() : sqlTokens[i + 1].getStartIndex();
+            result[i + 1] = logicSQL.substring(Math.min(getStartIndex(sqlTokens[i]), logicSQL.length()), stopIndex);
+        }
+        return result;
+    }
+    
+    private int getStartIndex(final SQLToken sqlToken) {
+        return sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+    }
+    
+    private int getLength(final String[] literals) {
+        int result = 0;
+        for (String each : literals) {
+            result += each.length();
+        }
+        return result;
+    }
     
     /**
      * Convert to SQL.
@@ -54,23 +90,29 @@ public final class SQLBuilder {
     /**
      * Convert to SQL.
      *
+     * <p>Buffer is reused by routing units, so SQL builder should not be shared by threads.</p>
+     *
      * @param routingUnit routing unit
      * @param logicAndActualTables logic and actual map
      * @return SQL
      */
     public String toSQL(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        if (sqlTokens.isEmpty()) {
+        if (0 == sqlTokens.length) {
             return logicSQL;
         }
         return createLogicSQL(routingUnit, logicAndActualTables);
     }
     
     private String createLogicSQL(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        StringBuilder result = new StringBuilder();
-        result.append(logicSQL.substring(0, sqlTokens.get(0).getStartIndex()));
-        for (SQLToken each : sqlTokens) {
-            result.append(getSQLTokenLiterals(each, routingUnit, logicAndActualTables));
-            result.append(getConjunctionLiterals(each));
+        String[] sqlTokenLiterals = new String[sqlTokens.length];
+        for (int i = 0; i < sqlTokens.length; i++) {
+            sqlTokenLiterals[i] = getSQLTokenLiterals(sqlTokens[i], routingUnit, logicAndActualTables);
+        }
+        StringBuilder result = getBuffer(conjunctionLiteralsLength + getLength(sqlTokenLiterals));
+        result.append(conjunctionLiterals[0]);
+        for (int i = 0; i < sqlTokens.length; i++) {
+            result.append(sqlTokenLiterals[i]);
+            result.append(conjunctionLiterals[i + 1]);
         }
         return result.toString();
     }
@@ -79,13 +121,13 @@ public final class SQLBuilder {
         return sqlToken instanceof Alterable ? ((Alterable) sqlToken).toString(routingUnit, logicAndActualTables) : sqlToken.toString();
     }
     
-    private String getConjunctionLiterals(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = sqlTokens.indexOf(sqlToken);
-        int stopIndex = sqlTokens.size() - 1 == currentSQLTokenIndex ? logicSQL.length() : sqlTokens.get(currentSQLTokenIndex + 1).getStartIndex();
-        return logicSQL.substring(getStartIndex(sqlToken) > logicSQL.length() ? logicSQL.length() : getStartIndex(sqlToken), stopIndex);
-    }
-    
-    private int getStartIndex(final SQLToken sqlToken) {
-        return sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+    private StringBuilder getBuffer(final int length) {
+        if (null == buffer) {
+            buffer = new StringBuilder(length);
+        } else {
+            buffer.setLength(0);
+            buffer.ensureCapacity(length);
+        }
+        return buffer;
     }
 }
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.cache;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL rewrite result cache for one logic SQL.
+ * 
+ * <p>Rewritten SQL is cached by routing unit, parameters should be built for every execution still.</p>
+ * 
+ * @author agent
+ */
+public final class SQLRewriteResultCache {
+    
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+    
+    private final int maximumSize;
+    
+    private final Map<RoutingUnit, String> singleRoutingSQLs = new ConcurrentHashMap<>();
+    
+    private final Map<RoutingUnit, String> multipleRoutingSQLs = new ConcurrentHashMap<>();
+    
+    private volatile boolean disabled;
+    
+    public SQLRewriteResultCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+    
+    public SQLRewriteResultCache(final int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+    
+    /**
+     * Get rewritten SQL.
+     * 
+     * @param isSingleRouting is single routing or not
+     * @param routingUnit routing unit
+     * @return rewritten SQL
+     */
+    public Optional<String> getSQL(final boolean isSingleRouting, final RoutingUnit routingUnit) {
+        return disabled ? Optional.<String>absent() : Optional.fromNullable(getSQLs(isSingleRouting).get(routingUnit));
+    }
+    
+    /**
+     * Put rewritten SQL into cache.
+     * 
+     * <p>Cache will be disabled if rewritten SQL is not reusable.</p>
+     * 
+     * @param rewriteEngine SQL rewrite engine which rewrote SQL
+     * @param isSingleRouting is single routing or not
+     * @param routingUnit routing unit
+     * @param sql rewritten SQL
+     */
+    public void put(final SQLRewriteEngine rewriteEngine, final boolean isSingleRouting, final RoutingUnit routingUnit, final String sql) {
+        if (disabled) {
+            return;
+        }
+        if (!rewriteEngine.isReusable()) {
+            disabled = true;
+            clear();
+            return;
+        }
+        Map<RoutingUnit, String> sqls = getSQLs(isSingleRouting);
+        if (sqls.size() < maximumSize) {
+            sqls.put(routingUnit, sql);
+        }
+    }
+    
+    private Map<RoutingUnit, String> getSQLs(final boolean isSingleRouting) {
+        return isSingleRouting ? singleRoutingSQLs : multipleRoutingSQLs;
+    }
+    
+    /**
+     * Get cached size.
+     * 
+     * @return cached size
+     */
+    public int size() {
+        return singleRoutingSQLs.size() + multipleRoutingSQLs.size();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        singleRoutingSQLs.clear();
+        multipleRoutingSQLs.clear();
+    }
+}
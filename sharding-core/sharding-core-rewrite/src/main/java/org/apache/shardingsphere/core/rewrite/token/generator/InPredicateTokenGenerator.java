@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.token.generator;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.optimize.api.segment.Table;
+import org.apache.shardingsphere.core.optimize.api.segment.Tables;
+import org.apache.shardingsphere.core.optimize.api.statement.OptimizedStatement;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateInRightValue;
+import org.apache.shardingsphere.core.parse.sql.statement.generic.WhereSegmentAvailable;
+import org.apache.shardingsphere.core.rewrite.builder.ParameterBuilder;
+import org.apache.shardingsphere.core.rewrite.token.pojo.InPredicateToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.InPredicateValue;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In predicate token generator.
+ *
+ * <p>Values of in predicate on sharding column are routed one by one, so that each routing unit only receives values which can be stored in it.</p>
+ *
+ * <p>It is not registered to sharding token generate engine, SQL rewrite engine uses it only if in predicate pruning is enabled.</p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class InPredicateTokenGenerator implements CollectionSQLTokenGenerator<ShardingRule> {
+    
+    private final String logicSQL;
+    
+    @Override
+    public Collection<InPredicateToken> generateSQLTokens(
+            final OptimizedStatement optimizedStatement, final ParameterBuilder parameterBuilder, final ShardingRule shardingRule, final boolean isQueryWithCipherColumn) {
+        if (!(optimizedStatement.getSQLStatement() instanceof WhereSegmentAvailable)) {
+            return Collections.emptyList();
+        }
+        Optional<WhereSegment> whereSegment = ((WhereSegmentAvailable) optimizedStatement.getSQLStatement()).getWhere();
+        if (!whereSegment.isPresent()) {
+            return Collections.emptyList();
+        }
+        Map<Integer, InPredicateToken> result = new LinkedHashMap<>();
+        for (AndPredicate each : whereSegment.get().getAndPredicates()) {
+            for (PredicateSegment predicate : each.getPredicates()) {
+                if (predicate.getRightValue() instanceof PredicateInRightValue && !result.containsKey(predicate.getStartIndex())) {
+                    Optional<InPredicateToken> inPredicateToken = createInPredicateToken(optimizedStatement.getTables(), predicate, parameterBuilder.getOriginalParameters(), shardingRule);
+                    if (inPredicateToken.isPresent()) {
+                        result.put(predicate.getStartIndex(), inPredicateToken.get());
+                    }
+                }
+            }
+        }
+        return result.values();
+    }
+    
+    private Optional<InPredicateToken> createInPredicateToken(final Tables tables, final PredicateSegment predicate, final List<Object> parameters, final ShardingRule shardingRule) {
+        Optional<String> tableName = findTableName(tables, predicate.getColumn());
+        if (!tableName.isPresent() || shardingRule.getEncryptRule().getEncryptEngine().getShardingEncryptor(tableName.get(), predicate.getColumn().getName()).isPresent()) {
+            return Optional.absent();
+        }
+        Optional<TableRule> tableRule = shardingRule.findTableRule(tableName.get());
+        if (!tableRule.isPresent() || shardingRule.isRoutingByHint(tableRule.get())) {
+            return Optional.absent();
+        }
+        ShardingStrategy databaseShardingStrategy = shardingRule.getDatabaseShardingStrategy(tableRule.get());
+        ShardingStrategy tableShardingStrategy = shardingRule.getTableShardingStrategy(tableRule.get());
+        boolean isDatabaseSharding = isShardingColumn(databaseShardingStrategy, predicate.getColumn().getName());
+        boolean isTableSharding = isShardingColumn(tableShardingStrategy, predicate.getColumn().getName());
+        if (!isDatabaseSharding && !isTableSharding) {
+            return Optional.absent();
+        }
+        Collection<ExpressionSegment> expressions = ((PredicateInRightValue) predicate.getRightValue()).getSqlExpressions();
+        List<InPredicateValue> values = new ArrayList<>(expressions.size());
+        for (ExpressionSegment each : expressions) {
+            if (!isSupportedExpression(each, parameters)) {
+                return Optional.absent();
+            }
+            Object value = getValue(each, parameters);
+            Collection<DataNode> dataNodes = value instanceof Comparable ? getDataNodes(tableRule.get(), databaseShardingStrategy, tableShardingStrategy, isDatabaseSharding, isTableSharding,
+                    new ListRouteValue<>(predicate.getColumn().getName(), tableName.get(), Collections.<Comparable<?>>singletonList((Comparable<?>) value))) : Collections.<DataNode>emptyList();
+            values.add(new InPredicateValue(each, logicSQL.substring(each.getStartIndex(), each.getStopIndex() + 1), dataNodes));
+        }
+        int startIndex = values.get(0).getExpression().getStartIndex();
+        int stopIndex = values.get(values.size() - 1).getExpression().getStopIndex();
+        return Optional.of(new InPredicateToken(startIndex, stopIndex, values));
+    }
+    
+    private Optional<String> findTableName(final Tables tables, final ColumnSegment column) {
+        if (column.getOwner().isPresent()) {
+            Optional<Table> table = tables.find(column.getOwner().get().getTableName());
+            return table.isPresent() ? Optional.of(table.get().getName()) : Optional.<String>absent();
+        }
+        return tables.isSingleTable() ? Optional.of(tables.getSingleTableName()) : Optional.<String>absent();
+    }
+    
+    private boolean isShardingColumn(final ShardingStrategy shardingStrategy, final String columnName) {
+        if (1 != shardingStrategy.getShardingColumns().size()) {
+            return false;
+        }
+        return shardingStrategy.getShardingColumns().iterator().next().equalsIgnoreCase(columnName);
+    }
+    
+    private boolean isSupportedExpression(final ExpressionSegment expression, final List<Object> parameters) {
+        if (expression instanceof ParameterMarkerExpressionSegment) {
+            return ((ParameterMarkerExpressionSegment) expression).getParameterMarkerIndex() < parameters.size();
+        }
+        return expression instanceof LiteralExpressionSegment;
+    }
+    
+    private Object getValue(final ExpressionSegment expression, final List<Object> parameters) {
+        return expression instanceof ParameterMarkerExpressionSegment
+                ? parameters.get(((ParameterMarkerExpressionSegment) expression).getParameterMarkerIndex()) : ((LiteralExpressionSegment) expression).getLiterals();
+    }
+    
+    private Collection<DataNode> getDataNodes(final TableRule tableRule, final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy,
+                                              final boolean isDatabaseSharding, final boolean isTableSharding, final ListRouteValue<Comparable<?>> routeValue) {
+        Collection<RouteValue> routeValues = Collections.<RouteValue>singletonList(routeValue);
+        Collection<String> dataSourceNames = isDatabaseSharding
+                ? databaseShardingStrategy.doSharding(tableRule.getActualDatasourceNames(), routeValues) : tableRule.getActualDatasourceNames();
+        Collection<DataNode> result = new LinkedList<>();
+        for (String each : dataSourceNames) {
+            Collection<String> tableNames = isTableSharding ? tableShardingStrategy.doSharding(tableRule.getActualTableNames(each), routeValues) : tableRule.getActualTableNames(each);
+            for (String tableName : tableNames) {
+                result.add(new DataNode(each, tableName));
+            }
+        }
+        return result;
+    }
+}
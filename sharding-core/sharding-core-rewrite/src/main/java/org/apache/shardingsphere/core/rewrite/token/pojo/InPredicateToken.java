@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.token.pojo;
+
+import lombok.Getter;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In predicate token.
+ *
+ * <p>Only values can be routed to current routing unit are kept, all values are kept if none of them can be routed.</p>
+ *
+ * @author agent
+ */
+@Getter
+public final class InPredicateToken extends SQLToken implements Substitutable, Alterable {
+    
+    private final int stopIndex;
+    
+    private final List<InPredicateValue> values;
+    
+    public InPredicateToken(final int startIndex, final int stopIndex, final List<InPredicateValue> values) {
+        super(startIndex);
+        this.stopIndex = stopIndex;
+        this.values = values;
+    }
+    
+    /**
+     * Get values routed to routing unit.
+     *
+     * @param routingUnit routing unit
+     * @return values routed to routing unit
+     */
+    public List<InPredicateValue> getRoutedValues(final RoutingUnit routingUnit) {
+        List<InPredicateValue> result = new LinkedList<>();
+        for (InPredicateValue each : values) {
+            if (each.isRoutedTo(routingUnit)) {
+                result.add(each);
+            }
+        }
+        return result.isEmpty() ? values : result;
+    }
+    
+    @Override
+    public String toString(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
+        StringBuilder result = new StringBuilder();
+        for (InPredicateValue each : getRoutedValues(routingUnit)) {
+            result.append(each).append(", ");
+        }
+        result.delete(result.length() - 2, result.length());
+        return result.toString();
+    }
+}
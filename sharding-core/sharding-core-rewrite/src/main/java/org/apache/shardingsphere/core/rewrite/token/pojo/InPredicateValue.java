@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.token.pojo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
+
+import java.util.Collection;
+
+/**
+ * Value of in predicate.
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+@Getter
+public final class InPredicateValue {
+    
+    private final ExpressionSegment expression;
+    
+    private final String text;
+    
+    private final Collection<DataNode> dataNodes;
+    
+    /**
+     * Judge whether value can be routed to routing unit.
+     *
+     * @param routingUnit routing unit
+     * @return value can be routed to routing unit or not
+     */
+    public boolean isRoutedTo(final RoutingUnit routingUnit) {
+        if (dataNodes.isEmpty() || null == routingUnit) {
+            return true;
+        }
+        for (DataNode each : dataNodes) {
+            if (routingUnit.getTableUnit(each.getDataSourceName(), each.getTableName()).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -40,6 +40,8 @@ public final class InsertValueToken extends SQLToken {
     @Getter
     private final List<DataNode> dataNodes;
     
+    private String literals;
+    
     public InsertValueToken(final List<String> columnNames, final List<ExpressionSegment> columnValues, final List<DataNode> dataNodes) {
         super(0);
         this.columnNames = columnNames;
@@ -49,6 +51,13 @@ public final class InsertValueToken extends SQLToken {
     
     @Override
     public String toString() {
+        if (null == literals) {
+            literals = createLiterals();
+        }
+        return literals;
+    }
+    
+    private String createLiterals() {
         StringBuilder result = new StringBuilder();
         result.append("(");
         for (int i = 0; i < columnNames.size(); i++) {
@@ -20,9 +20,15 @@ package org.apache.shardingsphere.core.rewrite.builder;
 import com.google.common.base.Optional;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.pagination.Pagination;
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.rewrite.token.pojo.InPredicateToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.InPredicateValue;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -66,6 +72,35 @@ public final class BaseParameterBuilderTest {
         assertThat(baseParameterBuilder.getParameters(mock(RoutingUnit.class)), is(Arrays.<Object>asList(1, 2, 0, 6, 7)));
     }
     
+    @Test
+    public void assertGetParametersWithInPredicateTokens() {
+        BaseParameterBuilder parameterBuilder = new BaseParameterBuilder(Arrays.<Object>asList(1, 2, 3, 10));
+        InPredicateValue value1 = new InPredicateValue(new ParameterMarkerExpressionSegment(0, 0, 0), "?", Collections.singletonList(new DataNode("ds_1", "t_order")));
+        InPredicateValue value2 = new InPredicateValue(new ParameterMarkerExpressionSegment(0, 0, 1), "?", Collections.singletonList(new DataNode("ds_0", "t_order")));
+        InPredicateValue value3 = new InPredicateValue(new ParameterMarkerExpressionSegment(0, 0, 2), "?", Collections.singletonList(new DataNode("ds_1", "t_order")));
+        InPredicateValue value4 = new InPredicateValue(new LiteralExpressionSegment(0, 0, 4), "4", Collections.singletonList(new DataNode("ds_0", "t_order")));
+        parameterBuilder.getInPredicateTokens().add(new InPredicateToken(0, 1, Arrays.asList(value1, value2, value3, value4)));
+        assertThat(parameterBuilder.getParameters(createRoutingUnit("ds_0")), is(Arrays.<Object>asList(2, 10)));
+        assertThat(parameterBuilder.getParameters(createRoutingUnit("ds_1")), is(Arrays.<Object>asList(1, 3, 10)));
+        assertThat(parameterBuilder.getParameters(null), is(Arrays.<Object>asList(1, 2, 3, 10)));
+        assertThat(parameterBuilder.getParameters(), is(Arrays.<Object>asList(1, 2, 3, 10)));
+    }
+    
+    @Test
+    public void assertGetParametersWithInPredicateTokensRoutedToNone() {
+        BaseParameterBuilder parameterBuilder = new BaseParameterBuilder(Arrays.<Object>asList(1, 2));
+        InPredicateValue value1 = new InPredicateValue(new ParameterMarkerExpressionSegment(0, 0, 0), "?", Collections.singletonList(new DataNode("ds_1", "t_order")));
+        InPredicateValue value2 = new InPredicateValue(new ParameterMarkerExpressionSegment(0, 0, 1), "?", Collections.singletonList(new DataNode("ds_1", "t_order")));
+        parameterBuilder.getInPredicateTokens().add(new InPredicateToken(0, 1, Arrays.asList(value1, value2)));
+        assertThat(parameterBuilder.getParameters(createRoutingUnit("ds_0")), is(Arrays.<Object>asList(1, 2)));
+    }
+    
+    private RoutingUnit createRoutingUnit(final String dataSourceName) {
+        RoutingUnit result = new RoutingUnit(dataSourceName);
+        result.getTableUnits().add(new TableUnit("t_order", "t_order"));
+        return result;
+    }
+    
     @Test
     public void assertGetOriginalParameters() {
         assertThat(baseParameterBuilder.getOriginalParameters(), is(Arrays.<Object>asList(1, 2, 1, 5)));
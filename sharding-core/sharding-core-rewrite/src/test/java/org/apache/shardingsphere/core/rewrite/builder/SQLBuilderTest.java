@@ -18,12 +18,16 @@
 package org.apache.shardingsphere.core.rewrite.builder;
 
 import org.apache.shardingsphere.core.parse.core.constant.QuoteCharacter;
+import org.apache.shardingsphere.core.rewrite.token.pojo.RowCountToken;
 import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
 import org.apache.shardingsphere.core.rewrite.token.pojo.TableToken;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -50,4 +54,17 @@ public final class SQLBuilderTest {
     public void assertToSQLWithTokens() {
         assertThat(sqlBuilderWithTokens.toSQL(null, Collections.singletonMap("t_order", "t_order_0")), is("SELECT * FROM t_order_0 WHERE order_id > 1"));
     }
+    
+    @Test
+    public void assertToSQLWithMultipleTokensForMultipleRoutingUnits() {
+        SQLBuilder sqlBuilder = new SQLBuilder("SELECT * FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id LIMIT 10", Arrays.<SQLToken>asList(
+                new TableToken(14, 20, "t_order", QuoteCharacter.NONE), new TableToken(29, 40, "t_order_item", QuoteCharacter.NONE), new RowCountToken(77, 78, 20)));
+        Map<String, String> logicAndActualTables = new HashMap<>(2, 1);
+        logicAndActualTables.put("t_order", "t_order_0");
+        logicAndActualTables.put("t_order_item", "t_order_item_0");
+        assertThat(sqlBuilder.toSQL(null, logicAndActualTables), is("SELECT * FROM t_order_0 o JOIN t_order_item_0 i ON o.order_id = i.order_id LIMIT 20"));
+        logicAndActualTables.put("t_order", "t_order_1");
+        logicAndActualTables.put("t_order_item", "t_order_item_1");
+        assertThat(sqlBuilder.toSQL(null, logicAndActualTables), is("SELECT * FROM t_order_1 o JOIN t_order_item_1 i ON o.order_id = i.order_id LIMIT 20"));
+    }
 }
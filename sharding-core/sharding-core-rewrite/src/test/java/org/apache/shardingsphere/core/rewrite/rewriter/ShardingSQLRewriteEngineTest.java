@@ -56,6 +56,10 @@ import org.apache.shardingsphere.core.parse.sql.segment.dml.item.SelectItemsSegm
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.rownum.NumberLiteralRowNumberValueSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateInRightValue;
 import org.apache.shardingsphere.core.parse.sql.segment.generic.SchemaSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.dal.DALStatement;
@@ -65,6 +69,7 @@ import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
 import org.apache.shardingsphere.core.rewrite.builder.BaseParameterBuilder;
+import org.apache.shardingsphere.core.route.SQLUnit;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
@@ -83,11 +88,13 @@ import java.lang.reflect.Field;
 import java.net.URL;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -1059,6 +1066,70 @@ public final class ShardingSQLRewriteEngineTest {
         return result;
     }
     
+    @Test
+    public void assertRewriteSelectInWithInPredicatePruning() {
+        String sql = "SELECT id FROM table_s WHERE id IN (?, ?, 3)";
+        SQLRouteResult routeResult = createSQLRouteResultForSelectInWithInPredicatePruning();
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, routeResult, sql, Arrays.<Object>asList(1, 2), false, true, true);
+        Map<String, String> logicAndActualTables = Collections.singletonMap("table_s", "table_s");
+        assertFalse(rewriteEngine.isReusable());
+        Iterator<RoutingUnit> routingUnits = routeResult.getRoutingResult().getRoutingUnits().iterator();
+        SQLUnit sqlUnit0 = rewriteEngine.generateSQL(routingUnits.next(), logicAndActualTables);
+        assertThat(sqlUnit0.getSql(), is("SELECT id FROM table_s WHERE id IN (?)"));
+        assertThat(sqlUnit0.getParameters(), is(Collections.<Object>singletonList(2)));
+        SQLUnit sqlUnit1 = rewriteEngine.generateSQL(routingUnits.next(), logicAndActualTables);
+        assertThat(sqlUnit1.getSql(), is("SELECT id FROM table_s WHERE id IN (?, 3)"));
+        assertThat(sqlUnit1.getParameters(), is(Collections.<Object>singletonList(1)));
+    }
+    
+    @Test
+    public void assertRewriteSelectInWithoutInPredicatePruning() {
+        String sql = "SELECT id FROM table_s WHERE id IN (?, ?, 3)";
+        SQLRouteResult routeResult = createSQLRouteResultForSelectInWithInPredicatePruning();
+        SQLRewriteEngine rewriteEngine = createSQLRewriteEngine(routeResult, sql, Arrays.<Object>asList(1, 2));
+        SQLUnit sqlUnit = rewriteEngine.generateSQL(routeResult.getRoutingResult().getRoutingUnits().iterator().next(), Collections.singletonMap("table_s", "table_s"));
+        assertThat(sqlUnit.getSql(), is("SELECT id FROM table_s WHERE id IN (?, ?, 3)"));
+        assertThat(sqlUnit.getParameters(), is(Arrays.<Object>asList(1, 2)));
+    }
+    
+    @Test
+    public void assertRewriteSelectInWithInPredicatePruningForSingleRoute() {
+        String sql = "SELECT id FROM table_s WHERE id IN (?, ?, 3)";
+        SQLRouteResult routeResult = createSQLRouteResultForSelectInWithInPredicatePruning();
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, routeResult, sql, Arrays.<Object>asList(1, 2), true, true, true);
+        SQLUnit sqlUnit = rewriteEngine.generateSQL(routeResult.getRoutingResult().getRoutingUnits().iterator().next(), Collections.singletonMap("table_s", "table_s"));
+        assertThat(sqlUnit.getSql(), is("SELECT id FROM table_s WHERE id IN (?, ?, 3)"));
+        assertThat(sqlUnit.getParameters(), is(Arrays.<Object>asList(1, 2)));
+    }
+    
+    private SQLRouteResult createSQLRouteResultForSelectInWithInPredicatePruning() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.getAllSQLSegments().add(new TableSegment(15, 21, "table_s"));
+        List<ExpressionSegment> expressionSegments = new LinkedList<>();
+        expressionSegments.add(new ParameterMarkerExpressionSegment(36, 36, 0));
+        expressionSegments.add(new ParameterMarkerExpressionSegment(39, 39, 1));
+        expressionSegments.add(new LiteralExpressionSegment(42, 42, 3));
+        AndPredicate andPredicate = new AndPredicate();
+        andPredicate.getPredicates().add(new PredicateSegment(29, 43, new ColumnSegment(29, 30, "id"), new PredicateInRightValue(expressionSegments)));
+        WhereSegment whereSegment = new WhereSegment(23, 43, 2);
+        whereSegment.getAndPredicates().add(andPredicate);
+        selectStatement.setWhere(whereSegment);
+        SQLRouteResult result = new SQLRouteResult(new ShardingSelectOptimizedStatement(selectStatement, Collections.<ShardingCondition>emptyList(), Collections.<EncryptCondition>emptyList(),
+                new GroupBy(Collections.<OrderByItem>emptyList(), 0), new OrderBy(Collections.<OrderByItem>emptyList(), false),
+                new SelectItems(Collections.<SelectItem>emptyList(), false, 0), new Pagination(null, null, Collections.emptyList())));
+        RoutingResult routingResult = new RoutingResult();
+        routingResult.getRoutingUnits().add(createRoutingUnit("db0", "table_s"));
+        routingResult.getRoutingUnits().add(createRoutingUnit("db1", "table_s"));
+        result.setRoutingResult(routingResult);
+        return result;
+    }
+    
+    private RoutingUnit createRoutingUnit(final String dataSourceName, final String tableName) {
+        RoutingUnit result = new RoutingUnit(dataSourceName);
+        result.getTableUnits().add(new TableUnit(tableName, tableName));
+        return result;
+    }
+    
     private SQLRewriteEngine createSQLRewriteEngine(final SQLRouteResult routeResult, final String sql, final List<Object> parameters) {
         return new SQLRewriteEngine(shardingRule, routeResult, sql, parameters, routeResult.getRoutingResult().isSingleRouting(), true);
     }
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.token.pojo;
+
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class InPredicateTokenTest {
+    
+    private InPredicateToken inPredicateToken;
+    
+    @Before
+    public void setUp() {
+        InPredicateValue value1 = new InPredicateValue(new ParameterMarkerExpressionSegment(0, 0, 0), "?", Collections.singletonList(new DataNode("ds_0", "t_order_0")));
+        InPredicateValue value2 = new InPredicateValue(new LiteralExpressionSegment(0, 0, "a'bc"), "'a''bc'", Collections.singletonList(new DataNode("ds_1", "t_order_1")));
+        InPredicateValue value3 = new InPredicateValue(new LiteralExpressionSegment(0, 0, 3), "3", Collections.<DataNode>emptyList());
+        inPredicateToken = new InPredicateToken(0, 1, Arrays.asList(value1, value2, value3));
+    }
+    
+    @Test
+    public void assertToStringWithoutRoutingUnit() {
+        assertThat(inPredicateToken.toString(null, Collections.<String, String>emptyMap()), is("?, 'a''bc', 3"));
+    }
+    
+    @Test
+    public void assertToStringWithRoutedValues() {
+        assertThat(inPredicateToken.toString(createRoutingUnit("ds_1", "t_order_1"), Collections.<String, String>emptyMap()), is("'a''bc', 3"));
+    }
+    
+    @Test
+    public void assertGetRoutedValuesWithoutAnyMatchedDataNode() {
+        InPredicateToken inPredicateToken = new InPredicateToken(0, 1, Collections.singletonList(
+                new InPredicateValue(new LiteralExpressionSegment(0, 0, 1), "1", Collections.singletonList(new DataNode("ds_0", "t_order_0")))));
+        assertThat(inPredicateToken.getRoutedValues(createRoutingUnit("ds_1", "t_order_1")).size(), is(1));
+    }
+    
+    private RoutingUnit createRoutingUnit(final String dataSourceName, final String actualTableName) {
+        RoutingUnit result = new RoutingUnit(dataSourceName);
+        result.getTableUnits().add(new TableUnit("t_order", actualTableName));
+        return result;
+    }
+}
@@ -27,7 +27,6 @@ import org.apache.shardingsphere.core.optimize.sharding.ShardingOptimizeEngineFa
 import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingCondition;
 import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingConditions;
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingConditionOptimizedStatement;
-import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingInsertOptimizedStatement;
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
@@ -39,7 +38,6 @@ import org.apache.shardingsphere.core.rule.TableRule;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -59,8 +57,6 @@ public final class ParsingSQLRouter implements ShardingRouter {
     
     private final SQLParseEngine parseEngine;
     
-    private final List<Comparable<?>> generatedValues = new LinkedList<>();
-    
     @Override
     public SQLStatement parse(final String logicSQL, final boolean useCache) {
         return parseEngine.parse(logicSQL, useCache);
@@ -79,22 +75,11 @@ public final class ParsingSQLRouter implements ShardingRouter {
         if (needMergeShardingValues) {
             Preconditions.checkState(1 == routingResult.getRoutingUnits().size(), "Must have one sharding with subquery.");
         }
-        if (optimizedStatement instanceof ShardingInsertOptimizedStatement) {
-            setGeneratedValues((ShardingInsertOptimizedStatement) optimizedStatement);
-        }
         SQLRouteResult result = new SQLRouteResult(optimizedStatement);
         result.setRoutingResult(routingResult);
         return result;
     }
     
-    private void setGeneratedValues(final ShardingInsertOptimizedStatement optimizedStatement) {
-        if (optimizedStatement.getGeneratedKey().isPresent()) {
-            generatedValues.addAll(optimizedStatement.getGeneratedKey().get().getGeneratedValues());
-            optimizedStatement.getGeneratedKey().get().getGeneratedValues().clear();
-            optimizedStatement.getGeneratedKey().get().getGeneratedValues().addAll(generatedValues);
-        }
-    }
-    
     private boolean isNeedMergeShardingValues(final OptimizedStatement optimizedStatement) {
         return optimizedStatement instanceof ShardingSelectOptimizedStatement && ((ShardingSelectOptimizedStatement) optimizedStatement).isContainsSubquery() 
                 && !shardingRule.getShardingLogicTableNames(optimizedStatement.getTables().getTableNames()).isEmpty();
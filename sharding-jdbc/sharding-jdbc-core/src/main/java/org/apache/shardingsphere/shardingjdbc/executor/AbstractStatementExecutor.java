@@ -28,9 +28,14 @@ import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesCons
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
+import org.apache.shardingsphere.core.execute.metadata.DataSourceMetaDataCache;
 import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializer;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteCallback;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteTemplate;
+import org.apache.shardingsphere.core.execute.sql.execute.result.ColumnarMemoryQueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.MemoryQueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryMemoryQuota;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareTemplate;
 import org.apache.shardingsphere.core.optimize.api.statement.OptimizedStatement;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.index.IndexSegment;
@@ -39,10 +44,10 @@ import org.apache.shardingsphere.core.parse.sql.statement.ddl.CreateIndexStateme
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.CreateTableStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.DropIndexStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.DropTableStatement;
+import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import org.apache.shardingsphere.shardingjdbc.jdbc.metadata.JDBCTableMetaDataConnectionManager;
-import org.apache.shardingsphere.spi.database.DatabaseType;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -62,7 +67,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 @Getter(AccessLevel.PROTECTED)
 public class AbstractStatementExecutor {
     
-    private final DatabaseType databaseType;
+    private final DataSourceMetaDataCache dataSourceMetaDataCache;
     
     @Getter
     private final int resultSetType;
@@ -97,7 +102,7 @@ public class AbstractStatementExecutor {
     private final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups = new LinkedList<>();
     
     public AbstractStatementExecutor(final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability, final ShardingConnection shardingConnection) {
-        this.databaseType = shardingConnection.getShardingContext().getDatabaseType();
+        this.dataSourceMetaDataCache = shardingConnection.getShardingContext().getDataSourceMetaDataCache();
         this.resultSetType = resultSetType;
         this.resultSetConcurrency = resultSetConcurrency;
         this.resultSetHoldability = resultSetHoldability;
@@ -134,6 +139,16 @@ public class AbstractStatementExecutor {
         return result;
     }
     
+    protected final QueryMemoryQuota createQueryMemoryQuota() {
+        long maxMemoryBytesPerQuery = connection.getShardingContext().getShardingProperties().<Long>getValue(ShardingPropertiesConstant.MAX_MEMORY_BYTES_PER_QUERY);
+        return 0 < maxMemoryBytesPerQuery ? new QueryMemoryQuota(maxMemoryBytesPerQuery) : null;
+    }
+    
+    protected final QueryResult createMemoryQueryResult(final ResultSet resultSet, final QueryMemoryQuota memoryQuota) {
+        ShardingRule shardingRule = connection.getShardingContext().getShardingRule();
+        return null == memoryQuota ? new MemoryQueryResult(resultSet, shardingRule) : new ColumnarMemoryQueryResult(resultSet, shardingRule, memoryQuota);
+    }
+    
     protected final boolean isAccumulate() {
         return !connection.getShardingContext().getShardingRule().isAllBroadcastTables(optimizedStatement.getTables().getTableNames());
     }
@@ -154,7 +169,7 @@ public class AbstractStatementExecutor {
     
     private void clearStatements() throws SQLException {
         for (Statement each : getStatements()) {
-            each.close();
+            connection.releaseStatement(each);
         }
     }
     
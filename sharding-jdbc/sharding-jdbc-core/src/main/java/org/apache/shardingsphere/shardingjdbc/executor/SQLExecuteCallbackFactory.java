@@ -18,9 +18,9 @@
 package org.apache.shardingsphere.shardingjdbc.executor;
 
 import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.execute.metadata.DataSourceMetaDataCache;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteCallback;
 import org.apache.shardingsphere.core.route.RouteUnit;
-import org.apache.shardingsphere.spi.database.DatabaseType;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -36,12 +36,12 @@ public final class SQLExecuteCallbackFactory {
     /**
      * Get update callback.
      *
-     * @param databaseType database type
+     * @param dataSourceMetaDataCache data source meta data cache
      * @param isExceptionThrown is exception thrown
      * @return update callback
      */
-    public static SQLExecuteCallback<Integer> getPreparedUpdateSQLExecuteCallback(final DatabaseType databaseType, final boolean isExceptionThrown) {
-        return new SQLExecuteCallback<Integer>(databaseType, isExceptionThrown) {
+    public static SQLExecuteCallback<Integer> getPreparedUpdateSQLExecuteCallback(final DataSourceMetaDataCache dataSourceMetaDataCache, final boolean isExceptionThrown) {
+        return new SQLExecuteCallback<Integer>(dataSourceMetaDataCache, isExceptionThrown) {
             
             @Override
             protected Integer executeSQL(final RouteUnit routeUnit, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
@@ -53,12 +53,12 @@ public final class SQLExecuteCallbackFactory {
     /**
      * Get execute callback.
      *
-     * @param databaseType database type
+     * @param dataSourceMetaDataCache data source meta data cache
      * @param isExceptionThrown is exception thrown
      * @return execute callback
      */
-    public static SQLExecuteCallback<Boolean> getPreparedSQLExecuteCallback(final DatabaseType databaseType, final boolean isExceptionThrown) {
-        return new SQLExecuteCallback<Boolean>(databaseType, isExceptionThrown) {
+    public static SQLExecuteCallback<Boolean> getPreparedSQLExecuteCallback(final DataSourceMetaDataCache dataSourceMetaDataCache, final boolean isExceptionThrown) {
+        return new SQLExecuteCallback<Boolean>(dataSourceMetaDataCache, isExceptionThrown) {
             
             @Override
             protected Boolean executeSQL(final RouteUnit routeUnit, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
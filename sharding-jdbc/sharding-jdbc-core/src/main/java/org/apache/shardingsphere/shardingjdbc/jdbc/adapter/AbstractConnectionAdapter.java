@@ -184,6 +184,12 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     protected abstract Map<String, DataSource> getDataSourceMap();
     
+    /**
+     * Clear statements cached for cached connections, invoked before cached connections are closed.
+     */
+    protected void clearCachedStatements() {
+    }
+    
     @Override
     public final boolean getAutoCommit() {
         return autoCommit;
@@ -220,6 +226,7 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
         }
         if (!autoCommit && !shardingTransactionManager.isInTransaction()) {
             recordMethodInvocation(Connection.class, "setAutoCommit", new Class[]{boolean.class}, new Object[]{true});
+            clearCachedStatements();
             forceExecuteTemplate.execute(cachedConnections.values(), new ForceExecuteCallback<Connection>() {
         
                 @Override
@@ -276,6 +283,7 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
         MasterVisitedManager.clear();
         TransactionTypeHolder.clear();
         int connectionSize = cachedConnections.size();
+        clearCachedStatements();
         try {
             forceExecuteTemplateForClose.execute(cachedConnections.entries(), new ForceExecuteCallback<Entry<String, Connection>>() {
         
@@ -17,7 +17,10 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.connection;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.sql.prepare.cache.PreparedStatementCache;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractConnectionAdapter;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.statement.ShardingPreparedStatement;
@@ -26,6 +29,7 @@ import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
 import javax.sql.DataSource;
+import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -47,6 +51,9 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
     
     private final ShardingContext shardingContext;
     
+    @Getter(AccessLevel.NONE)
+    private volatile PreparedStatementCache<DatabasePreparedStatementKey> preparedStatementCache;
+    
     public ShardingConnection(final Map<String, DataSource> dataSourceMap, final ShardingContext shardingContext,
                               final ShardingTransactionManagerEngine shardingTransactionManagerEngine, final TransactionType transactionType) {
         super(shardingTransactionManagerEngine, transactionType);
@@ -54,6 +61,61 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
         this.shardingContext = shardingContext;
     }
     
+    /**
+     * Get prepared statement of database connection, reuse cached one if present.
+     *
+     * @param connection database connection
+     * @param sql SQL
+     * @param resultSetType result set type
+     * @param resultSetConcurrency result set concurrency
+     * @param resultSetHoldability result set holdability
+     * @param returnGeneratedKeys return generated keys or not
+     * @return prepared statement
+     * @throws SQLException SQL exception
+     */
+    public PreparedStatement getPreparedStatement(final Connection connection, final String sql,
+                                                  final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability, final boolean returnGeneratedKeys) throws SQLException {
+        DatabasePreparedStatementKey key = new DatabasePreparedStatementKey(connection, sql, resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys);
+        PreparedStatementCache<DatabasePreparedStatementKey> cache = getPreparedStatementCache();
+        return null == cache ? key.createPreparedStatement() : cache.acquire(key);
+    }
+    
+    /**
+     * Release statement of database connection, prepared statement will be put back to cache if cached.
+     *
+     * @param statement statement to be released
+     * @throws SQLException SQL exception
+     */
+    public void releaseStatement(final Statement statement) throws SQLException {
+        if (null == preparedStatementCache) {
+            statement.close();
+        } else {
+            preparedStatementCache.release(statement);
+        }
+    }
+    
+    private PreparedStatementCache<DatabasePreparedStatementKey> getPreparedStatementCache() {
+        if (null == preparedStatementCache) {
+            int maxCachedStatements = shardingContext.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CACHED_STATEMENTS_PER_CONNECTION);
+            if (0 >= maxCachedStatements) {
+                return null;
+            }
+            synchronized (this) {
+                if (null == preparedStatementCache) {
+                    preparedStatementCache = new PreparedStatementCache<>(maxCachedStatements);
+                }
+            }
+        }
+        return preparedStatementCache;
+    }
+    
+    @Override
+    protected void clearCachedStatements() {
+        if (null != preparedStatementCache) {
+            preparedStatementCache.clear();
+        }
+    }
+    
     @Override
     public DatabaseMetaData getMetaData() throws SQLException {
         return getCachedConnections().isEmpty() ? shardingContext.getCachedDatabaseMetaData() : getCachedConnections().values().iterator().next().getMetaData();
@@ -51,6 +51,15 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
         this.mergeResultSet = mergeResultSet;
     }
     
+    @Override
+    public void close() throws SQLException {
+        try {
+            mergeResultSet.close();
+        } finally {
+            super.close();
+        }
+    }
+    
     @Override
     public boolean next() throws SQLException {
         return mergeResultSet.next();
@@ -22,11 +22,14 @@ import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Collections2;
 import lombok.Getter;
+import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.PreparedQueryShardingEngine;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.StreamQueryResult;
 import org.apache.shardingsphere.core.merge.MergeEngine;
 import org.apache.shardingsphere.core.merge.MergeEngineFactory;
+import org.apache.shardingsphere.core.merge.dql.pagination.DeepPaginationEngine;
 import org.apache.shardingsphere.core.optimize.sharding.segment.insert.GeneratedKey;
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingInsertOptimizedStatement;
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
@@ -48,6 +51,8 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -71,6 +76,8 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     private final BatchPreparedStatementExecutor batchPreparedStatementExecutor;
     
+    private final List<Comparable<?>> batchGeneratedValues = new LinkedList<>();
+    
     private SQLRouteResult routeResult;
     
     private ResultSet currentResultSet;
@@ -108,9 +115,10 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         try {
             clearPrevious();
             shard();
+            reviseDeepPagination();
             initPreparedStatementExecutor();
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(), 
-                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), preparedStatementExecutor.executeQuery());
+                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), preparedStatementExecutor.executeQuery(), getMaxMergeBytesInMemory());
             result = getResultSet(mergeEngine);
         } finally {
             clearBatch();
@@ -137,7 +145,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         }
         if (routeResult.getOptimizedStatement() instanceof ShardingSelectOptimizedStatement || routeResult.getOptimizedStatement().getSQLStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(),
-                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), queryResults);
+                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), queryResults, getMaxMergeBytesInMemory());
             currentResultSet = getCurrentResultSet(resultSets, mergeEngine);
         }
         return currentResultSet;
@@ -189,6 +197,10 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         return new GeneratedKeysResultSet();
     }
     
+    private long getMaxMergeBytesInMemory() {
+        return connection.getShardingContext().getShardingProperties().<Long>getValue(ShardingPropertiesConstant.MAX_MERGE_BYTES_IN_MEMORY);
+    }
+    
     private Optional<GeneratedKey> getGeneratedKey() {
         return null != routeResult && routeResult.getOptimizedStatement().getSQLStatement() instanceof InsertStatement
                 ? ((ShardingInsertOptimizedStatement) routeResult.getOptimizedStatement()).getGeneratedKey() : Optional.<GeneratedKey>absent();
@@ -199,9 +211,10 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         setParametersForStatements();
     }
     
-    private void setParametersForStatements() {
-        for (int i = 0; i < preparedStatementExecutor.getStatements().size(); i++) {
-            replaySetParameter((PreparedStatement) preparedStatementExecutor.getStatements().get(i), preparedStatementExecutor.getParameterSets().get(i));
+    private void setParametersForStatements() throws SQLException {
+        Iterator<List<Object>> parameterSets = preparedStatementExecutor.getParameterSets().iterator();
+        for (Statement each : preparedStatementExecutor.getStatements()) {
+            replaySetParameter((PreparedStatement) each, parameterSets.next());
         }
     }
     
@@ -214,6 +227,10 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         try {
             shard();
             batchPreparedStatementExecutor.addBatchForRouteUnits(routeResult);
+            Optional<GeneratedKey> generatedKey = getGeneratedKey();
+            if (generatedKey.isPresent()) {
+                batchGeneratedValues.addAll(generatedKey.get().getGeneratedValues());
+            }
         } finally {
             currentResultSet = null;
             clearParameters();
@@ -224,10 +241,26 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         routeResult = shardingEngine.shard(sql, getParameters());
     }
     
+    private void reviseDeepPagination() throws SQLException {
+        ShardingContext shardingContext = connection.getShardingContext();
+        if (HintManager.isDatabaseShardingOnly() || !DeepPaginationEngine.isApplicable(
+                shardingContext.getDatabaseType(), routeResult, shardingContext.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MIN_OFFSET_FOR_DEEP_PAGINATION))) {
+            return;
+        }
+        DeepPaginationEngine deepPaginationEngine = new DeepPaginationEngine(routeResult);
+        SQLRouteResult originalRouteResult = routeResult;
+        routeResult = shardingEngine.rewrite(sql, getParameters(), originalRouteResult, deepPaginationEngine.getProbeOptimizedStatement());
+        initPreparedStatementExecutor();
+        Optional<ShardingSelectOptimizedStatement> fetchOptimizedStatement = deepPaginationEngine.getFetchOptimizedStatement(preparedStatementExecutor.executeQuery());
+        clearPrevious();
+        routeResult = fetchOptimizedStatement.isPresent() ? shardingEngine.rewrite(sql, getParameters(), originalRouteResult, fetchOptimizedStatement.get()) : originalRouteResult;
+    }
+    
     @Override
     public int[] executeBatch() throws SQLException {
         try {
             initBatchPreparedStatementExecutor();
+            setBatchGeneratedValues();
             return batchPreparedStatementExecutor.executeBatch();
         } finally {
             clearBatch();
@@ -239,6 +272,14 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         setBatchParametersForStatements();
     }
     
+    private void setBatchGeneratedValues() {
+        Optional<GeneratedKey> generatedKey = getGeneratedKey();
+        if (generatedKey.isPresent()) {
+            generatedKey.get().getGeneratedValues().clear();
+            generatedKey.get().getGeneratedValues().addAll(batchGeneratedValues);
+        }
+    }
+    
     private void setBatchParametersForStatements() throws SQLException {
         for (Statement each : batchPreparedStatementExecutor.getStatements()) {
             List<List<Object>> parameterSet = batchPreparedStatementExecutor.getParameterSet(each);
@@ -253,9 +294,19 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     public void clearBatch() throws SQLException {
         currentResultSet = null;
         batchPreparedStatementExecutor.clear();
+        batchGeneratedValues.clear();
         clearParameters();
     }
     
+    @Override
+    protected void closeRoutedStatements() throws SQLException {
+        try {
+            preparedStatementExecutor.clear();
+        } finally {
+            batchPreparedStatementExecutor.clear();
+        }
+    }
+    
     @SuppressWarnings("MagicConstant")
     @Override
     public int getResultSetType() {
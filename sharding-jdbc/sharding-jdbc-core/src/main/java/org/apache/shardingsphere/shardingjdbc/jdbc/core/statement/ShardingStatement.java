@@ -20,11 +20,14 @@ package org.apache.shardingsphere.shardingjdbc.jdbc.core.statement;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import lombok.Getter;
+import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.SimpleQueryShardingEngine;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.StreamQueryResult;
 import org.apache.shardingsphere.core.merge.MergeEngine;
 import org.apache.shardingsphere.core.merge.MergeEngineFactory;
+import org.apache.shardingsphere.core.merge.dql.pagination.DeepPaginationEngine;
 import org.apache.shardingsphere.core.optimize.sharding.segment.insert.GeneratedKey;
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingInsertOptimizedStatement;
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
@@ -89,9 +92,10 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         try {
             clearPrevious();
             shard(sql);
+            reviseDeepPagination(sql);
             initStatementExecutor();
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(), 
-                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), statementExecutor.executeQuery());
+                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), statementExecutor.executeQuery(), getMaxMergeBytesInMemory());
             result = getResultSet(mergeEngine);
         } finally {
             currentResultSet = null;
@@ -118,7 +122,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         }
         if (routeResult.getOptimizedStatement() instanceof ShardingSelectOptimizedStatement || routeResult.getOptimizedStatement().getSQLStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(),
-                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), queryResults);
+                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), queryResults, getMaxMergeBytesInMemory());
             currentResultSet = getCurrentResultSet(resultSets, mergeEngine);
         }
         return currentResultSet;
@@ -250,10 +254,29 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     }
     
     private void shard(final String sql) {
+        routeResult = createShardingEngine().shard(sql, Collections.emptyList());
+    }
+    
+    private SimpleQueryShardingEngine createShardingEngine() {
         ShardingContext shardingContext = connection.getShardingContext();
-        SimpleQueryShardingEngine shardingEngine = new SimpleQueryShardingEngine(shardingContext.getShardingRule(), 
+        return new SimpleQueryShardingEngine(shardingContext.getShardingRule(),
                 shardingContext.getShardingProperties(), shardingContext.getMetaData(), shardingContext.getDatabaseType(), shardingContext.getParseEngine());
-        routeResult = shardingEngine.shard(sql, Collections.emptyList());
+    }
+    
+    private void reviseDeepPagination(final String sql) throws SQLException {
+        ShardingContext shardingContext = connection.getShardingContext();
+        if (HintManager.isDatabaseShardingOnly() || !DeepPaginationEngine.isApplicable(
+                shardingContext.getDatabaseType(), routeResult, shardingContext.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MIN_OFFSET_FOR_DEEP_PAGINATION))) {
+            return;
+        }
+        SimpleQueryShardingEngine shardingEngine = createShardingEngine();
+        DeepPaginationEngine deepPaginationEngine = new DeepPaginationEngine(routeResult);
+        SQLRouteResult originalRouteResult = routeResult;
+        routeResult = shardingEngine.rewrite(sql, Collections.emptyList(), originalRouteResult, deepPaginationEngine.getProbeOptimizedStatement());
+        initStatementExecutor();
+        Optional<ShardingSelectOptimizedStatement> fetchOptimizedStatement = deepPaginationEngine.getFetchOptimizedStatement(statementExecutor.executeQuery());
+        clearPrevious();
+        routeResult = fetchOptimizedStatement.isPresent() ? shardingEngine.rewrite(sql, Collections.emptyList(), originalRouteResult, fetchOptimizedStatement.get()) : originalRouteResult;
     }
     
     private void clearPrevious() throws SQLException {
@@ -301,6 +324,10 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         return new GeneratedKeysResultSet();
     }
     
+    private long getMaxMergeBytesInMemory() {
+        return connection.getShardingContext().getShardingProperties().<Long>getValue(ShardingPropertiesConstant.MAX_MERGE_BYTES_IN_MEMORY);
+    }
+    
     private Optional<GeneratedKey> getGeneratedKey() {
         if (null != routeResult && routeResult.getOptimizedStatement().getSQLStatement() instanceof InsertStatement) {
             return ((ShardingInsertOptimizedStatement) routeResult.getOptimizedStatement()).getGeneratedKey();
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.execute.metadata.DataSourceMetaDataCache;
 import org.apache.shardingsphere.core.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
 import org.apache.shardingsphere.core.rule.EncryptRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
@@ -70,6 +71,7 @@ public abstract class AbstractBaseExecutorTest {
         when(shardingContext.getExecuteEngine()).thenReturn(executeEngine);
         when(shardingContext.getShardingProperties()).thenReturn(getShardingProperties());
         when(shardingContext.getDatabaseType()).thenReturn(DatabaseTypes.getActualDatabaseType("H2"));
+        when(shardingContext.getDataSourceMetaDataCache()).thenReturn(new DataSourceMetaDataCache(DatabaseTypes.getActualDatabaseType("H2")));
         ShardingRule shardingRule = getShardingRule();
         when(shardingContext.getShardingRule()).thenReturn(shardingRule);
         DataSource dataSource = mock(DataSource.class);
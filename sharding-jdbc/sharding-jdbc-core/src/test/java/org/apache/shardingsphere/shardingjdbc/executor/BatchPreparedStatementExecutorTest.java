@@ -17,12 +17,15 @@
 
 package org.apache.shardingsphere.shardingjdbc.executor;
 
+import com.google.common.collect.Lists;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
+import org.apache.shardingsphere.core.optimize.api.statement.OptimizedStatement;
 import org.apache.shardingsphere.core.route.BatchRouteUnit;
 import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.SQLUnit;
 import org.junit.Test;
 
@@ -34,8 +37,10 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -76,6 +81,28 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement).executeBatch();
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    @SneakyThrows
+    public void assertAddBatchForRouteUnits() {
+        actual.addBatchForRouteUnits(createRouteResult(new RouteUnit("ds_0", new SQLUnit(SQL, Lists.<Object>newArrayList(1)))));
+        actual.addBatchForRouteUnits(createRouteResult(new RouteUnit("ds_1", new SQLUnit(SQL, Lists.<Object>newArrayList(2)))));
+        actual.addBatchForRouteUnits(createRouteResult(new RouteUnit("ds_0", new SQLUnit(SQL, Lists.<Object>newArrayList(3)))));
+        Field field = BatchPreparedStatementExecutor.class.getDeclaredField("routeUnits");
+        field.setAccessible(true);
+        Map<RouteUnit, BatchRouteUnit> routeUnits = (Map<RouteUnit, BatchRouteUnit>) field.get(actual);
+        assertThat(routeUnits.size(), is(2));
+        BatchRouteUnit batchRouteUnit = routeUnits.get(new RouteUnit("ds_0", new SQLUnit(SQL, Collections.emptyList())));
+        assertThat(batchRouteUnit.getParameterSets(), is(Arrays.<List<Object>>asList(Collections.<Object>singletonList(1), Collections.<Object>singletonList(3))));
+        assertThat(batchRouteUnit.getJdbcAndActualAddBatchCallTimesMap().get(2), is(1));
+    }
+    
+    private SQLRouteResult createRouteResult(final RouteUnit routeUnit) {
+        SQLRouteResult result = new SQLRouteResult(mock(OptimizedStatement.class));
+        result.getRouteUnits().add(routeUnit);
+        return result;
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement statement = mock(PreparedStatement.class);
         Connection connection = mock(Connection.class);
@@ -125,20 +152,20 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups = new LinkedList<>();
         List<StatementExecuteUnit> preparedStatementExecuteUnits = new LinkedList<>();
         executeGroups.add(new ShardingExecuteGroup<>(preparedStatementExecuteUnits));
-        Collection<BatchRouteUnit> routeUnits = new LinkedList<>();
+        Map<RouteUnit, BatchRouteUnit> routeUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             RouteUnit routeUnit = new RouteUnit("ds_0", new SQLUnit(SQL, Collections.singletonList((Object) 1)));
             BatchRouteUnit batchRouteUnit = new BatchRouteUnit(routeUnit);
             batchRouteUnit.mapAddBatchCount(0);
             batchRouteUnit.mapAddBatchCount(1);
-            routeUnits.add(batchRouteUnit);
+            routeUnits.put(routeUnit, batchRouteUnit);
             preparedStatementExecuteUnits.add(new StatementExecuteUnit(routeUnit, each, ConnectionMode.MEMORY_STRICTLY));
         }
         setFields(executeGroups, routeUnits);
     }
     
     @SneakyThrows
-    private void setFields(final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups, final Collection<BatchRouteUnit> routeUnits) {
+    private void setFields(final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups, final Map<RouteUnit, BatchRouteUnit> routeUnits) {
         Field field = BatchPreparedStatementExecutor.class.getSuperclass().getDeclaredField("executeGroups");
         field.setAccessible(true);
         field.set(actual, executeGroups);
@@ -56,6 +56,7 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class ShardingResultSetTest {
@@ -108,6 +109,13 @@ public final class ShardingResultSetTest {
         assertFalse(shardingResultSet.wasNull());
     }
     
+    @Test
+    public void assertClose() throws SQLException {
+        shardingResultSet.close();
+        verify(mergeResultSet).close();
+        assertTrue(shardingResultSet.isClosed());
+    }
+    
     @Test
     public void assertGetBooleanWithColumnIndex() throws SQLException {
         when(mergeResultSet.getValue(1, boolean.class)).thenReturn(true);
@@ -17,8 +17,10 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.statement;
 
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.shardingjdbc.common.base.AbstractShardingJDBCDatabaseAndTableTest;
 import org.apache.shardingsphere.shardingjdbc.jdbc.JDBCTestSQL;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.ShardingDataSource;
 import org.junit.Test;
 
 import java.sql.Connection;
@@ -26,8 +28,12 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -219,4 +225,70 @@ public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDat
             assertThat(result.length, is(0));
         }
     }
+    
+    @Test
+    public void assertExecuteQueryWithDeepPagination() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MIN_OFFSET_FOR_DEEP_PAGINATION.getKey(), "10");
+        ShardingDataSource shardingDataSource = new ShardingDataSource(
+                getShardingDataSource().getDataSourceMap(), getShardingDataSource().getShardingContext().getShardingRule(), props);
+        try (
+            Connection connection = shardingDataSource.getConnection();
+            PreparedStatement insertStatement = connection.prepareStatement("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)");
+            PreparedStatement queryStatement = connection.prepareStatement("SELECT order_id, user_id, status FROM t_order ORDER BY order_id LIMIT ?, ?")) {
+            for (int i = 2000; i < 2200; i++) {
+                insertStatement.setInt(1, i);
+                insertStatement.setInt(2, i % 7);
+                insertStatement.setString(3, "DEEP");
+                insertStatement.executeUpdate();
+            }
+            queryStatement.setInt(1, 100);
+            queryStatement.setInt(2, 10);
+            try (ResultSet resultSet = queryStatement.executeQuery()) {
+                for (int i = 2096; i < 2106; i++) {
+                    assertTrue(resultSet.next());
+                    assertThat(resultSet.getInt(1), is(i));
+                }
+                assertFalse(resultSet.next());
+            }
+        } finally {
+            shardingDataSource.close(Collections.<String>emptyList());
+        }
+    }
+    
+    @Test
+    public void assertExecuteQueryWithCachedStatements() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MAX_CACHED_STATEMENTS_PER_CONNECTION.getKey(), "16");
+        ShardingDataSource shardingDataSource = new ShardingDataSource(
+                getShardingDataSource().getDataSourceMap(), getShardingDataSource().getShardingContext().getShardingRule(), props);
+        try (
+            Connection connection = shardingDataSource.getConnection();
+            PreparedStatement insertStatement = connection.prepareStatement("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)");
+            PreparedStatement queryStatement = connection.prepareStatement("SELECT status FROM t_order WHERE user_id = ? AND order_id = ?")) {
+            insertStatement.setInt(1, 3000);
+            insertStatement.setInt(2, 10);
+            insertStatement.setString(3, "CACHED");
+            insertStatement.executeUpdate();
+            PreparedStatement routedStatement = null;
+            for (int i = 0; i < 2; i++) {
+                queryStatement.setInt(1, 10);
+                queryStatement.setInt(2, 3000);
+                try (ResultSet resultSet = queryStatement.executeQuery()) {
+                    assertTrue(resultSet.next());
+                    assertThat(resultSet.getString(1), is("CACHED"));
+                    assertFalse(resultSet.next());
+                }
+                Collection<PreparedStatement> routedStatements = ((ShardingPreparedStatement) queryStatement).getRoutedStatements();
+                assertThat(routedStatements.size(), is(1));
+                if (null == routedStatement) {
+                    routedStatement = routedStatements.iterator().next();
+                } else {
+                    assertThat(routedStatements.iterator().next(), sameInstance(routedStatement));
+                }
+            }
+        } finally {
+            shardingDataSource.close(Collections.<String>emptyList());
+        }
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.orchestration.internal.keygen;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.orchestration.internal.registry.RegistryCenterServiceLoader;
@@ -28,13 +29,21 @@ import org.apache.shardingsphere.orchestration.reg.api.RegistryCenterConfigurati
 import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
 
 import java.util.Properties;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
-import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Key generator implemented by leaf segment algorithms.
  *
+ * <p>
+ * Segments are double buffered: next segment is loaded asynchronously when threshold of current segment is consumed,
+ * and step is doubled or halved according to how long the last segment lasted.
+ * </p>
+ *
  * @author wangguangyuan
  */
 public final class LeafSegmentKeyGenerator implements ShardingKeyGenerator {
@@ -47,29 +56,44 @@ public final class LeafSegmentKeyGenerator implements ShardingKeyGenerator {
 
     private static final String DEFAULT_REGISTRY_CENTER = "zookeeper";
 
+    private static final String DEFAULT_MAX_LOCK_WAIT_MILLISECONDS = "10000";
+
     private static final float DEFAULT_THRESHOLD = 0.5F;
 
+    private static final long MAX_STEP = 1000000L;
+
+    private static final long SEGMENT_DURATION_MILLISECONDS = 15 * 60 * 1000L;
+
+    private static final long LOCK_RETRY_INTERVAL_MILLISECONDS = 10L;
+
     private static final String SLANTING_BAR = "/";
 
     private static final String REGULAR_PATTERN = "^((?!/).)*$";
 
     private final ExecutorService incrementCacheIdExecutor;
 
-    private final SynchronousQueue<Long> cacheIdQueue;
-
     private RegistryCenter leafRegistryCenter;
 
-    private long id;
+    private String leafKey;
 
     private long step;
 
+    private long maxLockWaitMilliseconds;
+
+    private long stepMultiple = 1L;
+
+    private long lastAllocatedMilliseconds;
+
+    private volatile Segment currentSegment;
+
+    private Future<Segment> nextSegment;
+
     @Getter
     @Setter
     private Properties properties = new Properties();
 
     public LeafSegmentKeyGenerator() {
         incrementCacheIdExecutor = Executors.newSingleThreadExecutor();
-        cacheIdQueue = new SynchronousQueue<>();
     }
 
     @Override
@@ -78,84 +102,119 @@ public final class LeafSegmentKeyGenerator implements ShardingKeyGenerator {
     }
 
     @Override
-    public synchronized Comparable<?> generateKey() {
-        String leafKey = getLeafKey();
-        if (null == leafRegistryCenter) {
-            initLeafSegmentKeyGenerator(leafKey);
-            return id;
+    public Comparable<?> generateKey() {
+        if (null == currentSegment) {
+            initLeafSegmentKeyGenerator();
+        }
+        while (true) {
+            Segment segment = currentSegment;
+            long result = segment.getValue().getAndIncrement();
+            if (result < segment.getMaxValue()) {
+                if (result == segment.getPreloadValue()) {
+                    loadNextSegmentAsynchronous();
+                }
+                return result;
+            }
+            switchSegment(segment);
         }
-        increaseIdWhenLeafKeyStoredInCenter(leafKey);
-        return id;
     }
 
-    private void initLeafSegmentKeyGenerator(final String leafKey) {
+    private synchronized void initLeafSegmentKeyGenerator() {
+        if (null != currentSegment) {
+            return;
+        }
+        leafKey = getLeafKey();
+        step = getStep();
+        maxLockWaitMilliseconds = getMaxLockWaitMilliseconds();
         RegistryCenterConfiguration leafConfiguration = getRegistryCenterConfiguration();
         leafRegistryCenter = new RegistryCenterServiceLoader().load(leafConfiguration);
+        leafRegistryCenter.initLock(leafKey);
         if (leafRegistryCenter.isExisted(leafKey)) {
-            id = incrementCacheId(leafKey, getStep());
+            currentSegment = allocateSegment();
         } else {
-            id = getInitialValue();
-            leafRegistryCenter.persist(leafKey, String.valueOf(id));
-            leafRegistryCenter.initLock(leafKey);
+            long initialValue = getInitialValue();
+            leafRegistryCenter.persist(leafKey, String.valueOf(initialValue));
+            lastAllocatedMilliseconds = System.currentTimeMillis();
+            currentSegment = new Segment(initialValue, initialValue + step);
         }
-        step = getStep();
     }
 
-    private void increaseIdWhenLeafKeyStoredInCenter(final String leafKey) {
-        ++id;
-        if (((id % step) >= (step * DEFAULT_THRESHOLD - 1)) && cacheIdQueue.isEmpty()) {
-            incrementCacheIdAsynchronous(leafKey, step);
-        }
-        if ((id % step) == (step - 1)) {
-            id = tryTakeCacheId();
+    private synchronized void loadNextSegmentAsynchronous() {
+        if (null != nextSegment) {
+            return;
         }
-    }
-
-    private RegistryCenterConfiguration getRegistryCenterConfiguration() {
-        RegistryCenterConfiguration result = new RegistryCenterConfiguration(getRegistryCenterType(), properties);
-        result.setNamespace(DEFAULT_NAMESPACE);
-        result.setServerLists(getServerList());
-        result.setDigest(getDigest());
-        return result;
-    }
-
-    private void incrementCacheIdAsynchronous(final String leafKey, final long step) {
-        incrementCacheIdExecutor.execute(new Runnable() {
+        nextSegment = incrementCacheIdExecutor.submit(new Callable<Segment>() {
 
             @Override
-            public void run() {
-                long id = incrementCacheId(leafKey, step);
-                tryPutCacheId(id);
+            public Segment call() {
+                return allocateSegment();
             }
         });
     }
 
     @SneakyThrows
-    private long incrementCacheId(final String leafKey, final long step) {
-        long result = Long.MIN_VALUE;
-        boolean lockIsAcquired = leafRegistryCenter.tryLock();
-        if (lockIsAcquired) {
-            result = updateCacheIdInCenter(leafKey, step);
-            leafRegistryCenter.tryRelease();
+    private synchronized void switchSegment(final Segment exhaustedSegment) {
+        if (exhaustedSegment != currentSegment) {
+            return;
         }
-        return result;
+        Future<Segment> loadedSegment = nextSegment;
+        nextSegment = null;
+        currentSegment = null == loadedSegment ? allocateSegment() : getLoadedSegment(loadedSegment);
     }
 
     @SneakyThrows
-    private void tryPutCacheId(final long id) {
-        cacheIdQueue.put(id);
+    private Segment getLoadedSegment(final Future<Segment> loadedSegment) {
+        try {
+            return loadedSegment.get();
+        } catch (final ExecutionException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private Segment allocateSegment() {
+        long currentMilliseconds = System.currentTimeMillis();
+        adjustStepMultiple(currentMilliseconds - lastAllocatedMilliseconds);
+        lastAllocatedMilliseconds = currentMilliseconds;
+        long cacheId = incrementCacheId(step * stepMultiple);
+        return new Segment(cacheId - step * (stepMultiple - 1), cacheId + step);
+    }
+
+    private void adjustStepMultiple(final long durationMilliseconds) {
+        if (durationMilliseconds < SEGMENT_DURATION_MILLISECONDS) {
+            if (step * stepMultiple * 2 <= MAX_STEP) {
+                stepMultiple *= 2;
+            }
+        } else if (durationMilliseconds > SEGMENT_DURATION_MILLISECONDS * 2 && stepMultiple > 1L) {
+            stepMultiple /= 2;
+        }
+    }
+
+    private RegistryCenterConfiguration getRegistryCenterConfiguration() {
+        RegistryCenterConfiguration result = new RegistryCenterConfiguration(getRegistryCenterType(), properties);
+        result.setNamespace(DEFAULT_NAMESPACE);
+        result.setServerLists(getServerList());
+        result.setDigest(getDigest());
+        return result;
     }
 
     @SneakyThrows
-    private long tryTakeCacheId() {
-        return cacheIdQueue.take();
+    private long incrementCacheId(final long step) {
+        long deadline = System.currentTimeMillis() + maxLockWaitMilliseconds;
+        while (!leafRegistryCenter.tryLock()) {
+            Preconditions.checkState(
+                    System.currentTimeMillis() < deadline, "Can not acquire lock of `%s` in registry center within %s milliseconds.", leafKey, maxLockWaitMilliseconds);
+            Thread.sleep(LOCK_RETRY_INTERVAL_MILLISECONDS);
+        }
+        try {
+            return updateCacheIdInCenter(step);
+        } finally {
+            leafRegistryCenter.tryRelease();
+        }
     }
 
-    private long updateCacheIdInCenter(final String leafKey, final long step) {
+    private long updateCacheIdInCenter(final long step) {
         String cacheIdInString = leafRegistryCenter.getDirectly(leafKey);
-        if (Strings.isNullOrEmpty(cacheIdInString)) {
-            return Long.MIN_VALUE;
-        }
+        Preconditions.checkState(!Strings.isNullOrEmpty(cacheIdInString), "Can not find cache id of `%s` in registry center.", leafKey);
         long cacheId = Long.parseLong(cacheIdInString);
         long result = cacheId + step;
         leafRegistryCenter.update(leafKey, String.valueOf(result));
@@ -168,6 +227,12 @@ public final class LeafSegmentKeyGenerator implements ShardingKeyGenerator {
         return result;
     }
 
+    private long getMaxLockWaitMilliseconds() {
+        long result = Long.parseLong(properties.getProperty("maxLockWaitMilliseconds", DEFAULT_MAX_LOCK_WAIT_MILLISECONDS));
+        Preconditions.checkArgument(result >= 0L);
+        return result;
+    }
+
     private long getInitialValue() {
         long result = Long.parseLong(properties.getProperty("initialValue", DEFAULT_INITIAL_VALUE));
         Preconditions.checkArgument(result >= 0L && result < Long.MAX_VALUE);
@@ -194,4 +259,19 @@ public final class LeafSegmentKeyGenerator implements ShardingKeyGenerator {
     private String getRegistryCenterType() {
         return properties.getProperty("registryCenterType", DEFAULT_REGISTRY_CENTER);
     }
+
+    @RequiredArgsConstructor
+    @Getter
+    private static final class Segment {
+
+        private final AtomicLong value;
+
+        private final long preloadValue;
+
+        private final long maxValue;
+
+        private Segment(final long minValue, final long maxValue) {
+            this(new AtomicLong(minValue), minValue + (long) ((maxValue - minValue) * DEFAULT_THRESHOLD), maxValue);
+        }
+    }
 }
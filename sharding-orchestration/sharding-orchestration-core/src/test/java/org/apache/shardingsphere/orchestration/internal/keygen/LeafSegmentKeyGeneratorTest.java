@@ -18,8 +18,10 @@
 package org.apache.shardingsphere.orchestration.internal.keygen;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
 import java.util.Properties;
 import java.util.ArrayList;
 import java.util.List;
@@ -29,9 +31,12 @@ import java.util.Arrays;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class LeafSegmentKeyGeneratorTest {
 
@@ -68,6 +73,56 @@ public final class LeafSegmentKeyGeneratorTest {
         assertThat(actual, is(expected));
     }
 
+    @Test
+    public void assertGenerateKeyCrossSegmentsWithSingleThread() {
+        Properties properties = new Properties();
+        properties.setProperty("serverList", "127.0.0.1:2181");
+        properties.setProperty("initialValue", "1");
+        properties.setProperty("step", "3");
+        properties.setProperty("digest", "");
+        properties.setProperty("leafKey", "test_table_17");
+        properties.setProperty("registryCenterType", "ThirdTestRegistryCenter");
+        leafSegmentKeyGenerator.setProperties(properties);
+        for (long i = 1L; i <= 1000L; i++) {
+            assertThat(leafSegmentKeyGenerator.generateKey(), is((Comparable) i));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void assertGenerateKeyCrossSegmentsWithMultipleThreads() {
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        Properties properties = new Properties();
+        properties.setProperty("serverList", "127.0.0.1:2181");
+        properties.setProperty("initialValue", "1");
+        properties.setProperty("step", "3");
+        properties.setProperty("digest", "");
+        properties.setProperty("leafKey", "test_table_18");
+        properties.setProperty("registryCenterType", "ThirdTestRegistryCenter");
+        leafSegmentKeyGenerator.setProperties(properties);
+        final int keyAmount = 1000;
+        List<Future<List<Comparable<?>>>> futures = new ArrayList<>(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(new Callable<List<Comparable<?>>>() {
+                @Override
+                public List<Comparable<?>> call() {
+                    List<Comparable<?>> result = new ArrayList<>(keyAmount);
+                    for (int i = 0; i < keyAmount; i++) {
+                        result.add(leafSegmentKeyGenerator.generateKey());
+                    }
+                    return result;
+                }
+            }));
+        }
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (Future<List<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * keyAmount));
+    }
+
     @Test
     @SneakyThrows
     public void assertGenerateKeyWithMultipleThreads() {
@@ -170,6 +225,29 @@ public final class LeafSegmentKeyGeneratorTest {
         assertThat(actual.size(), is(taskNumber));
     }
 
+    @Test(expected = IllegalStateException.class)
+    @SneakyThrows
+    public void assertGenerateKeyFailureWhenLockTimeout() {
+        Properties properties = new Properties();
+        properties.setProperty("serverList", "127.0.0.1:2181");
+        properties.setProperty("initialValue", "1");
+        properties.setProperty("step", "3");
+        properties.setProperty("digest", "");
+        properties.setProperty("leafKey", "test_table_19");
+        properties.setProperty("registryCenterType", "ThirdTestRegistryCenter");
+        properties.setProperty("maxLockWaitMilliseconds", "50");
+        leafSegmentKeyGenerator.setProperties(properties);
+        assertThat(leafSegmentKeyGenerator.generateKey(), is((Comparable) 1L));
+        RegistryCenter registryCenter = mock(RegistryCenter.class);
+        when(registryCenter.tryLock()).thenReturn(false);
+        Field field = LeafSegmentKeyGenerator.class.getDeclaredField("leafRegistryCenter");
+        field.setAccessible(true);
+        field.set(leafSegmentKeyGenerator, registryCenter);
+        for (int i = 0; i < 3; i++) {
+            leafSegmentKeyGenerator.generateKey();
+        }
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void assertSetStepFailureWhenNegative() {
         Properties properties = new Properties();
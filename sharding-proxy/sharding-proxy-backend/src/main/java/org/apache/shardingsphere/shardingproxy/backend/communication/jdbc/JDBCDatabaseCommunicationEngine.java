@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.merge.MergeEngineFactory;
 import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.merge.dal.show.ShowTablesMergedResult;
@@ -40,6 +41,7 @@ import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateRes
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.backend.schema.ShardingSchema;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
@@ -71,6 +73,8 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     private MergedResult mergedResult;
     
+    private List<Integer> columnTypes;
+    
     @Override
     public BackendResponse execute() {
         try {
@@ -81,7 +85,14 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
         }
     }
     
-    private BackendResponse execute(final SQLRouteResult routeResult) throws SQLException {
+    /**
+     * Execute command with route result.
+     *
+     * @param routeResult route result
+     * @return backend response
+     * @throws SQLException SQL exception
+     */
+    public BackendResponse execute(final SQLRouteResult routeResult) throws SQLException {
         if (routeResult.getRouteUnits().isEmpty()) {
             return new UpdateResponse();
         }
@@ -109,7 +120,9 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
             return response;
         }
         mergedResult = MergeEngineFactory.newInstance(databaseType, 
-                logicSchema.getShardingRule(), routeResult, logicSchema.getMetaData().getTable(), ((QueryResponse) response).getQueryResults()).merge();
+                logicSchema.getShardingRule(), routeResult, logicSchema.getMetaData().getTable(), ((QueryResponse) response).getQueryResults(),
+                ShardingProxyContext.getInstance().getShardingProperties().<Long>getValue(ShardingPropertiesConstant.MAX_MERGE_BYTES_IN_MEMORY)).merge();
+        executeEngine.getBackendConnection().add(mergedResult);
         if (mergedResult instanceof ShowTablesMergedResult) {
             ((ShowTablesMergedResult) mergedResult).resetColumnLabel(logicSchema.getName());
         }
@@ -143,7 +156,10 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
         for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
             row.add(mergedResult.getValue(columnIndex, Object.class));
         }
-        return new QueryData(getColumnTypes(queryHeaders), row);
+        if (null == columnTypes) {
+            columnTypes = getColumnTypes(queryHeaders);
+        }
+        return new QueryData(columnTypes, row);
     }
     
     private List<Integer> getColumnTypes(final List<QueryHeader> queryHeaders) {
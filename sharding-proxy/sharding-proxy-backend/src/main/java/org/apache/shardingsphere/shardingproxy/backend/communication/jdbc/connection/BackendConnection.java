@@ -20,25 +20,35 @@ package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.conne
 import com.google.common.base.Preconditions;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.execute.sql.prepare.cache.PreparedStatementCache;
+import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.route.router.masterslave.MasterVisitedManager;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.MySQLQueryResult;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
@@ -53,6 +63,10 @@ public final class BackendConnection implements AutoCloseable {
     
     private static final int MAXIMUM_RETRY_COUNT = 5;
     
+    private static final String SET_TRANSACTION_ISOLATION = "setTransactionIsolation";
+    
+    private static final String SET_READ_ONLY = "setReadOnly";
+    
     private volatile String schemaName;
     
     private LogicSchema logicSchema;
@@ -71,8 +85,24 @@ public final class BackendConnection implements AutoCloseable {
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<MergedResult> cachedMergedResults = new CopyOnWriteArrayList<>();
+    
+    private final Collection<MySQLQueryResult> cachedQueryResults = new CopyOnWriteArrayList<>();
+    
     private final Collection<MethodInvocation> methodInvocations = new ArrayList<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, MethodInvocation> sessionMethodInvocations = new LinkedHashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<Connection, Integer> originalTransactionIsolations = new ConcurrentHashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<Connection, Boolean> originalReadOnlys = new ConcurrentHashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private volatile PreparedStatementCache<BackendPreparedStatementKey> preparedStatementCache;
+    
     @Getter
     private final ResourceSynchronizer resourceSynchronizer = new ResourceSynchronizer();
     
@@ -110,6 +140,44 @@ public final class BackendConnection implements AutoCloseable {
         this.logicSchema = LogicSchemas.getInstance().getLogicSchema(schemaName);
     }
     
+    /**
+     * Set transaction isolation level of current session.
+     * 
+     * <p>Backend connections are only held until statement or transaction terminated, so the level is replayed on every connection acquired afterwards,
+     * and original level of connection is restored before it is released.</p>
+     *
+     * @param level transaction isolation level defined in {@code java.sql.Connection}
+     */
+    public void setSessionTransactionIsolation(final int level) {
+        recordSessionMethodInvocation(SET_TRANSACTION_ISOLATION, int.class, level);
+    }
+    
+    /**
+     * Set read only of current session.
+     *
+     * <p>Backend connections are only held until statement or transaction terminated, so the flag is replayed on every connection acquired afterwards,
+     * and original flag of connection is restored before it is released.</p>
+     *
+     * @param readOnly read only or not
+     */
+    public void setSessionReadOnly(final boolean readOnly) {
+        recordSessionMethodInvocation(SET_READ_ONLY, boolean.class, readOnly);
+    }
+    
+    /**
+     * Judge whether transaction isolation level or read only of current session is set.
+     *
+     * @return session settings are set or not
+     */
+    public boolean isSessionSettingsSet() {
+        return !sessionMethodInvocations.isEmpty();
+    }
+    
+    @SneakyThrows
+    private void recordSessionMethodInvocation(final String methodName, final Class<?> argumentType, final Object argument) {
+        sessionMethodInvocations.put(methodName, new MethodInvocation(Connection.class.getMethod(methodName, argumentType), new Object[]{argument}));
+    }
+    
     @SneakyThrows
     private boolean isSwitchFailed() {
         int retryCount = 0;
@@ -173,6 +241,9 @@ public final class BackendConnection implements AutoCloseable {
         synchronized (cachedConnections) {
             cachedConnections.putAll(dataSourceName, result);
         }
+        for (Connection each : result) {
+            replaySessionMethodsInvocation(each);
+        }
         return result;
     }
     
@@ -180,6 +251,7 @@ public final class BackendConnection implements AutoCloseable {
         Preconditions.checkNotNull(logicSchema, "current logic schema is null");
         List<Connection> result = getConnectionFromUnderlying(connectionMode, dataSourceName, connectionSize);
         for (Connection each : result) {
+            replaySessionMethodsInvocation(each);
             replayMethodsInvocation(each);
         }
         return result;
@@ -207,6 +279,33 @@ public final class BackendConnection implements AutoCloseable {
         return cachedConnections.values().size();
     }
     
+    /**
+     * Get prepared statement.
+     * 
+     * <p>Prepared statements of connections held in transaction are reused until connections released, if cached statements per connection is positive.</p>
+     *
+     * @param connection connection
+     * @param sql SQL
+     * @param isReturnGeneratedKeys is return generated keys
+     * @return prepared statement
+     * @throws SQLException SQL exception
+     */
+    public PreparedStatement getPreparedStatement(final Connection connection, final String sql, final boolean isReturnGeneratedKeys) throws SQLException {
+        BackendPreparedStatementKey key = new BackendPreparedStatementKey(connection, sql, isReturnGeneratedKeys);
+        int maxCachedStatements = ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CACHED_STATEMENTS_PER_CONNECTION);
+        if (maxCachedStatements <= 0 || !stateHandler.isInTransaction()) {
+            return key.createPreparedStatement();
+        }
+        if (null == preparedStatementCache) {
+            synchronized (this) {
+                if (null == preparedStatementCache) {
+                    preparedStatementCache = new PreparedStatementCache<>(maxCachedStatements);
+                }
+            }
+        }
+        return preparedStatementCache.acquire(key);
+    }
+    
     /**
      * Add statement.
      *
@@ -225,6 +324,24 @@ public final class BackendConnection implements AutoCloseable {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add merged result.
+     *
+     * @param mergedResult merged result to be added
+     */
+    public void add(final MergedResult mergedResult) {
+        cachedMergedResults.add(mergedResult);
+    }
+    
+    /**
+     * Add query result of MySQL backend connection.
+     *
+     * @param queryResult query result to be added
+     */
+    public void add(final MySQLQueryResult queryResult) {
+        cachedQueryResults.add(queryResult);
+    }
+    
     @Override
     public void close() throws SQLException {
         close(false);
@@ -239,15 +356,31 @@ public final class BackendConnection implements AutoCloseable {
     public synchronized void close(final boolean forceClose) throws SQLException {
         Collection<SQLException> exceptions = new LinkedList<>();
         MasterVisitedManager.clear();
+        exceptions.addAll(closeMergedResults());
         exceptions.addAll(closeResultSets());
-        exceptions.addAll(closeStatements());
-        if (!stateHandler.isInTransaction() || forceClose) {
+        closeQueryResults();
+        boolean isReleaseConnections = !stateHandler.isInTransaction() || forceClose;
+        exceptions.addAll(closeStatements(isReleaseConnections));
+        if (isReleaseConnections) {
             exceptions.addAll(releaseConnections(forceClose));
         }
         stateHandler.doNotifyIfNecessary();
         throwSQLExceptionIfNecessary(exceptions);
     }
     
+    private Collection<SQLException> closeMergedResults() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (MergedResult each : cachedMergedResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedMergedResults.clear();
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -261,11 +394,23 @@ public final class BackendConnection implements AutoCloseable {
         return result;
     }
     
-    private Collection<SQLException> closeStatements() {
+    private void closeQueryResults() {
+        for (MySQLQueryResult each : cachedQueryResults) {
+            each.close();
+        }
+        cachedQueryResults.clear();
+    }
+    
+    private Collection<SQLException> closeStatements(final boolean isReleaseConnections) {
         Collection<SQLException> result = new LinkedList<>();
+        PreparedStatementCache<BackendPreparedStatementKey> preparedStatementCache = this.preparedStatementCache;
         for (Statement each : cachedStatements) {
             try {
-                each.close();
+                if (isReleaseConnections || null == preparedStatementCache) {
+                    each.close();
+                } else {
+                    preparedStatementCache.release(each);
+                }
             } catch (final SQLException ex) {
                 result.add(ex);
             }
@@ -276,17 +421,24 @@ public final class BackendConnection implements AutoCloseable {
     
     Collection<SQLException> releaseConnections(final boolean forceRollback) {
         Collection<SQLException> result = new LinkedList<>();
+        if (null != preparedStatementCache) {
+            preparedStatementCache.clear();
+            preparedStatementCache = null;
+        }
         for (Connection each : cachedConnections.values()) {
             try {
                 if (forceRollback && stateHandler.isInTransaction()) {
                     each.rollback();
                 }
+                restoreSessionSettings(each);
                 each.close();
             } catch (final SQLException ex) {
                 result.add(ex);
             }
         }
         cachedConnections.clear();
+        originalTransactionIsolations.clear();
+        originalReadOnlys.clear();
         methodInvocations.clear();
         return result;
     }
@@ -302,6 +454,29 @@ public final class BackendConnection implements AutoCloseable {
         throw ex;
     }
     
+    private void replaySessionMethodsInvocation(final Connection target) throws SQLException {
+        if (sessionMethodInvocations.containsKey(SET_TRANSACTION_ISOLATION) && !originalTransactionIsolations.containsKey(target)) {
+            originalTransactionIsolations.put(target, target.getTransactionIsolation());
+        }
+        if (sessionMethodInvocations.containsKey(SET_READ_ONLY) && !originalReadOnlys.containsKey(target)) {
+            originalReadOnlys.put(target, target.isReadOnly());
+        }
+        for (MethodInvocation each : sessionMethodInvocations.values()) {
+            each.invoke(target);
+        }
+    }
+    
+    private void restoreSessionSettings(final Connection connection) throws SQLException {
+        Integer transactionIsolation = originalTransactionIsolations.get(connection);
+        if (null != transactionIsolation) {
+            connection.setTransactionIsolation(transactionIsolation);
+        }
+        Boolean readOnly = originalReadOnlys.get(connection);
+        if (null != readOnly) {
+            connection.setReadOnly(readOnly);
+        }
+    }
+    
     private void replayMethodsInvocation(final Object target) {
         for (MethodInvocation each : methodInvocations) {
             each.invoke(target);
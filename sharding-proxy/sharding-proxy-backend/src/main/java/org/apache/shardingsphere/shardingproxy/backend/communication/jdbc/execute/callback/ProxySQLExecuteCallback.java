@@ -18,8 +18,11 @@
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.callback;
 
 import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteCallback;
+import org.apache.shardingsphere.core.execute.sql.execute.result.ColumnarMemoryQueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.MemoryQueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryMemoryQuota;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.StreamQueryResult;
 import org.apache.shardingsphere.core.route.RouteUnit;
@@ -33,8 +36,8 @@ import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrappe
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
 import org.apache.shardingsphere.shardingproxy.backend.schema.EncryptSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
-import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.backend.schema.ShardingSchema;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -58,15 +61,23 @@ public final class ProxySQLExecuteCallback extends SQLExecuteCallback<ExecuteRes
     
     private final boolean fetchMetaData;
     
+    private final QueryMemoryQuota memoryQuota;
+    
     private boolean hasMetaData;
     
     public ProxySQLExecuteCallback(final BackendConnection backendConnection, final JDBCExecutorWrapper jdbcExecutorWrapper, 
                                    final boolean isExceptionThrown, final boolean isReturnGeneratedKeys, final boolean fetchMetaData) {
-        super(LogicSchemas.getInstance().getDatabaseType(), isExceptionThrown);
+        super(backendConnection.getLogicSchema().getDataSourceMetaDataCache(), isExceptionThrown);
         this.backendConnection = backendConnection;
         this.jdbcExecutorWrapper = jdbcExecutorWrapper;
         this.isReturnGeneratedKeys = isReturnGeneratedKeys;
         this.fetchMetaData = fetchMetaData;
+        memoryQuota = createQueryMemoryQuota();
+    }
+    
+    private QueryMemoryQuota createQueryMemoryQuota() {
+        long maxMemoryBytesPerQuery = ShardingProxyContext.getInstance().getShardingProperties().<Long>getValue(ShardingPropertiesConstant.MAX_MEMORY_BYTES_PER_QUERY);
+        return 0 < maxMemoryBytesPerQuery ? new QueryMemoryQuota(maxMemoryBytesPerQuery) : null;
     }
     
     @Override
@@ -101,13 +112,22 @@ public final class ProxySQLExecuteCallback extends SQLExecuteCallback<ExecuteRes
         LogicSchema logicSchema = backendConnection.getLogicSchema();
         if (logicSchema instanceof ShardingSchema) {
             ShardingRule shardingRule = logicSchema.getShardingRule();
-            return connectionMode == ConnectionMode.MEMORY_STRICTLY ? new StreamQueryResult(resultSet, shardingRule) : new MemoryQueryResult(resultSet, shardingRule);
+            if (connectionMode == ConnectionMode.MEMORY_STRICTLY) {
+                return new StreamQueryResult(resultSet, shardingRule);
+            }
+            return null == memoryQuota ? new MemoryQueryResult(resultSet, shardingRule) : new ColumnarMemoryQueryResult(resultSet, shardingRule, memoryQuota);
         }
         if (logicSchema instanceof EncryptSchema) {
             EncryptRule encryptRule = ((EncryptSchema) logicSchema).getEncryptRule();
-            return connectionMode == ConnectionMode.MEMORY_STRICTLY ? new StreamQueryResult(resultSet, encryptRule) : new MemoryQueryResult(resultSet, encryptRule);
+            if (connectionMode == ConnectionMode.MEMORY_STRICTLY) {
+                return new StreamQueryResult(resultSet, encryptRule);
+            }
+            return null == memoryQuota ? new MemoryQueryResult(resultSet, encryptRule) : new ColumnarMemoryQueryResult(resultSet, encryptRule, memoryQuota);
+        }
+        if (connectionMode == ConnectionMode.MEMORY_STRICTLY) {
+            return new StreamQueryResult(resultSet);
         }
-        return connectionMode == ConnectionMode.MEMORY_STRICTLY ? new StreamQueryResult(resultSet) : new MemoryQueryResult(resultSet);
+        return null == memoryQuota ? new MemoryQueryResult(resultSet) : new ColumnarMemoryQueryResult(resultSet, memoryQuota);
     }
     
     private long getGeneratedKey(final Statement statement) throws SQLException {
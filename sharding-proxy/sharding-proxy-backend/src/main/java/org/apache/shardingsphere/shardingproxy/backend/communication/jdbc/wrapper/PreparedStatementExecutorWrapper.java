@@ -29,6 +29,7 @@ import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.SQLUnit;
 import org.apache.shardingsphere.core.route.router.masterslave.MasterSlaveRouter;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.schema.EncryptSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.MasterSlaveSchema;
@@ -57,6 +58,8 @@ public final class PreparedStatementExecutorWrapper implements JDBCExecutorWrapp
     
     private final List<Object> parameters;
     
+    private final BackendConnection backendConnection;
+    
     @Override
     public SQLRouteResult route(final String sql, final DatabaseType databaseType) {
         if (logicSchema instanceof ShardingSchema) {
@@ -69,8 +72,8 @@ public final class PreparedStatementExecutorWrapper implements JDBCExecutorWrapp
     }
     
     private SQLRouteResult doShardingRoute(final String sql, final DatabaseType databaseType) {
-        PreparedQueryShardingEngine shardingEngine = new PreparedQueryShardingEngine(sql, logicSchema.getShardingRule(), 
-                ShardingProxyContext.getInstance().getShardingProperties(), logicSchema.getMetaData(), databaseType, logicSchema.getParseEngine());
+        PreparedQueryShardingEngine shardingEngine = new PreparedQueryShardingEngine(sql, logicSchema.getShardingRule(), ShardingProxyContext.getInstance().getShardingProperties(), 
+                logicSchema.getMetaData(), databaseType, logicSchema.getParseEngine(), ((ShardingSchema) logicSchema).getRewriteResultCache(sql));
         return shardingEngine.shard(sql, parameters);
     }
     
@@ -102,7 +105,7 @@ public final class PreparedStatementExecutorWrapper implements JDBCExecutorWrapp
     
     @Override
     public Statement createStatement(final Connection connection, final SQLUnit sqlUnit, final boolean isReturnGeneratedKeys) throws SQLException {
-        PreparedStatement result = isReturnGeneratedKeys ? connection.prepareStatement(sqlUnit.getSql(), Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sqlUnit.getSql());
+        PreparedStatement result = backendConnection.getPreparedStatement(connection, sqlUnit.getSql(), isReturnGeneratedKeys);
         for (int i = 0; i < sqlUnit.getParameters().size(); i++) {
             result.setObject(i + 1, sqlUnit.getParameters().get(i));
         }
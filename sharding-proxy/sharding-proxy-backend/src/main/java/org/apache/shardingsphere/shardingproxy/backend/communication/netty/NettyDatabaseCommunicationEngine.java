@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty;
+
+import org.apache.shardingsphere.core.optimize.api.statement.OptimizedStatement;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.DerivedColumn;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.JDBCDatabaseCommunicationEngine;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.JDBCExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.JDBCExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.StatementExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.MySQLQueryResult;
+import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.schema.EncryptSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
+import org.apache.shardingsphere.shardingproxy.backend.schema.ShardingSchema;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Database communication engine for MySQL protocol over netty.
+ * 
+ * <p>
+ * Single route query out of transaction and without session settings is sent to MySQL backend over netty and its rows are relayed as raw text protocol values,
+ * other SQL falls back to JDBC.
+ * </p>
+ *
+ * @author agent
+ */
+public final class NettyDatabaseCommunicationEngine implements DatabaseCommunicationEngine {
+    
+    private final DatabaseType databaseType = LogicSchemas.getInstance().getDatabaseType();
+    
+    private final LogicSchema logicSchema;
+    
+    private final String sql;
+    
+    private final BackendConnection backendConnection;
+    
+    private final JDBCExecutorWrapper executorWrapper;
+    
+    private final JDBCDatabaseCommunicationEngine jdbcDatabaseCommunicationEngine;
+    
+    private MySQLQueryResult queryResult;
+    
+    private List<Integer> columnIndexes;
+    
+    private List<Integer> columnTypes;
+    
+    public NettyDatabaseCommunicationEngine(final LogicSchema logicSchema, final String sql, final BackendConnection backendConnection) {
+        this(logicSchema, sql, backendConnection, new StatementExecutorWrapper(logicSchema));
+    }
+    
+    private NettyDatabaseCommunicationEngine(final LogicSchema logicSchema, final String sql, final BackendConnection backendConnection, final JDBCExecutorWrapper executorWrapper) {
+        this(logicSchema, sql, backendConnection, executorWrapper,
+                new JDBCDatabaseCommunicationEngine(logicSchema, sql, new JDBCExecuteEngine(backendConnection, executorWrapper)));
+    }
+    
+    NettyDatabaseCommunicationEngine(final LogicSchema logicSchema, final String sql, final BackendConnection backendConnection,
+                                     final JDBCExecutorWrapper executorWrapper, final JDBCDatabaseCommunicationEngine jdbcDatabaseCommunicationEngine) {
+        this.logicSchema = logicSchema;
+        this.sql = sql;
+        this.backendConnection = backendConnection;
+        this.executorWrapper = executorWrapper;
+        this.jdbcDatabaseCommunicationEngine = jdbcDatabaseCommunicationEngine;
+    }
+    
+    @Override
+    public BackendResponse execute() {
+        try {
+            SQLRouteResult routeResult = executorWrapper.route(sql, databaseType);
+            return isRelayable(routeResult) ? relay(routeResult.getRouteUnits().iterator().next()) : jdbcDatabaseCommunicationEngine.execute(routeResult);
+        } catch (final SQLException ex) {
+            return new ErrorResponse(ex);
+        }
+    }
+    
+    private boolean isRelayable(final SQLRouteResult routeResult) {
+        OptimizedStatement optimizedStatement = routeResult.getOptimizedStatement();
+        return 1 == routeResult.getRouteUnits().size() && optimizedStatement.getSQLStatement() instanceof SelectStatement
+                && !backendConnection.getStateHandler().isInTransaction() && !backendConnection.isSessionSettingsSet()
+                && !isEncryptTable(optimizedStatement.getTables().getTableNames());
+    }
+    
+    private boolean isEncryptTable(final Collection<String> tableNames) {
+        return logicSchema instanceof EncryptSchema || !Collections.disjoint(logicSchema.getShardingRule().getEncryptRule().getEncryptTableNames(), tableNames);
+    }
+    
+    private BackendResponse relay(final RouteUnit routeUnit) throws SQLException {
+        queryResult = logicSchema.getNettyBackendDataSource().getConnectionPool(routeUnit.getDataSourceName()).executeQuery(routeUnit.getSqlUnit().getSql());
+        backendConnection.add(queryResult);
+        if (queryResult.getColumnDefinitions().isEmpty()) {
+            return new UpdateResponse();
+        }
+        List<MySQLColumnDefinition41Packet> columnDefinitions = queryResult.getColumnDefinitions();
+        List<QueryHeader> queryHeaders = new ArrayList<>(columnDefinitions.size());
+        columnIndexes = new ArrayList<>(columnDefinitions.size());
+        columnTypes = new ArrayList<>(columnDefinitions.size());
+        for (int i = 0; i < columnDefinitions.size(); i++) {
+            MySQLColumnDefinition41Packet each = columnDefinitions.get(i);
+            if (!DerivedColumn.isDerivedColumn(each.getName())) {
+                queryHeaders.add(new QueryHeader(logicSchema.getName(), getLogicTableName(each.getTable()), each.getName(), each.getOrgName(),
+                        each.getColumnLength(), each.getColumnType().getJdbcType(), each.getDecimals()));
+                columnIndexes.add(i);
+                columnTypes.add(each.getColumnType().getJdbcType());
+            }
+        }
+        return new QueryResponse(queryHeaders);
+    }
+    
+    private String getLogicTableName(final String actualTableName) {
+        if (!(logicSchema instanceof ShardingSchema)) {
+            return actualTableName;
+        }
+        Collection<String> tableNames = logicSchema.getShardingRule().getLogicTableNames(actualTableName);
+        return tableNames.isEmpty() ? "" : tableNames.iterator().next();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        return null == queryResult ? jdbcDatabaseCommunicationEngine.next() : queryResult.next();
+    }
+    
+    @Override
+    public QueryData getQueryData() throws SQLException {
+        if (null == queryResult) {
+            return jdbcDatabaseCommunicationEngine.getQueryData();
+        }
+        List<Object> currentRow = queryResult.getCurrentRow();
+        List<Object> row = new ArrayList<>(columnIndexes.size());
+        for (int each : columnIndexes) {
+            row.add(currentRow.get(each));
+        }
+        return new QueryData(columnTypes, row);
+    }
+}
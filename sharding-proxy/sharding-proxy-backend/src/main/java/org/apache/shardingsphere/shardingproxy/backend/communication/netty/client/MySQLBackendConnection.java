@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.client;
+
+import com.google.common.base.Strings;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLCapabilityFlag;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLServerInfo;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLFieldCountPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.MySQLHandshakePacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.MySQLHandshakeResponse41Packet;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.MySQLNativePasswordCipher;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Connection to MySQL backend over netty channel.
+ * 
+ * <p>Command is sent and its response is read by the calling thread, so connection should be used by one thread at the same time.
+ * Every packet is waited for timeout seconds at most, connection is closed if timeout or packet is unexpected.</p>
+ * 
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class MySQLBackendConnection implements AutoCloseable {
+    
+    private static final int MAX_PACKET_SIZE = 1 << 24;
+    
+    private static final int NULL = 0xfb;
+    
+    private static final int MAX_EOF_PACKET_LENGTH = 9;
+    
+    private final Channel channel;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private final MySQLBackendResponseHandler responseHandler;
+    
+    private final int timeoutSeconds;
+    
+    private volatile boolean closed;
+    
+    /**
+     * Handshake with MySQL backend by native password authentication.
+     * 
+     * @param username username
+     * @param password password
+     * @param database database
+     * @throws SQLException SQL exception
+     */
+    public void handshake(final String username, final String password, final String database) throws SQLException {
+        MySQLHandshakePacket handshakePacket;
+        try (MySQLPacketPayload payload = readPacket()) {
+            handshakePacket = new MySQLHandshakePacket(payload);
+        } catch (final IllegalArgumentException ex) {
+            throw closeWithException(new SQLException("Unsupported handshake packet of MySQL backend.", ex));
+        }
+        byte[] authResponse = Strings.isNullOrEmpty(password) ? new byte[0] : MySQLNativePasswordCipher.encrypt(password, handshakePacket.getAuthPluginData().getAuthPluginData());
+        channel.writeAndFlush(new MySQLHandshakeResponse41Packet(
+                1, MySQLCapabilityFlag.calculateHandshakeResponseCapabilityFlags(), MAX_PACKET_SIZE, MySQLServerInfo.CHARSET, username, authResponse, database));
+        try (MySQLPacketPayload payload = readPacket()) {
+            int header = getHeader(payload);
+            if (MySQLErrPacket.HEADER == header) {
+                throw closeWithException(createSQLException(new MySQLErrPacket(payload)));
+            }
+            if (MySQLOKPacket.HEADER != header) {
+                throw closeWithException(new SQLException("Only mysql_native_password authentication is supported by MySQL backend connection."));
+            }
+        }
+    }
+    
+    /**
+     * Execute query and read column definitions.
+     * 
+     * <p>Rows of query should be read by {@code readRow} until it returns null, before next command sent.</p>
+     * 
+     * @param sql SQL
+     * @return column definitions, empty if SQL is not a query
+     * @throws SQLException SQL exception
+     */
+    public List<MySQLColumnDefinition41Packet> executeQuery(final String sql) throws SQLException {
+        try {
+            return readColumnDefinitions(sql);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            close();
+            throw ex;
+        }
+    }
+    
+    private List<MySQLColumnDefinition41Packet> readColumnDefinitions(final String sql) throws SQLException {
+        channel.writeAndFlush(new MySQLComQueryPacket(sql));
+        int columnCount;
+        try (MySQLPacketPayload payload = readPacket()) {
+            int header = getHeader(payload);
+            if (MySQLErrPacket.HEADER == header) {
+                throw createSQLException(new MySQLErrPacket(payload));
+            }
+            if (MySQLOKPacket.HEADER == header) {
+                return Collections.emptyList();
+            }
+            columnCount = new MySQLFieldCountPacket(payload).getColumnCount();
+        }
+        List<MySQLColumnDefinition41Packet> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            try (MySQLPacketPayload payload = readPacket()) {
+                result.add(new MySQLColumnDefinition41Packet(payload));
+            }
+        }
+        readEofPacket();
+        return result;
+    }
+    
+    private void readEofPacket() throws SQLException {
+        try (MySQLPacketPayload payload = readPacket()) {
+            if (MySQLEofPacket.HEADER != getHeader(payload)) {
+                throw closeWithException(new SQLException("Unexpected packet of MySQL backend, EOF packet expected."));
+            }
+        }
+    }
+    
+    /**
+     * Read next row of query.
+     * 
+     * @param columnCount column count
+     * @return values of row as raw bytes of text protocol, null if no more rows
+     * @throws SQLException SQL exception
+     */
+    public List<Object> readRow(final int columnCount) throws SQLException {
+        try (MySQLPacketPayload payload = readPacket()) {
+            int header = getHeader(payload);
+            if (MySQLEofPacket.HEADER == header && payload.getByteBuf().readableBytes() - 1 < MAX_EOF_PACKET_LENGTH) {
+                return null;
+            }
+            if (MySQLErrPacket.HEADER == header) {
+                throw createSQLException(new MySQLErrPacket(payload));
+            }
+            return readRow(payload, columnCount);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            close();
+            throw ex;
+        }
+    }
+    
+    private List<Object> readRow(final MySQLPacketPayload payload, final int columnCount) {
+        payload.readInt1();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            if (NULL == payload.getByteBuf().getUnsignedByte(payload.getByteBuf().readerIndex())) {
+                payload.readInt1();
+                result.add(null);
+            } else {
+                result.add(payload.readStringLenencByBytes());
+            }
+        }
+        return result;
+    }
+    
+    private MySQLPacketPayload readPacket() throws SQLException {
+        ByteBuf result;
+        try {
+            result = responseHandler.take(timeoutSeconds);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw closeWithException(new SQLException("Interrupted while waiting for MySQL backend.", ex));
+        }
+        if (null == result) {
+            throw closeWithException(new SQLException(String.format("Timeout after %s seconds while waiting for MySQL backend.", timeoutSeconds)));
+        }
+        if (!result.isReadable()) {
+            throw closeWithException(new SQLException("MySQL backend connection is closed."));
+        }
+        return new MySQLPacketPayload(result);
+    }
+    
+    private int getHeader(final MySQLPacketPayload payload) {
+        return payload.getByteBuf().getUnsignedByte(payload.getByteBuf().readerIndex() + 1);
+    }
+    
+    private SQLException createSQLException(final MySQLErrPacket errPacket) {
+        return new SQLException(errPacket.getErrorMessage(), errPacket.getSqlState(), errPacket.getErrorCode());
+    }
+    
+    private SQLException closeWithException(final SQLException ex) {
+        close();
+        return ex;
+    }
+    
+    /**
+     * Judge whether connection is active.
+     * 
+     * @return connection is active or not
+     */
+    public boolean isActive() {
+        return !closed && channel.isActive();
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        channel.close();
+        responseHandler.clear();
+    }
+}
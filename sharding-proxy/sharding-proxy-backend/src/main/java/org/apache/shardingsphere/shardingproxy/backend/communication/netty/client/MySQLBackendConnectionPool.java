@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.client;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.apache.shardingsphere.core.metadata.datasource.dialect.MySQLDataSourceMetaData;
+import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.shardingproxy.transport.codec.PacketCodec;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection pool of MySQL backend connections for one data source.
+ * 
+ * @author agent
+ */
+public final class MySQLBackendConnectionPool implements AutoCloseable {
+    
+    private final Bootstrap bootstrap;
+    
+    private final YamlDataSourceParameter dataSourceParameter;
+    
+    private final String database;
+    
+    private final int timeoutSeconds;
+    
+    private final Semaphore permits;
+    
+    private final Queue<MySQLBackendConnection> idleConnections = new ConcurrentLinkedQueue<>();
+    
+    private volatile boolean closed;
+    
+    public MySQLBackendConnectionPool(final EventLoopGroup eventLoopGroup, final YamlDataSourceParameter dataSourceParameter, final int maxConnections, final int timeoutSeconds) {
+        MySQLDataSourceMetaData dataSourceMetaData = new MySQLDataSourceMetaData(dataSourceParameter.getUrl());
+        bootstrap = createBootstrap(eventLoopGroup, dataSourceMetaData.getHostName(), dataSourceMetaData.getPort(), timeoutSeconds);
+        this.dataSourceParameter = dataSourceParameter;
+        database = dataSourceMetaData.getSchemaName();
+        this.timeoutSeconds = timeoutSeconds;
+        permits = new Semaphore(maxConnections, true);
+    }
+    
+    private Bootstrap createBootstrap(final EventLoopGroup eventLoopGroup, final String host, final int port, final int timeoutSeconds) {
+        return new Bootstrap().group(eventLoopGroup).channel(NioSocketChannel.class).remoteAddress(host, port)
+                .option(ChannelOption.TCP_NODELAY, true)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) TimeUnit.SECONDS.toMillis(timeoutSeconds))
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    
+                    @Override
+                    protected void initChannel(final SocketChannel channel) {
+                        channel.pipeline().addLast(new PacketCodec(new MySQLPacketCodecEngine()));
+                        channel.pipeline().addLast(new MySQLBackendResponseHandler());
+                    }
+                });
+    }
+    
+    /**
+     * Acquire connection, create it if no idle connection.
+     * 
+     * @return MySQL backend connection
+     * @throws SQLException SQL exception
+     */
+    public MySQLBackendConnection acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeoutSeconds, TimeUnit.SECONDS)) {
+                throw new SQLException(String.format("Timeout after %s seconds while acquiring MySQL backend connection.", timeoutSeconds));
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while acquiring MySQL backend connection.", ex);
+        }
+        try {
+            return getIdleOrCreateConnection();
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            permits.release();
+            throw ex;
+        }
+    }
+    
+    private MySQLBackendConnection getIdleOrCreateConnection() throws SQLException {
+        MySQLBackendConnection result;
+        while (null != (result = idleConnections.poll())) {
+            if (result.isActive()) {
+                return result;
+            }
+            result.close();
+        }
+        return createConnection();
+    }
+    
+    private MySQLBackendConnection createConnection() throws SQLException {
+        ChannelFuture channelFuture = bootstrap.connect().awaitUninterruptibly();
+        if (!channelFuture.isSuccess()) {
+            throw new SQLException("Can not connect to MySQL backend.", channelFuture.cause());
+        }
+        Channel channel = channelFuture.channel();
+        MySQLBackendConnection result = new MySQLBackendConnection(channel, channel.pipeline().get(MySQLBackendResponseHandler.class), timeoutSeconds);
+        result.handshake(dataSourceParameter.getUsername(), dataSourceParameter.getPassword(), database);
+        return result;
+    }
+    
+    /**
+     * Execute query by connection acquired from pool.
+     * 
+     * <p>Connection is held by query result until all rows read or query result closed.</p>
+     * 
+     * @param sql SQL
+     * @return query result
+     * @throws SQLException SQL exception
+     */
+    public MySQLQueryResult executeQuery(final String sql) throws SQLException {
+        MySQLBackendConnection connection = acquire();
+        List<MySQLColumnDefinition41Packet> columnDefinitions;
+        try {
+            columnDefinitions = connection.executeQuery(sql);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            release(connection);
+            throw ex;
+        }
+        MySQLQueryResult result = new MySQLQueryResult(this, connection, columnDefinitions);
+        if (columnDefinitions.isEmpty()) {
+            result.close();
+        }
+        return result;
+    }
+    
+    /**
+     * Release connection to pool.
+     * 
+     * <p>Inactive connection will be closed instead of reused.</p>
+     * 
+     * @param connection MySQL backend connection
+     */
+    public void release(final MySQLBackendConnection connection) {
+        if (closed || !connection.isActive()) {
+            connection.close();
+        } else {
+            idleConnections.offer(connection);
+        }
+        permits.release();
+    }
+    
+    /**
+     * Get size of idle connections.
+     * 
+     * @return size of idle connections
+     */
+    public int getIdleSize() {
+        return idleConnections.size();
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        MySQLBackendConnection each;
+        while (null != (each = idleConnections.poll())) {
+            each.close();
+        }
+    }
+}
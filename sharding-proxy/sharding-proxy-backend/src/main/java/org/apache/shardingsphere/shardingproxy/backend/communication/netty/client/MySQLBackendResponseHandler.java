@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response handler of MySQL backend connection.
+ * 
+ * <p>Packets are queued for the thread which sends command, empty buffer is queued when channel becomes inactive.
+ * Auto read of channel is turned off when queued packets reach high watermark and turned on again when they are taken down to low watermark,
+ * so packets of large result set are not read into memory faster than they are taken.</p>
+ * 
+ * @author agent
+ */
+@Slf4j
+public final class MySQLBackendResponseHandler extends ChannelInboundHandlerAdapter {
+    
+    static final int HIGH_WATERMARK = 1024;
+    
+    static final int LOW_WATERMARK = 256;
+    
+    private final BlockingQueue<ByteBuf> packets = new LinkedBlockingQueue<>();
+    
+    private volatile Channel channel;
+    
+    @Override
+    public void handlerAdded(final ChannelHandlerContext context) {
+        channel = context.channel();
+    }
+    
+    @Override
+    public void channelRead(final ChannelHandlerContext context, final Object message) {
+        packets.offer((ByteBuf) message);
+        if (packets.size() >= HIGH_WATERMARK && context.channel().config().isAutoRead()) {
+            context.channel().config().setAutoRead(false);
+            resumeReadIfNecessary();
+        }
+    }
+    
+    @Override
+    public void channelInactive(final ChannelHandlerContext context) {
+        packets.offer(Unpooled.EMPTY_BUFFER);
+        context.fireChannelInactive();
+    }
+    
+    @Override
+    public void exceptionCaught(final ChannelHandlerContext context, final Throwable cause) {
+        log.error("Exception occur in MySQL backend connection: ", cause);
+        context.close();
+    }
+    
+    /**
+     * Take next packet.
+     * 
+     * @param timeoutSeconds timeout seconds, wait until packet arrived if it is not positive
+     * @return next packet, empty buffer if channel is inactive, null if timeout
+     * @throws InterruptedException interrupted exception
+     */
+    public ByteBuf take(final int timeoutSeconds) throws InterruptedException {
+        ByteBuf result = timeoutSeconds > 0 ? packets.poll(timeoutSeconds, TimeUnit.SECONDS) : packets.take();
+        if (null != result) {
+            resumeReadIfNecessary();
+        }
+        return result;
+    }
+    
+    private void resumeReadIfNecessary() {
+        if (packets.size() <= LOW_WATERMARK && null != channel && !channel.config().isAutoRead()) {
+            channel.config().setAutoRead(true);
+        }
+    }
+    
+    int size() {
+        return packets.size();
+    }
+    
+    /**
+     * Release all queued packets.
+     */
+    public void clear() {
+        ByteBuf packet;
+        while (null != (packet = packets.poll())) {
+            packet.release();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.client;
+
+import lombok.Getter;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Query result of MySQL backend connection.
+ * 
+ * <p>Rows are read from backend one by one, connection is released to pool when all rows read or result closed.
+ * Values of rows are raw bytes of text protocol, null for SQL NULL.</p>
+ *
+ * @author agent
+ */
+public final class MySQLQueryResult implements AutoCloseable {
+    
+    private final MySQLBackendConnectionPool connectionPool;
+    
+    private final MySQLBackendConnection connection;
+    
+    @Getter
+    private final List<MySQLColumnDefinition41Packet> columnDefinitions;
+    
+    @Getter
+    private List<Object> currentRow;
+    
+    private volatile boolean finished;
+    
+    private volatile boolean closed;
+    
+    public MySQLQueryResult(final MySQLBackendConnectionPool connectionPool, final MySQLBackendConnection connection, final List<MySQLColumnDefinition41Packet> columnDefinitions) {
+        this.connectionPool = connectionPool;
+        this.connection = connection;
+        this.columnDefinitions = columnDefinitions;
+        finished = columnDefinitions.isEmpty();
+    }
+    
+    /**
+     * Read next row.
+     * 
+     * @return has next row or not
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        if (finished || closed) {
+            return false;
+        }
+        try {
+            currentRow = connection.readRow(columnDefinitions.size());
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            close();
+            throw ex;
+        }
+        if (null == currentRow) {
+            finished = true;
+            close();
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Release connection to pool.
+     * 
+     * <p>Connection with unread rows is closed instead of reused.</p>
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (!finished) {
+            connection.close();
+        }
+        connectionPool.release(connection);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.datasource;
+
+import com.google.common.base.Preconditions;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.MySQLBackendConnectionPool;
+import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Backend data source of MySQL protocol over netty.
+ * 
+ * <p>Connection pools are created on first use, and closed when data sources are renewed.</p>
+ * 
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class NettyBackendDataSource implements AutoCloseable {
+    
+    private final Map<String, YamlDataSourceParameter> dataSourceParameters;
+    
+    private final Map<String, MySQLBackendConnectionPool> connectionPools = new ConcurrentHashMap<>();
+    
+    /**
+     * Get connection pool.
+     * 
+     * @param dataSourceName data source name
+     * @return connection pool
+     */
+    public MySQLBackendConnectionPool getConnectionPool(final String dataSourceName) {
+        MySQLBackendConnectionPool result = connectionPools.get(dataSourceName);
+        return null == result ? createConnectionPool(dataSourceName) : result;
+    }
+    
+    private synchronized MySQLBackendConnectionPool createConnectionPool(final String dataSourceName) {
+        MySQLBackendConnectionPool result = connectionPools.get(dataSourceName);
+        if (null == result) {
+            YamlDataSourceParameter dataSourceParameter = dataSourceParameters.get(dataSourceName);
+            Preconditions.checkNotNull(dataSourceParameter, "Can not find data source `%s`.", dataSourceName);
+            ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
+            result = new MySQLBackendConnectionPool(EventLoopGroupHolder.INSTANCE, dataSourceParameter, 
+                    shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PROXY_BACKEND_MAX_CONNECTIONS),
+                    shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS));
+            connectionPools.put(dataSourceName, result);
+        }
+        return result;
+    }
+    
+    @Override
+    public synchronized void close() {
+        for (MySQLBackendConnectionPool each : connectionPools.values()) {
+            each.close();
+        }
+        connectionPools.clear();
+    }
+    
+    private static final class EventLoopGroupHolder {
+        
+        private static final EventLoopGroup INSTANCE = new NioEventLoopGroup(0, new DefaultThreadFactory("ShardingSphere-NettyBackend", true));
+    }
+}
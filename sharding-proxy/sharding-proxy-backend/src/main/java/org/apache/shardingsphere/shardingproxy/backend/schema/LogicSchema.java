@@ -21,6 +21,7 @@ import com.google.common.eventbus.Subscribe;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.metadata.DataSourceMetaDataCache;
 import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializer;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
@@ -31,6 +32,7 @@ import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.orchestration.internal.eventbus.ShardingOrchestrationEventBus;
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.DataSourceChangedEvent;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.datasource.NettyBackendDataSource;
 import org.apache.shardingsphere.shardingproxy.backend.executor.BackendExecutorContext;
 import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
@@ -54,10 +56,16 @@ public abstract class LogicSchema {
     
     private JDBCBackendDataSource backendDataSource;
     
+    private final NettyBackendDataSource nettyBackendDataSource;
+    
+    private final DataSourceMetaDataCache dataSourceMetaDataCache;
+    
     public LogicSchema(final String name, final Map<String, YamlDataSourceParameter> dataSources) {
         this.name = name;
         parseEngine = SQLParseEngineFactory.getSQLParseEngine(LogicSchemas.getInstance().getDatabaseType());
         backendDataSource = new JDBCBackendDataSource(dataSources);
+        nettyBackendDataSource = new NettyBackendDataSource(backendDataSource.getDataSourceParameters());
+        dataSourceMetaDataCache = new DataSourceMetaDataCache(LogicSchemas.getInstance().getDatabaseType());
         ShardingOrchestrationEventBus.getInstance().register(this);
     }
     
@@ -113,6 +121,8 @@ public abstract class LogicSchema {
             return;
         }
         backendDataSource.renew(DataSourceConverter.getDataSourceParameterMap(dataSourceChangedEvent.getDataSourceConfigurations()));
+        nettyBackendDataSource.close();
+        dataSourceMetaDataCache.clear();
     }
     
     /**
@@ -18,7 +18,10 @@
 package org.apache.shardingsphere.shardingproxy.backend.schema;
 
 import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.eventbus.Subscribe;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
@@ -31,9 +34,11 @@ import org.apache.shardingsphere.core.parse.sql.statement.ddl.CreateIndexStateme
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.CreateTableStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.DropIndexStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.DropTableStatement;
+import org.apache.shardingsphere.core.rewrite.cache.SQLRewriteResultCache;
 import org.apache.shardingsphere.core.rule.MasterSlaveRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.util.ConfigurationLogger;
+import org.apache.shardingsphere.orchestration.internal.registry.config.event.PropertiesChangedEvent;
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.ShardingRuleChangedEvent;
 import org.apache.shardingsphere.orchestration.internal.registry.state.event.DisabledStateChangedEvent;
 import org.apache.shardingsphere.orchestration.internal.registry.state.schema.OrchestrationShardingSchema;
@@ -44,6 +49,8 @@ import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParamet
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Sharding schema.
@@ -58,10 +65,15 @@ import java.util.Map;
 @Getter
 public final class ShardingSchema extends LogicSchema {
     
+    private static final long REWRITE_RESULT_CACHE_MAXIMUM_SIZE = 4096L;
+    
     private ShardingRule shardingRule;
     
     private final ShardingMetaData metaData;
     
+    @Getter(AccessLevel.NONE)
+    private final Cache<String, SQLRewriteResultCache> rewriteResultCaches = CacheBuilder.newBuilder().maximumSize(REWRITE_RESULT_CACHE_MAXIMUM_SIZE).build();
+    
     public ShardingSchema(final String name, final Map<String, YamlDataSourceParameter> dataSources, final ShardingRuleConfiguration shardingRuleConfig, final boolean isUsingRegistry) {
         super(name, dataSources);
         shardingRule = createShardingRule(shardingRuleConfig, dataSources.keySet(), isUsingRegistry);
@@ -88,6 +100,39 @@ public final class ShardingSchema extends LogicSchema {
         if (getName().equals(shardingRuleChangedEvent.getShardingSchemaName())) {
             ConfigurationLogger.log(shardingRuleChangedEvent.getShardingRuleConfiguration());
             shardingRule = new OrchestrationShardingRule(shardingRuleChangedEvent.getShardingRuleConfiguration(), getDataSources().keySet());
+            rewriteResultCaches.invalidateAll();
+        }
+    }
+    
+    /**
+     * Renew properties.
+     *
+     * @param propertiesChangedEvent properties changed event
+     */
+    @Subscribe
+    public void renew(final PropertiesChangedEvent propertiesChangedEvent) {
+        rewriteResultCaches.invalidateAll();
+    }
+    
+    /**
+     * Get SQL rewrite result cache for prepared query.
+     * 
+     * <p>Only rewritten SQL is shared by prepared statements of same SQL, sharding engine should be created for every execution.</p>
+     *
+     * @param sql SQL
+     * @return SQL rewrite result cache
+     */
+    public SQLRewriteResultCache getRewriteResultCache(final String sql) {
+        try {
+            return rewriteResultCaches.get(sql, new Callable<SQLRewriteResultCache>() {
+                
+                @Override
+                public SQLRewriteResultCache call() {
+                    return new SQLRewriteResultCache();
+                }
+            });
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
         }
     }
     
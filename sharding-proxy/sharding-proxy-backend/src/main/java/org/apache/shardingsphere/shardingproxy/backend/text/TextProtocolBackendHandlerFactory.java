@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.text;
 
+import com.google.common.base.Optional;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.core.parse.core.SQLParseKernel;
@@ -30,6 +31,7 @@ import org.apache.shardingsphere.core.parse.sql.statement.tcl.BeginTransactionSt
 import org.apache.shardingsphere.core.parse.sql.statement.tcl.CommitStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.tcl.RollbackStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.tcl.SetAutoCommitStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.tcl.SetTransactionStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.tcl.TCLStatement;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.BroadcastBackendHandler;
@@ -38,6 +40,7 @@ import org.apache.shardingsphere.shardingproxy.backend.text.admin.UnicastBackend
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.UseDatabaseBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.query.QueryBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.sctl.ShardingCTLBackendHandlerFactory;
+import org.apache.shardingsphere.shardingproxy.backend.text.transaction.SetSessionTransactionBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.transaction.SkipBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.transaction.TransactionBackendHandler;
 import org.apache.shardingsphere.spi.database.DatabaseType;
@@ -89,6 +92,12 @@ public final class TextProtocolBackendHandlerFactory {
         if (tclStatement instanceof RollbackStatement) {
             return new TransactionBackendHandler(TransactionOperationType.ROLLBACK, backendConnection);
         }
+        if (tclStatement instanceof SetTransactionStatement) {
+            Optional<SetSessionTransactionBackendHandler> setSessionTransactionBackendHandler = SetSessionTransactionBackendHandler.newInstance(sql, backendConnection);
+            if (setSessionTransactionBackendHandler.isPresent()) {
+                return setSessionTransactionBackendHandler.get();
+            }
+        }
         return new BroadcastBackendHandler(sql, backendConnection);
     }
     
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.text.transaction;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
+import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendHandler;
+
+import java.sql.Connection;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Backend handler for set session transaction characteristics.
+ * 
+ * <p>Characteristics are kept by backend connection of session instead of broadcasting to backend connections,
+ * because backend connections return to pool when statement or transaction terminated.</p>
+ * 
+ * @author agent
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SetSessionTransactionBackendHandler implements TextProtocolBackendHandler {
+    
+    private static final Pattern SET_SESSION_TRANSACTION_PATTERN = Pattern.compile(
+            "^\\s*SET\\s+SESSION\\s+(?:CHARACTERISTICS\\s+AS\\s+)?TRANSACTION\\s+(.+?)\\s*;?\\s*$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    
+    private static final String ISOLATION_LEVEL = "ISOLATION LEVEL ";
+    
+    private final Integer transactionIsolation;
+    
+    private final Boolean readOnly;
+    
+    private final BackendConnection backendConnection;
+    
+    /**
+     * Create new instance of set session transaction backend handler.
+     *
+     * @param sql SQL to be executed
+     * @param backendConnection backend connection
+     * @return set session transaction backend handler, absent if SQL is not session scope or contains unsupported characteristics
+     */
+    public static Optional<SetSessionTransactionBackendHandler> newInstance(final String sql, final BackendConnection backendConnection) {
+        Matcher matcher = SET_SESSION_TRANSACTION_PATTERN.matcher(sql);
+        if (!matcher.matches()) {
+            return Optional.absent();
+        }
+        Integer transactionIsolation = null;
+        Boolean readOnly = null;
+        for (String each : matcher.group(1).split(",")) {
+            String characteristic = each.trim().replaceAll("\\s+", " ").toUpperCase();
+            if ("READ ONLY".equals(characteristic)) {
+                readOnly = true;
+            } else if ("READ WRITE".equals(characteristic)) {
+                readOnly = false;
+            } else if (characteristic.startsWith(ISOLATION_LEVEL)) {
+                Optional<Integer> level = getTransactionIsolation(characteristic.substring(ISOLATION_LEVEL.length()));
+                if (!level.isPresent()) {
+                    return Optional.absent();
+                }
+                transactionIsolation = level.get();
+            } else {
+                return Optional.absent();
+            }
+        }
+        return Optional.of(new SetSessionTransactionBackendHandler(transactionIsolation, readOnly, backendConnection));
+    }
+    
+    private static Optional<Integer> getTransactionIsolation(final String level) {
+        switch (level) {
+            case "READ UNCOMMITTED":
+                return Optional.of(Connection.TRANSACTION_READ_UNCOMMITTED);
+            case "READ COMMITTED":
+                return Optional.of(Connection.TRANSACTION_READ_COMMITTED);
+            case "REPEATABLE READ":
+                return Optional.of(Connection.TRANSACTION_REPEATABLE_READ);
+            case "SERIALIZABLE":
+                return Optional.of(Connection.TRANSACTION_SERIALIZABLE);
+            default:
+                return Optional.absent();
+        }
+    }
+    
+    @Override
+    public BackendResponse execute() {
+        if (null != transactionIsolation) {
+            backendConnection.setSessionTransactionIsolation(transactionIsolation);
+        }
+        if (null != readOnly) {
+            backendConnection.setSessionReadOnly(readOnly);
+        }
+        return new UpdateResponse();
+    }
+    
+    @Override
+    public boolean next() {
+        return false;
+    }
+    
+    @Override
+    public QueryData getQueryData() {
+        return null;
+    }
+}
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.shardingproxy.backend.text.admin.UnicastBackend
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.UseDatabaseBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.query.QueryBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.sctl.set.ShardingCTLSetBackendHandler;
+import org.apache.shardingsphere.shardingproxy.backend.text.transaction.SetSessionTransactionBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.transaction.SkipBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.transaction.TransactionBackendHandler;
 import org.apache.shardingsphere.spi.database.DatabaseType;
@@ -129,6 +130,20 @@ public final class TextProtocolBackendHandlerFactoryTest {
         assertThat(actual, instanceOf(SkipBackendHandler.class));
     }
     
+    @Test
+    public void assertNewInstanceWithSetSessionTransaction() {
+        String sql = "SET SESSION TRANSACTION ISOLATION LEVEL READ COMMITTED, READ ONLY";
+        TextProtocolBackendHandler actual = TextProtocolBackendHandlerFactory.newInstance(databaseType, sql, backendConnection);
+        assertThat(actual, instanceOf(SetSessionTransactionBackendHandler.class));
+    }
+    
+    @Test
+    public void assertNewInstanceWithSetGlobalTransaction() {
+        String sql = "SET GLOBAL TRANSACTION ISOLATION LEVEL READ COMMITTED";
+        TextProtocolBackendHandler actual = TextProtocolBackendHandlerFactory.newInstance(databaseType, sql, backendConnection);
+        assertThat(actual, instanceOf(BroadcastBackendHandler.class));
+    }
+    
     @Test
     public void assertNewInstanceWithUse() {
         String sql = "use sharding_db";
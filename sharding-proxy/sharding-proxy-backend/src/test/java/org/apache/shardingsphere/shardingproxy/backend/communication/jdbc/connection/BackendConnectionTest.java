@@ -19,10 +19,14 @@ package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.conne
 
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.shardingproxy.backend.MockLogicSchemasUtil;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
+import org.apache.shardingsphere.orchestration.internal.registry.config.event.PropertiesChangedEvent;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.junit.Before;
 import org.junit.Test;
@@ -32,12 +36,14 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.lang.reflect.Field;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -111,6 +117,33 @@ public final class BackendConnectionTest {
         assertThat(backendConnection.getStateHandler().getStatus(), is(ConnectionStatus.TRANSACTION));
     }
     
+    @Test
+    public void assertGetConnectionWithSessionTransactionIsolation() throws SQLException {
+        when(backendDataSource.getConnections((ConnectionMode) any(), anyString(), eq(1), eq(TransactionType.LOCAL))).thenReturn(MockConnectionUtil.mockNewConnections(1));
+        backendConnection.setSessionTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        backendConnection.setSessionReadOnly(true);
+        Connection actual = backendConnection.getConnections(ConnectionMode.MEMORY_STRICTLY, "ds1", 1).get(0);
+        verify(actual).setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        verify(actual).setReadOnly(true);
+        backendConnection.close();
+        assertThat(backendConnection.getConnectionSize(), is(0));
+    }
+    
+    @Test
+    public void assertCloseWithSessionTransactionIsolationRestored() throws SQLException {
+        List<Connection> connections = MockConnectionUtil.mockNewConnections(1);
+        Connection connection = connections.get(0);
+        when(connection.getTransactionIsolation()).thenReturn(Connection.TRANSACTION_REPEATABLE_READ);
+        when(backendDataSource.getConnections((ConnectionMode) any(), anyString(), eq(1), eq(TransactionType.LOCAL))).thenReturn(connections);
+        backendConnection.setSessionTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        backendConnection.setSessionReadOnly(true);
+        backendConnection.getConnections(ConnectionMode.MEMORY_STRICTLY, "ds1", 1);
+        backendConnection.close();
+        verify(connection).setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        verify(connection).setReadOnly(false);
+        verify(connection).close();
+    }
+    
     @SneakyThrows
     private void setMethodInvocation() {
         MethodInvocation invocation = mock(MethodInvocation.class);
@@ -214,6 +247,35 @@ public final class BackendConnectionTest {
         assertTrue(actual.getCachedStatements().isEmpty());
     }
     
+    @Test
+    public void assertGetPreparedStatementWithTransaction() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MAX_CACHED_STATEMENTS_PER_CONNECTION.getKey(), "8");
+        ShardingProxyContext.getInstance().renew(new PropertiesChangedEvent(props));
+        try {
+            Connection connection = mock(Connection.class);
+            when(connection.prepareStatement("SELECT 1")).thenReturn(mock(PreparedStatement.class));
+            backendConnection.getStateHandler().setStatus(ConnectionStatus.TRANSACTION);
+            PreparedStatement expected = backendConnection.getPreparedStatement(connection, "SELECT 1", false);
+            backendConnection.add(expected);
+            backendConnection.close();
+            verify(expected, times(0)).close();
+            assertThat(backendConnection.getPreparedStatement(connection, "SELECT 1", false), is(expected));
+            verify(connection).prepareStatement("SELECT 1");
+        } finally {
+            ShardingProxyContext.getInstance().renew(new PropertiesChangedEvent(new Properties()));
+        }
+    }
+    
+    @Test
+    public void assertCloseMergedResults() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        backendConnection.add(mergedResult);
+        backendConnection.close();
+        verify(mergedResult).close();
+        assertTrue(backendConnection.getCachedMergedResults().isEmpty());
+    }
+    
     private void mockResultSetAndStatement(final BackendConnection backendConnection) {
         ResultSet resultSet = mock(ResultSet.class);
         Statement statement = mock(Statement.class);
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty;
+
+import org.apache.shardingsphere.core.optimize.api.segment.Tables;
+import org.apache.shardingsphere.core.optimize.api.statement.OptimizedStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.SQLUnit;
+import org.apache.shardingsphere.core.rule.EncryptRule;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.JDBCDatabaseCommunicationEngine;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStateHandler;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.JDBCExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.MySQLBackendConnectionPool;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.MySQLQueryResult;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.datasource.NettyBackendDataSource;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.fixture.MockMySQLServer;
+import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.schema.ShardingSchema;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class NettyDatabaseCommunicationEngineTest {
+    
+    private static final String SQL = "SELECT name FROM t_order";
+    
+    private MockMySQLServer mockMySQLServer;
+    
+    private MySQLBackendConnectionPool connectionPool;
+    
+    private final ShardingSchema logicSchema = mock(ShardingSchema.class);
+    
+    private final EncryptRule encryptRule = mock(EncryptRule.class);
+    
+    private final BackendConnection backendConnection = mock(BackendConnection.class);
+    
+    private final ConnectionStateHandler stateHandler = mock(ConnectionStateHandler.class);
+    
+    private final JDBCExecutorWrapper executorWrapper = mock(JDBCExecutorWrapper.class);
+    
+    private final JDBCDatabaseCommunicationEngine jdbcDatabaseCommunicationEngine = mock(JDBCDatabaseCommunicationEngine.class);
+    
+    @Before
+    public void setUp() throws InterruptedException {
+        mockMySQLServer = new MockMySQLServer("t_order_0", Arrays.asList("name", "ORDER_BY_DERIVED_0"),
+                Arrays.<List<Object>>asList(Arrays.<Object>asList("foo", "1"), Arrays.<Object>asList("bar", "2")));
+        connectionPool = new MySQLBackendConnectionPool(mockMySQLServer.getEventLoopGroup(), mockMySQLServer.createDataSourceParameter(), 1, 3);
+        NettyBackendDataSource nettyBackendDataSource = mock(NettyBackendDataSource.class);
+        when(nettyBackendDataSource.getConnectionPool("ds_0")).thenReturn(connectionPool);
+        when(logicSchema.getNettyBackendDataSource()).thenReturn(nettyBackendDataSource);
+        when(logicSchema.getName()).thenReturn("sharding_db");
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        when(shardingRule.getEncryptRule()).thenReturn(encryptRule);
+        when(shardingRule.getLogicTableNames("t_order_0")).thenReturn(Collections.singletonList("t_order"));
+        when(logicSchema.getShardingRule()).thenReturn(shardingRule);
+        when(encryptRule.getEncryptTableNames()).thenReturn(Collections.<String>emptyList());
+        when(backendConnection.getStateHandler()).thenReturn(stateHandler);
+    }
+    
+    @After
+    public void tearDown() {
+        connectionPool.close();
+        mockMySQLServer.close();
+    }
+    
+    @Test
+    public void assertExecuteWithRelay() throws SQLException {
+        mockRouteResult(new SelectStatement(), "ds_0");
+        NettyDatabaseCommunicationEngine engine = createEngine();
+        BackendResponse actual = engine.execute();
+        assertThat(actual, instanceOf(QueryResponse.class));
+        List<QueryHeader> queryHeaders = ((QueryResponse) actual).getQueryHeaders();
+        assertThat(queryHeaders.size(), is(1));
+        assertThat(queryHeaders.get(0).getTable(), is("t_order"));
+        assertThat(queryHeaders.get(0).getColumnLabel(), is("name"));
+        verify(jdbcDatabaseCommunicationEngine, never()).execute(any(SQLRouteResult.class));
+        verify(backendConnection).add(any(MySQLQueryResult.class));
+        assertThat(connectionPool.getIdleSize(), is(0));
+        assertTrue(engine.next());
+        assertRow(engine.getQueryData(), "foo");
+        assertTrue(engine.next());
+        assertRow(engine.getQueryData(), "bar");
+        assertFalse(engine.next());
+        assertThat(connectionPool.getIdleSize(), is(1));
+    }
+    
+    private void assertRow(final QueryData actual, final String expectedName) {
+        assertThat(actual.getColumnTypes().size(), is(1));
+        assertThat(actual.getData().size(), is(1));
+        assertThat(new String((byte[]) actual.getData().get(0)), is(expectedName));
+    }
+    
+    @Test
+    public void assertCloseRelayedQueryResultBeforeAllRowsRead() throws SQLException {
+        mockRouteResult(new SelectStatement(), "ds_0");
+        createEngine().execute();
+        ArgumentCaptor<MySQLQueryResult> queryResult = ArgumentCaptor.forClass(MySQLQueryResult.class);
+        verify(backendConnection).add(queryResult.capture());
+        queryResult.getValue().close();
+        assertThat(connectionPool.getIdleSize(), is(0));
+        assertThat(connectionPool.executeQuery(SQL).getColumnDefinitions().size(), is(2));
+    }
+    
+    @Test
+    public void assertExecuteWithMultipleRouteUnits() throws SQLException {
+        assertExecuteWithJDBC(mockRouteResult(new SelectStatement(), "ds_0", "ds_1"));
+    }
+    
+    @Test
+    public void assertExecuteWithUpdate() throws SQLException {
+        assertExecuteWithJDBC(mockRouteResult(new InsertStatement(), "ds_0"));
+    }
+    
+    @Test
+    public void assertExecuteInTransaction() throws SQLException {
+        when(stateHandler.isInTransaction()).thenReturn(true);
+        assertExecuteWithJDBC(mockRouteResult(new SelectStatement(), "ds_0"));
+    }
+    
+    @Test
+    public void assertExecuteWithSessionSettings() throws SQLException {
+        when(backendConnection.isSessionSettingsSet()).thenReturn(true);
+        assertExecuteWithJDBC(mockRouteResult(new SelectStatement(), "ds_0"));
+    }
+    
+    @Test
+    public void assertExecuteWithEncryptTable() throws SQLException {
+        when(encryptRule.getEncryptTableNames()).thenReturn(Collections.singletonList("t_order"));
+        assertExecuteWithJDBC(mockRouteResult(new SelectStatement(), "ds_0"));
+    }
+    
+    private void assertExecuteWithJDBC(final SQLRouteResult routeResult) throws SQLException {
+        UpdateResponse expected = new UpdateResponse();
+        when(jdbcDatabaseCommunicationEngine.execute(routeResult)).thenReturn(expected);
+        when(jdbcDatabaseCommunicationEngine.next()).thenReturn(false);
+        NettyDatabaseCommunicationEngine engine = createEngine();
+        assertThat(engine.execute(), is((BackendResponse) expected));
+        assertFalse(engine.next());
+        verify(jdbcDatabaseCommunicationEngine).next();
+        verify(backendConnection, never()).add(any(MySQLQueryResult.class));
+        assertThat(connectionPool.getIdleSize(), is(0));
+    }
+    
+    private SQLRouteResult mockRouteResult(final SQLStatement sqlStatement, final String... dataSourceNames) {
+        OptimizedStatement optimizedStatement = mock(OptimizedStatement.class);
+        when(optimizedStatement.getSQLStatement()).thenReturn(sqlStatement);
+        Tables tables = mock(Tables.class);
+        when(tables.getTableNames()).thenReturn(Collections.singletonList("t_order"));
+        when(optimizedStatement.getTables()).thenReturn(tables);
+        SQLRouteResult result = new SQLRouteResult(optimizedStatement);
+        for (String each : dataSourceNames) {
+            result.getRouteUnits().add(new RouteUnit(each, new SQLUnit("SELECT name FROM t_order_0", Collections.emptyList())));
+        }
+        when(executorWrapper.route(anyString(), ArgumentMatchers.<DatabaseType>any())).thenReturn(result);
+        return result;
+    }
+    
+    private NettyDatabaseCommunicationEngine createEngine() {
+        return new NettyDatabaseCommunicationEngine(logicSchema, SQL, backendConnection, executorWrapper, jdbcDatabaseCommunicationEngine);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.client;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.fixture.MockMySQLServer;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLColumnType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLBackendConnectionPoolTest {
+    
+    private MockMySQLServer mockMySQLServer;
+    
+    private MySQLBackendConnectionPool connectionPool;
+    
+    @Before
+    public void setUp() throws InterruptedException {
+        mockMySQLServer = new MockMySQLServer("t_order_0", Collections.singletonList("name"), Collections.singletonList(Collections.<Object>singletonList("foo")));
+        connectionPool = new MySQLBackendConnectionPool(mockMySQLServer.getEventLoopGroup(), mockMySQLServer.createDataSourceParameter(), 1, 3);
+    }
+    
+    @After
+    public void tearDown() {
+        connectionPool.close();
+        mockMySQLServer.close();
+    }
+    
+    @Test
+    public void assertExecuteQuery() throws SQLException {
+        MySQLQueryResult actual = connectionPool.executeQuery("SELECT name FROM t_order_0");
+        assertThat(actual.getColumnDefinitions().size(), is(1));
+        assertThat(actual.getColumnDefinitions().get(0).getName(), is("name"));
+        assertThat(actual.getColumnDefinitions().get(0).getColumnType(), is(MySQLColumnType.MYSQL_TYPE_VAR_STRING));
+        assertThat(connectionPool.getIdleSize(), is(0));
+        assertTrue(actual.next());
+        List<Object> row = actual.getCurrentRow();
+        assertThat(row.size(), is(1));
+        assertThat(new String((byte[]) row.get(0)), is("foo"));
+        assertFalse(actual.next());
+        assertThat(connectionPool.getIdleSize(), is(1));
+    }
+    
+    @Test
+    public void assertCloseQueryResultWithUnreadRows() throws SQLException {
+        MySQLQueryResult actual = connectionPool.executeQuery("SELECT name FROM t_order_0");
+        actual.close();
+        assertFalse(actual.next());
+        assertThat(connectionPool.getIdleSize(), is(0));
+    }
+    
+    @Test
+    public void assertReuseReleasedConnection() throws SQLException {
+        MySQLBackendConnection connection = connectionPool.acquire();
+        connectionPool.release(connection);
+        assertThat(connectionPool.getIdleSize(), is(1));
+        assertThat(connectionPool.acquire(), sameInstance(connection));
+        assertThat(connectionPool.getIdleSize(), is(0));
+    }
+    
+    @Test
+    public void assertExecuteQueryWithLargeResultSet() throws SQLException, InterruptedException {
+        List<List<Object>> rows = new ArrayList<>(20000);
+        for (int i = 0; i < 20000; i++) {
+            rows.add(Collections.<Object>singletonList(Strings.repeat("x", 100)));
+        }
+        try (MockMySQLServer largeMySQLServer = new MockMySQLServer("t_order_0", Collections.singletonList("name"), rows);
+             MySQLBackendConnectionPool largeConnectionPool = new MySQLBackendConnectionPool(largeMySQLServer.getEventLoopGroup(), largeMySQLServer.createDataSourceParameter(), 1, 3)) {
+            MySQLBackendConnection connection = largeConnectionPool.acquire();
+            assertThat(connection.executeQuery("SELECT name FROM t_order_0").size(), is(1));
+            Thread.sleep(500L);
+            int maxQueuedSize = connection.getResponseHandler().size();
+            int actualRowCount = 0;
+            while (null != connection.readRow(1)) {
+                maxQueuedSize = Math.max(maxQueuedSize, connection.getResponseHandler().size());
+                actualRowCount++;
+            }
+            assertThat(actualRowCount, is(20000));
+            assertTrue(maxQueuedSize <= MySQLBackendResponseHandler.HIGH_WATERMARK * 2);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.fixture;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.util.ReferenceCountUtil;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.shardingproxy.transport.codec.PacketCodec;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLColumnType;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLFieldCountPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.MySQLAuthPluginData;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.MySQLHandshakePacket;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+public final class MockMySQLServer implements AutoCloseable {
+    
+    @Getter
+    private final EventLoopGroup eventLoopGroup = new NioEventLoopGroup(1);
+    
+    private final Channel serverChannel;
+    
+    public MockMySQLServer(final String actualTableName, final List<String> columnNames, final List<List<Object>> rows) throws InterruptedException {
+        serverChannel = new ServerBootstrap().group(eventLoopGroup).channel(NioServerSocketChannel.class).childHandler(new ChannelInitializer<SocketChannel>() {
+            
+            @Override
+            protected void initChannel(final SocketChannel channel) {
+                channel.pipeline().addLast(new PacketCodec(new MySQLPacketCodecEngine()));
+                channel.pipeline().addLast(new MockMySQLServerHandler(actualTableName, columnNames, rows));
+            }
+        }).bind("127.0.0.1", 0).sync().channel();
+    }
+    
+    /**
+     * Create data source parameter to connect this server.
+     *
+     * @return data source parameter
+     */
+    public YamlDataSourceParameter createDataSourceParameter() {
+        YamlDataSourceParameter result = new YamlDataSourceParameter();
+        result.setUrl(String.format("jdbc:mysql://127.0.0.1:%s/test", ((InetSocketAddress) serverChannel.localAddress()).getPort()));
+        result.setUsername("root");
+        result.setPassword("root");
+        return result;
+    }
+    
+    @Override
+    public void close() {
+        serverChannel.close().awaitUninterruptibly();
+        eventLoopGroup.shutdownGracefully();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class MockMySQLServerHandler extends ChannelInboundHandlerAdapter {
+        
+        private final String actualTableName;
+        
+        private final List<String> columnNames;
+        
+        private final List<List<Object>> rows;
+        
+        private boolean authenticated;
+        
+        @Override
+        public void channelActive(final ChannelHandlerContext context) {
+            context.writeAndFlush(new MySQLHandshakePacket(1, new MySQLAuthPluginData()));
+        }
+        
+        @Override
+        public void channelRead(final ChannelHandlerContext context, final Object message) {
+            ReferenceCountUtil.release(message);
+            if (!authenticated) {
+                authenticated = true;
+                context.writeAndFlush(new MySQLOKPacket(2));
+                return;
+            }
+            int sequenceId = 1;
+            context.write(new MySQLFieldCountPacket(sequenceId++, columnNames.size()));
+            for (String each : columnNames) {
+                context.write(new MySQLColumnDefinition41Packet(sequenceId++, "test", actualTableName, actualTableName, each, each, 32, MySQLColumnType.MYSQL_TYPE_VAR_STRING, 0));
+            }
+            context.write(new MySQLEofPacket(sequenceId++));
+            for (List<Object> each : rows) {
+                context.write(new MySQLTextResultSetRowPacket(sequenceId++, each));
+            }
+            context.writeAndFlush(new MySQLEofPacket(sequenceId));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.text.transaction;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
+import org.junit.Test;
+
+import java.sql.Connection;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public final class SetSessionTransactionBackendHandlerTest {
+    
+    private final BackendConnection backendConnection = mock(BackendConnection.class);
+    
+    @Test
+    public void assertNewInstanceWithIsolationLevelAndReadOnly() {
+        execute("SET SESSION TRANSACTION ISOLATION LEVEL READ COMMITTED, READ ONLY");
+        verify(backendConnection).setSessionTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        verify(backendConnection).setSessionReadOnly(true);
+    }
+    
+    @Test
+    public void assertNewInstanceWithPostgreSQLCharacteristics() {
+        execute("SET SESSION CHARACTERISTICS AS TRANSACTION ISOLATION LEVEL SERIALIZABLE");
+        verify(backendConnection).setSessionTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+        verify(backendConnection, never()).setSessionReadOnly(anyBoolean());
+    }
+    
+    @Test
+    public void assertNewInstanceWithTrailingSemicolon() {
+        execute("set session transaction  read   write ;");
+        verify(backendConnection).setSessionReadOnly(false);
+        verify(backendConnection, never()).setSessionTransactionIsolation(anyInt());
+    }
+    
+    @Test
+    public void assertNewInstanceWithUnsupportedIsolationLevel() {
+        assertFalse(SetSessionTransactionBackendHandler.newInstance("SET SESSION TRANSACTION ISOLATION LEVEL SNAPSHOT", backendConnection).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithUnsupportedCharacteristic() {
+        assertFalse(SetSessionTransactionBackendHandler.newInstance("SET SESSION CHARACTERISTICS AS TRANSACTION READ ONLY, DEFERRABLE", backendConnection).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithoutSessionScope() {
+        assertFalse(SetSessionTransactionBackendHandler.newInstance("SET GLOBAL TRANSACTION READ ONLY", backendConnection).isPresent());
+        assertFalse(SetSessionTransactionBackendHandler.newInstance("SET TRANSACTION READ ONLY", backendConnection).isPresent());
+    }
+    
+    private void execute(final String sql) {
+        Optional<SetSessionTransactionBackendHandler> actual = SetSessionTransactionBackendHandler.newInstance(sql, backendConnection);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().execute(), instanceOf(UpdateResponse.class));
+    }
+}
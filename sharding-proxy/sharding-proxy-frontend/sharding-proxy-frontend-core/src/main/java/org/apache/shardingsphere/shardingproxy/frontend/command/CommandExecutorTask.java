@@ -19,19 +19,26 @@ package org.apache.shardingsphere.shardingproxy.frontend.command;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.hook.RootInvokeHook;
 import org.apache.shardingsphere.core.execute.hook.SPIRootInvokeHook;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.executor.ChannelThreadExecutorGroup;
+import org.apache.shardingsphere.shardingproxy.frontend.executor.SerialExecutorService;
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacketType;
 import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
 import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
+import org.apache.shardingsphere.transaction.core.TransactionType;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -39,12 +46,24 @@ import java.util.Collection;
 /**
  * Command executor task.
  *
+ * <p>
+ *     If channel is not writable while writing query data, task is suspended and thread is released,
+ *     task should be executed again to resume writing when channel is writable.
+ *     Task of frontend which occupy thread for per connection holds following commands while suspended, and is resumed before them.
+ *     Task of XA or BASE transaction is never suspended but waits until channel writable, because transaction must be processed by thread of channel.
+ * </p>
+ *
  * @author zhangliang
  */
 @RequiredArgsConstructor
 @Slf4j
 public final class CommandExecutorTask implements Runnable {
     
+    /**
+     * Attribute key of command executor task suspended until channel writable.
+     */
+    public static final AttributeKey<CommandExecutorTask> SUSPENDED_TASK = AttributeKey.valueOf("SUSPENDED_COMMAND_EXECUTOR_TASK");
+    
     private final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine;
     
     private final BackendConnection backendConnection;
@@ -53,47 +72,127 @@ public final class CommandExecutorTask implements Runnable {
     
     private final Object message;
     
+    private QueryCommandExecutor queryCommandExecutor;
+    
+    private int headerPackagesCount;
+    
+    private int dataPackagesCount;
+    
+    private boolean isNeedFlush;
+    
+    private boolean isFailed;
+    
     @Override
     public void run() {
         RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
         rootInvokeHook.start();
         int connectionSize = 0;
-        boolean isNeedFlush = false;
-        try (BackendConnection backendConnection = this.backendConnection;
-             PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
-            backendConnection.getStateHandler().waitUntilConnectionReleasedIfNecessary();
-            backendConnection.getStateHandler().setRunningStatusIfNecessary();
-            isNeedFlush = executeCommand(context, payload, backendConnection);
+        boolean isCompleted = true;
+        try {
+            isCompleted = null == queryCommandExecutor ? executeCommand() : writeQueryData();
             connectionSize = backendConnection.getConnectionSize();
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
-            log.error("Exception occur: ", ex);
-            context.writeAndFlush(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(ex));
+            writeErrorPacket(ex);
         } finally {
-            if (isNeedFlush) {
-                context.flush();
+            if (isCompleted) {
+                complete();
             }
             rootInvokeHook.finish(connectionSize);
         }
     }
     
-    private boolean executeCommand(final ChannelHandlerContext context, final PacketPayload payload, final BackendConnection backendConnection) throws SQLException {
-        CommandExecuteEngine commandExecuteEngine = databaseProtocolFrontendEngine.getCommandExecuteEngine();
-        CommandPacketType type = commandExecuteEngine.getCommandPacketType(payload);
-        CommandPacket commandPacket = commandExecuteEngine.getCommandPacket(payload, type, backendConnection);
-        CommandExecutor commandExecutor = commandExecuteEngine.getCommandExecutor(type, commandPacket, backendConnection);
-        Collection<DatabasePacket> responsePackets = commandExecutor.execute();
-        if (responsePackets.isEmpty()) {
-            return false;
+    private boolean executeCommand() throws Exception {
+        try (PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
+            backendConnection.getStateHandler().waitUntilConnectionReleasedIfNecessary();
+            backendConnection.getStateHandler().setRunningStatusIfNecessary();
+            CommandExecuteEngine commandExecuteEngine = databaseProtocolFrontendEngine.getCommandExecuteEngine();
+            CommandPacketType type = commandExecuteEngine.getCommandPacketType(payload);
+            CommandPacket commandPacket = commandExecuteEngine.getCommandPacket(payload, type, backendConnection);
+            CommandExecutor commandExecutor = commandExecuteEngine.getCommandExecutor(type, commandPacket, backendConnection);
+            Collection<DatabasePacket> responsePackets = commandExecutor.execute();
+            if (responsePackets.isEmpty()) {
+                return true;
+            }
+            for (DatabasePacket each : responsePackets) {
+                context.write(each);
+            }
+            if (commandExecutor instanceof QueryCommandExecutor) {
+                isNeedFlush = true;
+                queryCommandExecutor = (QueryCommandExecutor) commandExecutor;
+                headerPackagesCount = responsePackets.size();
+                return writeQueryData();
+            }
+            isNeedFlush = databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket();
+            return true;
+        }
+    }
+    
+    private boolean writeQueryData() throws SQLException {
+        int count = 0;
+        int flushThreshold = ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        while (queryCommandExecutor.isQuery() && context.channel().isActive()) {
+            if (!context.channel().isWritable()) {
+                context.flush();
+                if (TransactionType.LOCAL != backendConnection.getTransactionType()) {
+                    backendConnection.getResourceSynchronizer().doAwait();
+                    continue;
+                }
+                if (suspend()) {
+                    return false;
+                }
+                continue;
+            }
+            if (!queryCommandExecutor.next()) {
+                break;
+            }
+            context.write(queryCommandExecutor.getQueryData());
+            dataPackagesCount++;
+            if (flushThreshold == ++count) {
+                context.flush();
+                count = 0;
+            }
         }
-        for (DatabasePacket each : responsePackets) {
+        for (DatabasePacket each : databaseProtocolFrontendEngine.getCommandExecuteEngine().getQueryDataTailPackets(queryCommandExecutor, headerPackagesCount, dataPackagesCount)) {
             context.write(each);
         }
-        if (commandExecutor instanceof QueryCommandExecutor) {
-            commandExecuteEngine.writeQueryData(context, backendConnection, (QueryCommandExecutor) commandExecutor, responsePackets.size());
-            return true;
+        return true;
+    }
+    
+    private boolean suspend() {
+        Attribute<CommandExecutorTask> suspendedTask = context.channel().attr(SUSPENDED_TASK);
+        suspendedTask.set(this);
+        boolean isResumable = context.channel().isWritable() || !context.channel().isActive();
+        if (isResumable && suspendedTask.compareAndSet(this, null)) {
+            return false;
+        }
+        if (databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection()) {
+            SerialExecutorService serialExecutorService = ChannelThreadExecutorGroup.getInstance().getSerialExecutor(context.channel().id());
+            if (null != serialExecutorService) {
+                serialExecutorService.suspend();
+            }
+        }
+        return true;
+    }
+    
+    private void writeErrorPacket(final Exception cause) {
+        log.error("Exception occur: ", cause);
+        if (!isFailed) {
+            context.write(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(cause));
+        }
+        isFailed = true;
+        isNeedFlush = true;
+    }
+    
+    private void complete() {
+        try {
+            backendConnection.close();
+        } catch (final SQLException ex) {
+            writeErrorPacket(ex);
+        }
+        if (isNeedFlush) {
+            context.flush();
         }
-        return databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket();
     }
 }
@@ -32,6 +32,7 @@ import java.util.concurrent.Executors;
  * <p>
  *     Manage the thread for each channel invoking.
  *     This ensure XA transaction framework processed by current thread id.
+ *     Channels which only need commands executed in order share threads of user executor group via serial executor service instead.
  * </p>
  * 
  * @author zhaojun
@@ -44,6 +45,8 @@ public final class ChannelThreadExecutorGroup {
     
     private final Map<ChannelId, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    private final Map<ChannelId, SerialExecutorService> serialExecutorServices = new ConcurrentHashMap<>();
+    
     /**
      * Get channel thread executor group.
      * 
@@ -60,6 +63,7 @@ public final class ChannelThreadExecutorGroup {
      */
     public void register(final ChannelId channelId) {
         executorServices.put(channelId, Executors.newSingleThreadExecutor());
+        serialExecutorServices.put(channelId, new SerialExecutorService(UserExecutorGroup.getInstance().getExecutorService()));
     }
     
     /**
@@ -72,6 +76,16 @@ public final class ChannelThreadExecutorGroup {
         return executorServices.get(channelId);
     }
     
+    /**
+     * Get serial executor service of current channel.
+     *
+     * @param channelId channel id
+     * @return serial executor service of current channel
+     */
+    public SerialExecutorService getSerialExecutor(final ChannelId channelId) {
+        return serialExecutorServices.get(channelId);
+    }
+    
     /**
      * Unregister channel.
      *
@@ -79,5 +93,6 @@ public final class ChannelThreadExecutorGroup {
      */
     public void unregister(final ChannelId channelId) {
         executorServices.remove(channelId).shutdown();
+        serialExecutorServices.remove(channelId).shutdown();
     }
 }
@@ -35,13 +35,23 @@ public final class CommandExecutorSelector {
     /**
      * Get executor service.
      *
+     * <p>XA and BASE transaction need thread of channel, occupy thread for per connection only need commands executed in order.</p>
+     *
+     * <p>
+     *     Executor is switched only after transaction type changed by previous command.
+     *     Pending tasks are not drained before switched, because frontend protocol sends next command only after response of previous command received,
+     *     and connection state handler waits until connections released by previous command before executing next one.
+     * </p>
+     *
      * @param isOccupyThreadForPerConnection is occupy thread for per connection or not
      * @param transactionType transaction type
      * @param channelId channel ID
      * @return executor service
      */
     public static ExecutorService getExecutor(final boolean isOccupyThreadForPerConnection, final TransactionType transactionType, final ChannelId channelId) {
-        return (isOccupyThreadForPerConnection || TransactionType.XA == transactionType || TransactionType.BASE == transactionType)
-            ? ChannelThreadExecutorGroup.getInstance().get(channelId) : UserExecutorGroup.getInstance().getExecutorService();
+        if (TransactionType.XA == transactionType || TransactionType.BASE == transactionType) {
+            return ChannelThreadExecutorGroup.getInstance().get(channelId);
+        }
+        return isOccupyThreadForPerConnection ? ChannelThreadExecutorGroup.getInstance().getSerialExecutor(channelId) : UserExecutorGroup.getInstance().getExecutorService();
     }
 }
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.executor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serial executor service.
+ * 
+ * <p>
+ *     Tasks are executed one by one in submitted order, but borrow threads from shared executor.
+ *     No thread is occupied while there is no pending task or running task is suspended.
+ *     Following tasks are held while running task is suspended, until it is resumed at the head of queue.
+ * </p>
+ * 
+ * @author agent
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class SerialExecutorService extends AbstractExecutorService {
+    
+    private final Executor executor;
+    
+    private final Deque<Runnable> tasks = new LinkedList<>();
+    
+    private boolean running;
+    
+    private boolean suspendRequested;
+    
+    private boolean suspended;
+    
+    private boolean resumeRequested;
+    
+    private boolean shutdown;
+    
+    private final Runnable drainTask = new Runnable() {
+        
+        @Override
+        public void run() {
+            drain();
+        }
+    };
+    
+    @Override
+    public void execute(final Runnable command) {
+        synchronized (this) {
+            if (shutdown) {
+                throw new RejectedExecutionException("Serial executor service has been shutdown.");
+            }
+            tasks.offer(command);
+            if (running) {
+                return;
+            }
+            running = true;
+        }
+        schedule();
+    }
+    
+    /**
+     * Suspend running task.
+     * 
+     * <p>
+     *     Should be invoked by running task of this executor service before it returns.
+     *     Thread is released after running task returned, following tasks are held until running task resumed.
+     * </p>
+     */
+    public synchronized void suspend() {
+        suspendRequested = true;
+    }
+    
+    /**
+     * Resume suspended task.
+     * 
+     * <p>Task is executed before all pending tasks, it may be resumed before suspended task returned.</p>
+     * 
+     * @param task suspended task
+     */
+    public void resume(final Runnable task) {
+        synchronized (this) {
+            tasks.addFirst(task);
+            if (!suspended) {
+                resumeRequested = true;
+                return;
+            }
+            suspended = false;
+        }
+        schedule();
+    }
+    
+    private void schedule() {
+        try {
+            executor.execute(drainTask);
+        } catch (final RejectedExecutionException ex) {
+            synchronized (this) {
+                running = false;
+                notifyAll();
+            }
+            throw ex;
+        }
+    }
+    
+    private void drain() {
+        boolean isSuspended = false;
+        try {
+            isSuspended = runTasks();
+        } finally {
+            if (!isSuspended) {
+                finishDrain();
+            }
+        }
+    }
+    
+    private boolean runTasks() {
+        Runnable task;
+        while (null != (task = pollTask())) {
+            try {
+                task.run();
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                // CHECKSTYLE:ON
+                log.error("Exception occur: ", ex);
+            }
+            if (holdIfSuspendRequested()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private synchronized Runnable pollTask() {
+        return tasks.poll();
+    }
+    
+    private synchronized boolean holdIfSuspendRequested() {
+        if (!suspendRequested) {
+            return false;
+        }
+        suspendRequested = false;
+        if (resumeRequested) {
+            resumeRequested = false;
+            return false;
+        }
+        suspended = true;
+        return true;
+    }
+    
+    private void finishDrain() {
+        synchronized (this) {
+            suspendRequested = false;
+            resumeRequested = false;
+            if (tasks.isEmpty()) {
+                running = false;
+                notifyAll();
+                return;
+            }
+        }
+        schedule();
+    }
+    
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+    }
+    
+    @Override
+    public synchronized List<Runnable> shutdownNow() {
+        shutdown = true;
+        List<Runnable> result = new LinkedList<>(tasks);
+        tasks.clear();
+        return result;
+    }
+    
+    @Override
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+    
+    @Override
+    public synchronized boolean isTerminated() {
+        return shutdown && tasks.isEmpty() && !running;
+    }
+    
+    @Override
+    public synchronized boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!isTerminated()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+    }
+}
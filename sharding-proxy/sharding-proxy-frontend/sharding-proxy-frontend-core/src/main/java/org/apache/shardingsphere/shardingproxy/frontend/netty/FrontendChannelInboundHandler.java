@@ -61,8 +61,12 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
             authorized = auth(context, (ByteBuf) message);
             return;
         }
+        execute(context, new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message));
+    }
+    
+    private void execute(final ChannelHandlerContext context, final CommandExecutorTask commandExecutorTask) {
         CommandExecutorSelector.getExecutor(databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection(), backendConnection.getTransactionType(), context.channel().id())
-                .execute(new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message));
+                .execute(commandExecutorTask);
     }
     
     private boolean auth(final ChannelHandlerContext context, final ByteBuf message) {
@@ -81,6 +85,7 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @SneakyThrows
     public void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
+        context.channel().attr(CommandExecutorTask.SUSPENDED_TASK).set(null);
         databaseProtocolFrontendEngine.release(backendConnection);
         backendConnection.close(true);
         ChannelThreadExecutorGroup.getInstance().unregister(context.channel().id());
@@ -90,6 +95,18 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     public void channelWritabilityChanged(final ChannelHandlerContext context) {
         if (context.channel().isWritable()) {
             backendConnection.getResourceSynchronizer().doNotify();
+            CommandExecutorTask suspendedTask = context.channel().attr(CommandExecutorTask.SUSPENDED_TASK).getAndSet(null);
+            if (null != suspendedTask) {
+                resume(context, suspendedTask);
+            }
+        }
+    }
+    
+    private void resume(final ChannelHandlerContext context, final CommandExecutorTask suspendedTask) {
+        if (databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection()) {
+            ChannelThreadExecutorGroup.getInstance().getSerialExecutor(context.channel().id()).resume(suspendedTask);
+        } else {
+            execute(context, suspendedTask);
         }
     }
 }
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelId;
+import io.netty.util.Attribute;
+import io.netty.util.DefaultAttributeMap;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.context.FrontendContext;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.executor.ChannelThreadExecutorGroup;
+import org.apache.shardingsphere.shardingproxy.frontend.executor.SerialExecutorService;
+import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
+import org.apache.shardingsphere.shardingproxy.transport.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacket;
+import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacketType;
+import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
+import org.apache.shardingsphere.transaction.core.TransactionType;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class CommandExecutorTaskTest {
+    
+    @Mock
+    private DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine;
+    
+    @Mock
+    private CommandExecuteEngine commandExecuteEngine;
+    
+    @Mock
+    private QueryCommandExecutor queryCommandExecutor;
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private DatabasePacket headerPacket;
+    
+    @Mock
+    private DatabasePacket dataPacket;
+    
+    @Mock
+    private DatabasePacket tailPacket;
+    
+    private final Attribute<CommandExecutorTask> suspendedTask = new DefaultAttributeMap().attr(CommandExecutorTask.SUSPENDED_TASK);
+    
+    private final BackendConnection backendConnection = new BackendConnection(TransactionType.LOCAL);
+    
+    @Before
+    public void setUp() throws SQLException {
+        DatabasePacketCodecEngine codecEngine = mock(DatabasePacketCodecEngine.class);
+        when(codecEngine.createPacketPayload(any(ByteBuf.class))).thenReturn(mock(PacketPayload.class));
+        when(databaseProtocolFrontendEngine.getCodecEngine()).thenReturn(codecEngine);
+        when(databaseProtocolFrontendEngine.getCommandExecuteEngine()).thenReturn(commandExecuteEngine);
+        when(databaseProtocolFrontendEngine.getFrontendContext()).thenReturn(new FrontendContext(false, true));
+        CommandPacketType commandPacketType = mock(CommandPacketType.class);
+        CommandPacket commandPacket = mock(CommandPacket.class);
+        when(commandExecuteEngine.getCommandPacketType(any(PacketPayload.class))).thenReturn(commandPacketType);
+        when(commandExecuteEngine.getCommandPacket(any(PacketPayload.class), any(CommandPacketType.class), any(BackendConnection.class))).thenReturn(commandPacket);
+        when(commandExecuteEngine.getCommandExecutor(eq(commandPacketType), eq(commandPacket), any(BackendConnection.class))).thenReturn(queryCommandExecutor);
+        when(commandExecuteEngine.getQueryDataTailPackets(queryCommandExecutor, 1, 1)).thenReturn(Collections.singletonList(tailPacket));
+        when(queryCommandExecutor.execute()).thenReturn(Collections.singletonList(headerPacket));
+        when(queryCommandExecutor.isQuery()).thenReturn(true);
+        when(queryCommandExecutor.next()).thenReturn(true, false);
+        when(queryCommandExecutor.getQueryData()).thenReturn(dataPacket);
+        when(context.channel()).thenReturn(channel);
+        when(channel.isActive()).thenReturn(true);
+        when(channel.attr(CommandExecutorTask.SUSPENDED_TASK)).thenReturn(suspendedTask);
+    }
+    
+    @Test
+    public void assertRunWithWritableChannel() throws SQLException {
+        when(channel.isWritable()).thenReturn(true);
+        new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, mock(ByteBuf.class)).run();
+        verify(context).write(headerPacket);
+        verify(context).write(dataPacket);
+        verify(context).write(tailPacket);
+        verify(context).flush();
+        assertThat(suspendedTask.get(), nullValue());
+    }
+    
+    @Test
+    public void assertRunWithNotWritableChannel() throws SQLException {
+        when(channel.isWritable()).thenReturn(false);
+        CommandExecutorTask commandExecutorTask = new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, mock(ByteBuf.class));
+        commandExecutorTask.run();
+        assertThat(suspendedTask.get(), sameInstance(commandExecutorTask));
+        verify(queryCommandExecutor, never()).next();
+        verify(context, never()).write(tailPacket);
+        when(channel.isWritable()).thenReturn(true);
+        suspendedTask.getAndSet(null).run();
+        verify(context).write(dataPacket);
+        verify(context).write(tailPacket);
+        assertThat(backendConnection.getConnectionSize(), is(0));
+    }
+    
+    @Test
+    public void assertRunWithNotWritableChannelAndOccupyThreadForPerConnection() throws InterruptedException {
+        when(databaseProtocolFrontendEngine.getFrontendContext()).thenReturn(new FrontendContext(true, true));
+        final AtomicBoolean writable = new AtomicBoolean();
+        when(channel.isWritable()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return writable.get();
+            }
+        });
+        ChannelId channelId = mock(ChannelId.class);
+        when(channel.id()).thenReturn(channelId);
+        ChannelThreadExecutorGroup.getInstance().register(channelId);
+        try {
+            SerialExecutorService serialExecutorService = ChannelThreadExecutorGroup.getInstance().getSerialExecutor(channelId);
+            final CountDownLatch pendingLatch = new CountDownLatch(1);
+            serialExecutorService.execute(new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, mock(ByteBuf.class)));
+            serialExecutorService.execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    pendingLatch.countDown();
+                }
+            });
+            while (null == suspendedTask.get()) {
+                Thread.sleep(10L);
+            }
+            assertFalse(pendingLatch.await(100L, TimeUnit.MILLISECONDS));
+            writable.set(true);
+            serialExecutorService.resume(suspendedTask.getAndSet(null));
+            assertTrue(pendingLatch.await(10L, TimeUnit.SECONDS));
+            verify(context).write(dataPacket);
+            verify(context).write(tailPacket);
+        } finally {
+            ChannelThreadExecutorGroup.getInstance().unregister(channelId);
+        }
+    }
+    
+    @Test
+    public void assertRunWithNotWritableChannelInXATransaction() throws InterruptedException {
+        BackendConnection xaBackendConnection = new BackendConnection(TransactionType.XA);
+        when(channel.isWritable()).thenReturn(false, true);
+        Thread thread = new Thread(new CommandExecutorTask(databaseProtocolFrontendEngine, xaBackendConnection, context, mock(ByteBuf.class)));
+        thread.start();
+        while (thread.isAlive()) {
+            xaBackendConnection.getResourceSynchronizer().doNotify();
+            thread.join(10L);
+        }
+        assertThat(suspendedTask.get(), nullValue());
+        verify(context).write(dataPacket);
+        verify(context).write(tailPacket);
+    }
+}
@@ -39,7 +39,7 @@ public final class ExecutorGroupTest {
     public void assertGetExecutorServiceWithOccupyThreadForPerConnection() {
         ChannelId channelId = mock(ChannelId.class);
         ChannelThreadExecutorGroup.getInstance().register(channelId);
-        assertThat(CommandExecutorSelector.getExecutor(true, TransactionType.LOCAL, channelId), instanceOf(ExecutorService.class));
+        assertThat(CommandExecutorSelector.getExecutor(true, TransactionType.LOCAL, channelId), instanceOf(SerialExecutorService.class));
     }
     
     @Test
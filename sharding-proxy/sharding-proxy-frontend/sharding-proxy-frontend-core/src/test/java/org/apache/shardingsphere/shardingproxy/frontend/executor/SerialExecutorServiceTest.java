@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.executor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SerialExecutorServiceTest {
+    
+    private ExecutorService sharedExecutorService;
+    
+    @Before
+    public void setUp() {
+        sharedExecutorService = Executors.newFixedThreadPool(4);
+    }
+    
+    @After
+    public void tearDown() {
+        sharedExecutorService.shutdownNow();
+    }
+    
+    @Test
+    public void assertExecuteInSubmittedOrder() throws InterruptedException {
+        SerialExecutorService serialExecutorService = new SerialExecutorService(sharedExecutorService);
+        final List<Integer> actual = Collections.synchronizedList(new ArrayList<Integer>());
+        for (int i = 0; i < 1000; i++) {
+            final int index = i;
+            serialExecutorService.execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    actual.add(index);
+                }
+            });
+        }
+        serialExecutorService.shutdown();
+        assertTrue(serialExecutorService.awaitTermination(10, TimeUnit.SECONDS));
+        assertThat(actual.size(), is(1000));
+        for (int i = 0; i < 1000; i++) {
+            assertThat(actual.get(i), is(i));
+        }
+    }
+    
+    @Test
+    public void assertResumeSuspendedTaskBeforePendingTasks() throws InterruptedException {
+        final SerialExecutorService serialExecutorService = new SerialExecutorService(sharedExecutorService);
+        final List<String> actual = Collections.synchronizedList(new ArrayList<String>());
+        final CountDownLatch suspendedLatch = new CountDownLatch(1);
+        Runnable suspendedTask = new Runnable() {
+            
+            private boolean isSuspended;
+            
+            @Override
+            public void run() {
+                if (isSuspended) {
+                    actual.add("resumed");
+                    return;
+                }
+                isSuspended = true;
+                actual.add("suspended");
+                serialExecutorService.suspend();
+                suspendedLatch.countDown();
+            }
+        };
+        serialExecutorService.execute(suspendedTask);
+        serialExecutorService.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                actual.add("pending");
+            }
+        });
+        assertTrue(suspendedLatch.await(10, TimeUnit.SECONDS));
+        Thread.sleep(100L);
+        assertThat(actual, is(Collections.singletonList("suspended")));
+        serialExecutorService.resume(suspendedTask);
+        serialExecutorService.shutdown();
+        assertTrue(serialExecutorService.awaitTermination(10, TimeUnit.SECONDS));
+        assertThat(actual, is(Arrays.asList("suspended", "resumed", "pending")));
+    }
+    
+    @Test
+    public void assertResumeBeforeSuspendedTaskReturned() throws InterruptedException {
+        final SerialExecutorService serialExecutorService = new SerialExecutorService(sharedExecutorService);
+        final List<String> actual = Collections.synchronizedList(new ArrayList<String>());
+        serialExecutorService.execute(new Runnable() {
+            
+            private boolean isSuspended;
+            
+            @Override
+            public void run() {
+                if (isSuspended) {
+                    actual.add("resumed");
+                    return;
+                }
+                isSuspended = true;
+                actual.add("suspended");
+                serialExecutorService.resume(this);
+                serialExecutorService.suspend();
+            }
+        });
+        serialExecutorService.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                actual.add("pending");
+            }
+        });
+        serialExecutorService.shutdown();
+        assertTrue(serialExecutorService.awaitTermination(10, TimeUnit.SECONDS));
+        assertThat(actual, is(Arrays.asList("suspended", "resumed", "pending")));
+    }
+    
+    @Test
+    public void assertExecuteAfterTaskThrowError() throws InterruptedException {
+        SerialExecutorService serialExecutorService = new SerialExecutorService(sharedExecutorService);
+        final CountDownLatch latch = new CountDownLatch(1);
+        serialExecutorService.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                throw new AssertionError("error");
+            }
+        });
+        serialExecutorService.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        serialExecutorService.shutdown();
+        assertTrue(serialExecutorService.awaitTermination(10, TimeUnit.SECONDS));
+    }
+    
+    @Test(expected = RejectedExecutionException.class)
+    public void assertExecuteAfterShutdown() {
+        SerialExecutorService serialExecutorService = new SerialExecutorService(sharedExecutorService);
+        serialExecutorService.shutdown();
+        assertTrue(serialExecutorService.isTerminated());
+        serialExecutorService.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+            }
+        });
+    }
+}
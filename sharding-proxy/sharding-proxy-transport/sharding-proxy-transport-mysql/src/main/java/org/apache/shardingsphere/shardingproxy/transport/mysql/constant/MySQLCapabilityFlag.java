@@ -102,6 +102,15 @@ public enum MySQLCapabilityFlag {
         return 0;
     }
     
+    /**
+     * Get capability flags of handshake response sent to backend server.
+     *
+     * @return capability flags of handshake response
+     */
+    public static int calculateHandshakeResponseCapabilityFlags() {
+        return calculateCapabilityFlags(CLIENT_LONG_PASSWORD, CLIENT_LONG_FLAG, CLIENT_CONNECT_WITH_DB, CLIENT_PROTOCOL_41, CLIENT_TRANSACTIONS, CLIENT_SECURE_CONNECTION);
+    }
+    
     // TODO use xor to calculate lower and upper
     private static int calculateCapabilityFlags(final MySQLCapabilityFlag... capabilities) {
         int result = 0;
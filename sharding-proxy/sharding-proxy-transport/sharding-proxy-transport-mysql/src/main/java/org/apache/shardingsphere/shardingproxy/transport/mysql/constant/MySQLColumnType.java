@@ -35,70 +35,72 @@ import java.util.Map;
 @Getter
 public enum MySQLColumnType {
     
-    MYSQL_TYPE_DECIMAL(0x00), 
+    MYSQL_TYPE_DECIMAL(0x00, Types.DECIMAL), 
     
-    MYSQL_TYPE_TINY(0x01), 
+    MYSQL_TYPE_TINY(0x01, Types.TINYINT), 
     
-    MYSQL_TYPE_SHORT(0x02), 
+    MYSQL_TYPE_SHORT(0x02, Types.SMALLINT), 
     
-    MYSQL_TYPE_LONG(0x03), 
+    MYSQL_TYPE_LONG(0x03, Types.INTEGER), 
     
-    MYSQL_TYPE_FLOAT(0x04), 
+    MYSQL_TYPE_FLOAT(0x04, Types.FLOAT), 
     
-    MYSQL_TYPE_DOUBLE(0x05),
+    MYSQL_TYPE_DOUBLE(0x05, Types.DOUBLE),
     
-    MYSQL_TYPE_NULL(0x06),
+    MYSQL_TYPE_NULL(0x06, Types.NULL),
     
-    MYSQL_TYPE_TIMESTAMP(0x07),
+    MYSQL_TYPE_TIMESTAMP(0x07, Types.TIMESTAMP),
     
-    MYSQL_TYPE_LONGLONG(0x08),
+    MYSQL_TYPE_LONGLONG(0x08, Types.BIGINT),
     
-    MYSQL_TYPE_INT24(0x09),
+    MYSQL_TYPE_INT24(0x09, Types.INTEGER),
     
-    MYSQL_TYPE_DATE(0x0a),
+    MYSQL_TYPE_DATE(0x0a, Types.DATE),
     
-    MYSQL_TYPE_TIME(0x0b),
+    MYSQL_TYPE_TIME(0x0b, Types.TIME),
     
-    MYSQL_TYPE_DATETIME(0x0c),
+    MYSQL_TYPE_DATETIME(0x0c, Types.TIMESTAMP),
     
-    MYSQL_TYPE_YEAR(0x0d),
+    MYSQL_TYPE_YEAR(0x0d, Types.SMALLINT),
     
-    MYSQL_TYPE_NEWDATE(0x0e),
+    MYSQL_TYPE_NEWDATE(0x0e, Types.DATE),
     
-    MYSQL_TYPE_VARCHAR(0x0f),
+    MYSQL_TYPE_VARCHAR(0x0f, Types.VARCHAR),
     
-    MYSQL_TYPE_BIT(0x10),
+    MYSQL_TYPE_BIT(0x10, Types.BIT),
     
-    MYSQL_TYPE_TIMESTAMP2(0x11),
+    MYSQL_TYPE_TIMESTAMP2(0x11, Types.TIMESTAMP),
     
-    MYSQL_TYPE_DATETIME2(0x12),
+    MYSQL_TYPE_DATETIME2(0x12, Types.TIMESTAMP),
     
-    MYSQL_TYPE_TIME2(0x13),
+    MYSQL_TYPE_TIME2(0x13, Types.TIME),
     
-    MYSQL_TYPE_NEWDECIMAL(0xf6),
+    MYSQL_TYPE_NEWDECIMAL(0xf6, Types.DECIMAL),
     
-    MYSQL_TYPE_ENUM(0xf7),
+    MYSQL_TYPE_ENUM(0xf7, Types.VARCHAR),
     
-    MYSQL_TYPE_SET(0xf8),
+    MYSQL_TYPE_SET(0xf8, Types.VARCHAR),
     
-    MYSQL_TYPE_TINY_BLOB(0xf9),
+    MYSQL_TYPE_TINY_BLOB(0xf9, Types.BLOB),
     
-    MYSQL_TYPE_MEDIUM_BLOB(0xfa),
+    MYSQL_TYPE_MEDIUM_BLOB(0xfa, Types.BLOB),
     
-    MYSQL_TYPE_LONG_BLOB(0xfb),
+    MYSQL_TYPE_LONG_BLOB(0xfb, Types.BLOB),
     
-    MYSQL_TYPE_BLOB(0xfc),
+    MYSQL_TYPE_BLOB(0xfc, Types.BLOB),
     
-    MYSQL_TYPE_VAR_STRING(0xfd),
+    MYSQL_TYPE_VAR_STRING(0xfd, Types.VARCHAR),
     
-    MYSQL_TYPE_STRING(0xfe),
+    MYSQL_TYPE_STRING(0xfe, Types.VARCHAR),
     
-    MYSQL_TYPE_GEOMETRY(0xff);
+    MYSQL_TYPE_GEOMETRY(0xff, Types.BINARY);
     
     private static final Map<Integer, MySQLColumnType> JDBC_TYPE_AND_COLUMN_TYPE_MAP = new HashMap<>(MySQLColumnType.values().length, 1);
     
     private final int value;
     
+    private final int jdbcType;
+    
     static {
         JDBC_TYPE_AND_COLUMN_TYPE_MAP.put(Types.BIT, MYSQL_TYPE_BIT);
         JDBC_TYPE_AND_COLUMN_TYPE_MAP.put(Types.TINYINT, MYSQL_TYPE_TINY);
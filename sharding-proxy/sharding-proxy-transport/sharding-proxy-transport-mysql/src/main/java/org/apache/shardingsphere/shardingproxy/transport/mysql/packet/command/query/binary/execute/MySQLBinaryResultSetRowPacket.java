@@ -55,19 +55,20 @@ public final class MySQLBinaryResultSetRowPacket implements MySQLPacket {
     }
     
     private void writeNullBitmap(final MySQLPacketPayload payload) {
-        for (int each : getNullBitmap().getNullBitmap()) {
-            payload.writeInt1(each);
-        }
-    }
-    
-    private MySQLNullBitmap getNullBitmap() {
-        MySQLNullBitmap result = new MySQLNullBitmap(columnTypes.size(), NULL_BITMAP_OFFSET);
+        int nullBitmap = 0;
         for (int columnIndex = 0; columnIndex < columnTypes.size(); columnIndex++) {
+            int bitIndex = columnIndex + NULL_BITMAP_OFFSET;
             if (null == data.get(columnIndex)) {
-                result.setNullBit(columnIndex);
+                nullBitmap |= 1 << (bitIndex % 8);
             }
+            if (7 == bitIndex % 8) {
+                payload.writeInt1(nullBitmap);
+                nullBitmap = 0;
+            }
+        }
+        if (7 != (columnTypes.size() - 1 + NULL_BITMAP_OFFSET) % 8) {
+            payload.writeInt1(nullBitmap);
         }
-        return result;
     }
     
     private void writeValues(final MySQLPacketPayload payload) {
@@ -60,16 +60,25 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
             } else {
                 if (each instanceof byte[]) {
                     payload.writeBytesLenenc((byte[]) each);
+                } else if (each instanceof Integer || each instanceof Long || each instanceof Short || each instanceof Byte) {
+                    payload.writeNumberStringLenenc(((Number) each).longValue());
                 } else if (each instanceof Timestamp) {
-                    payload.writeStringLenenc(each.toString().split("\\.")[0]);
+                    payload.writeStringLenenc(getTimestampWithoutNanos((Timestamp) each));
                 } else if (each instanceof BigDecimal) {
                     payload.writeStringLenenc(((BigDecimal) each).toPlainString());
                 } else if (each instanceof Boolean) {
-                    payload.writeBytesLenenc((Boolean) each ? new byte[]{1} : new byte[]{0});
+                    payload.writeInt1(1);
+                    payload.writeInt1((Boolean) each ? 1 : 0);
                 } else {
                     payload.writeStringLenenc(each.toString());
                 }
             }
         }
     }
+    
+    private String getTimestampWithoutNanos(final Timestamp timestamp) {
+        String result = timestamp.toString();
+        int nanosIndex = result.lastIndexOf('.');
+        return -1 == nanosIndex ? result : result.substring(0, nanosIndex);
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic;
 
+import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.shardingproxy.error.SQLErrorCode;
@@ -54,6 +55,15 @@ public final class MySQLErrPacket implements MySQLPacket {
         this(sequenceId, sqlErrorCode.getErrorCode(), sqlErrorCode.getSqlState(), String.format(sqlErrorCode.getErrorMessage(), errorMessageArguments));
     }
     
+    public MySQLErrPacket(final MySQLPacketPayload payload) {
+        sequenceId = payload.readInt1();
+        Preconditions.checkArgument(HEADER == payload.readInt1(), "Header of MySQL ERR packet must be `0xff`.");
+        errorCode = payload.readInt2();
+        Preconditions.checkArgument(SQL_STATE_MARKER.equals(payload.readStringFix(1)), "SQL state marker of MySQL ERR packet must be `#`.");
+        sqlState = payload.readStringFix(5);
+        errorMessage = payload.readStringEOF();
+    }
+    
     @Override
     public void write(final MySQLPacketPayload payload) {
         payload.writeInt1(HEADER);
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic;
 
+import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLStatusFlag;
@@ -60,6 +61,16 @@ public final class MySQLOKPacket implements MySQLPacket {
         this(sequenceId, affectedRows, lastInsertId, 0, "");
     }
     
+    public MySQLOKPacket(final MySQLPacketPayload payload) {
+        sequenceId = payload.readInt1();
+        Preconditions.checkArgument(HEADER == payload.readInt1(), "Header of MySQL OK packet must be `0x00`.");
+        affectedRows = payload.readIntLenenc();
+        lastInsertId = payload.readIntLenenc();
+        payload.readInt2();
+        warnings = payload.readInt2();
+        info = payload.readStringEOF();
+    }
+    
     @Override
     public void write(final MySQLPacketPayload payload) {
         payload.writeInt1(HEADER);
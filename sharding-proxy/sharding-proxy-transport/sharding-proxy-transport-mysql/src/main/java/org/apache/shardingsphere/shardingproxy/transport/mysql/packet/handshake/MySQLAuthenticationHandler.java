@@ -20,7 +20,6 @@ package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake
 import com.google.common.base.Optional;
 import com.google.common.base.Strings;
 import lombok.Getter;
-import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.core.rule.ProxyUser;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
@@ -48,7 +47,7 @@ public final class MySQLAuthenticationHandler {
      */
     public boolean login(final String username, final byte[] authResponse) {
         Optional<ProxyUser> user = getUser(username);
-        return user.isPresent() && (Strings.isNullOrEmpty(user.get().getPassword()) || Arrays.equals(getAuthCipherBytes(user.get().getPassword()), authResponse));
+        return user.isPresent() && (Strings.isNullOrEmpty(user.get().getPassword()) || Arrays.equals(MySQLNativePasswordCipher.encrypt(user.get().getPassword(), authPluginData.getAuthPluginData()), authResponse));
     }
     
     private Optional<ProxyUser> getUser(final String username) {
@@ -59,22 +58,4 @@ public final class MySQLAuthenticationHandler {
         }
         return Optional.absent();
     }
-    
-    private byte[] getAuthCipherBytes(final String password) {
-        byte[] sha1Password = DigestUtils.sha1(password);
-        byte[] doubleSha1Password = DigestUtils.sha1(sha1Password);
-        byte[] concatBytes = new byte[authPluginData.getAuthPluginData().length + doubleSha1Password.length];
-        System.arraycopy(authPluginData.getAuthPluginData(), 0, concatBytes, 0, authPluginData.getAuthPluginData().length);
-        System.arraycopy(doubleSha1Password, 0, concatBytes, authPluginData.getAuthPluginData().length, doubleSha1Password.length);
-        byte[] sha1ConcatBytes = DigestUtils.sha1(concatBytes);
-        return xor(sha1Password, sha1ConcatBytes);
-    }
-    
-    private byte[] xor(final byte[] input, final byte[] secret) {
-        final byte[] result = new byte[input.length];
-        for (int i = 0; i < input.length; ++i) {
-            result[i] = (byte) (input[i] ^ secret[i]);
-        }
-        return result;
-    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Cipher of MySQL native password authentication.
+ * 
+ * @see <a href="https://dev.mysql.com/doc/internals/en/secure-password-authentication.html#packet-Authentication::Native41">Native41</a>
+ * 
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLNativePasswordCipher {
+    
+    /**
+     * Encrypt password with auth plugin data.
+     * 
+     * @param password password
+     * @param authPluginData auth plugin data
+     * @return auth response
+     */
+    public static byte[] encrypt(final String password, final byte[] authPluginData) {
+        byte[] sha1Password = DigestUtils.sha1(password);
+        byte[] doubleSha1Password = DigestUtils.sha1(sha1Password);
+        byte[] concatBytes = new byte[authPluginData.length + doubleSha1Password.length];
+        System.arraycopy(authPluginData, 0, concatBytes, 0, authPluginData.length);
+        System.arraycopy(doubleSha1Password, 0, concatBytes, authPluginData.length, doubleSha1Password.length);
+        byte[] sha1ConcatBytes = DigestUtils.sha1(concatBytes);
+        return xor(sha1Password, sha1ConcatBytes);
+    }
+    
+    private static byte[] xor(final byte[] input, final byte[] secret) {
+        final byte[] result = new byte[input.length];
+        for (int i = 0; i < input.length; ++i) {
+            result[i] = (byte) (input[i] ^ secret[i]);
+        }
+        return result;
+    }
+}
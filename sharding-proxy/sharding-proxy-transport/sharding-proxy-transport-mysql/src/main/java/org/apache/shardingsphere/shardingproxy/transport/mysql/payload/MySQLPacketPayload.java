@@ -263,8 +263,40 @@ public final class MySQLPacketPayload implements PacketPayload {
             byteBuf.writeByte(0);
             return;
         }
-        writeIntLenenc(value.getBytes().length);
-        byteBuf.writeBytes(value.getBytes());
+        byte[] bytes = value.getBytes();
+        writeIntLenenc(bytes.length);
+        byteBuf.writeBytes(bytes);
+    }
+    
+    /**
+     * Write integral number as lenenc string to byte buffers.
+     * 
+     * <p>Digits are written to byte buffers directly without creating string.</p>
+     *
+     * @param value integral number
+     */
+    public void writeNumberStringLenenc(final long value) {
+        if (Long.MIN_VALUE == value) {
+            writeStringLenenc(String.valueOf(value));
+            return;
+        }
+        long absoluteValue = Math.abs(value);
+        int digits = 1;
+        for (long each = absoluteValue; each >= 10; each /= 10) {
+            digits++;
+        }
+        byteBuf.writeByte(value < 0 ? digits + 1 : digits);
+        if (value < 0) {
+            byteBuf.writeByte('-');
+        }
+        byteBuf.ensureWritable(digits);
+        int startIndex = byteBuf.writerIndex();
+        long remaining = absoluteValue;
+        for (int i = digits - 1; i >= 0; i--) {
+            byteBuf.setByte(startIndex + i, (int) ('0' + remaining % 10));
+            remaining /= 10;
+        }
+        byteBuf.writerIndex(startIndex + digits);
     }
     
     /**
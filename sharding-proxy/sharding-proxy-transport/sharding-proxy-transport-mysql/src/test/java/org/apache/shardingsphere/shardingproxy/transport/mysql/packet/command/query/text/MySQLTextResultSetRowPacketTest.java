@@ -51,11 +51,12 @@ public final class MySQLTextResultSetRowPacketTest {
     @Test
     public void assertWrite() {
         long now = System.currentTimeMillis();
-        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(1, Arrays.<Object>asList(null, "value", BigDecimal.ONE, new byte[] {}, new Timestamp(now)));
+        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(1, Arrays.<Object>asList(null, "value", BigDecimal.ONE, new byte[] {}, new Timestamp(now), 10L));
         actual.write(payload);
         verify(payload).writeInt1(0xfb);
         verify(payload).writeStringLenenc("value");
         verify(payload).writeStringLenenc("1");
         verify(payload).writeStringLenenc((new Timestamp(now)).toString().split("\\.")[0]);
+        verify(payload).writeNumberStringLenenc(10L);
     }
 }
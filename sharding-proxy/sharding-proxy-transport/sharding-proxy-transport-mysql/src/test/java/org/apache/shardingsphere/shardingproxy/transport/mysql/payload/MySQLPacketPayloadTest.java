@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.shardingproxy.transport.mysql.payload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -203,6 +204,18 @@ public final class MySQLPacketPayloadTest {
         verify(byteBuf).writeBytes("value".getBytes());
     }
     
+    @Test
+    public void assertWriteNumberStringLenenc() {
+        ByteBuf actual = Unpooled.buffer(1);
+        MySQLPacketPayload payload = new MySQLPacketPayload(actual);
+        payload.writeNumberStringLenenc(0L);
+        payload.writeNumberStringLenenc(-1024L);
+        payload.writeNumberStringLenenc(Long.MIN_VALUE);
+        assertThat(payload.readStringLenenc(), is("0"));
+        assertThat(payload.readStringLenenc(), is("-1024"));
+        assertThat(payload.readStringLenenc(), is(String.valueOf(Long.MIN_VALUE)));
+    }
+    
     @Test
     public void assertReadStringFix() {
         assertThat(new MySQLPacketPayload(byteBuf).readStringFix(0), is(""));